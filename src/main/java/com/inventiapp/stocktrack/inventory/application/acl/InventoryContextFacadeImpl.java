@@ -1,56 +1,58 @@
 package com.inventiapp.stocktrack.inventory.application.acl;
 
-import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Batch;
-import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Kit;
-import com.inventiapp.stocktrack.inventory.domain.model.commands.UpdateBatchCommand;
-import com.inventiapp.stocktrack.inventory.domain.model.queries.GetAllBatchesByProductIdQuery;
-import com.inventiapp.stocktrack.inventory.domain.model.queries.GetKitByIdQuery;
+import com.inventiapp.stocktrack.inventory.application.internal.KitSnapshotCache;
+import com.inventiapp.stocktrack.inventory.application.internal.ProductSnapshotCache;
+import com.inventiapp.stocktrack.inventory.domain.exceptions.StockReservationNotFoundException;
+import com.inventiapp.stocktrack.inventory.domain.model.commands.ConfirmStockReservationCommand;
 import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductByIdQuery;
-import com.inventiapp.stocktrack.inventory.domain.services.BatchCommandService;
-import com.inventiapp.stocktrack.inventory.domain.services.BatchQueryService;
-import com.inventiapp.stocktrack.inventory.domain.services.KitQueryService;
 import com.inventiapp.stocktrack.inventory.domain.services.ProductCommandService;
 import com.inventiapp.stocktrack.inventory.domain.services.ProductQueryService;
+import com.inventiapp.stocktrack.inventory.domain.services.StockAllocationService;
+import com.inventiapp.stocktrack.inventory.domain.services.StockReservationCommandService;
 import com.inventiapp.stocktrack.inventory.interfaces.acl.InventoryContextFacade;
+import com.inventiapp.stocktrack.inventory.interfaces.acl.KitSnapshot;
+import com.inventiapp.stocktrack.inventory.interfaces.acl.ProductSnapshot;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 public class InventoryContextFacadeImpl implements InventoryContextFacade {
 
     private final ProductQueryService productQueryService;
     private final ProductCommandService productCommandService;
-    private final BatchQueryService batchQueryService;
-    private final BatchCommandService batchCommandService;
-    private final KitQueryService kitQueryService;
+    private final StockAllocationService stockAllocationService;
+    private final KitSnapshotCache kitSnapshotCache;
+    private final ProductSnapshotCache productSnapshotCache;
+    private final StockReservationCommandService stockReservationCommandService;
 
 
-    public InventoryContextFacadeImpl(ProductQueryService productQueryService, ProductCommandService productCommandService, BatchQueryService batchQueryService, BatchCommandService batchCommandService, KitQueryService kitQueryService) {
+    public InventoryContextFacadeImpl(ProductQueryService productQueryService, ProductCommandService productCommandService, StockAllocationService stockAllocationService, KitSnapshotCache kitSnapshotCache, ProductSnapshotCache productSnapshotCache, StockReservationCommandService stockReservationCommandService) {
         this.productQueryService = productQueryService;
         this.productCommandService = productCommandService;
-        this.batchQueryService = batchQueryService;
-        this.batchCommandService = batchCommandService;
-        this.kitQueryService = kitQueryService;
+        this.stockAllocationService = stockAllocationService;
+        this.kitSnapshotCache = kitSnapshotCache;
+        this.productSnapshotCache = productSnapshotCache;
+        this.stockReservationCommandService = stockReservationCommandService;
     }
 
 
     @Override
     public Long getProductById(Long productId) {
-        var getProductByIdQuery = new GetProductByIdQuery(productId);
-        var result = productQueryService.handle(getProductByIdQuery);
-        return result.map(product -> product.getId()).orElse(null);
-
+        return productSnapshotCache.get(productId).map(ProductSnapshot::productId).orElse(null);
     }
 
     @Override
     public Boolean checkProductStockAvailability(Long productId, Integer requiredQuantity) {
-        var getProductByIdQuery = new GetProductByIdQuery(productId);
-        var result = productQueryService.handle(getProductByIdQuery);
-        return result.map(product -> product.getMinStock() >= requiredQuantity).orElse(false);
+        if (productId == null || productId <= 0 || requiredQuantity == null) {
+            return false;
+        }
+        return stockAllocationService.isAvailable(productId, requiredQuantity);
     }
 
     @Override
@@ -63,82 +65,55 @@ public class InventoryContextFacadeImpl implements InventoryContextFacade {
             throw new IllegalArgumentException("quantity inválida");
         }
 
-        var getAllBatchesByProductIdQuery = new GetAllBatchesByProductIdQuery(productId);
-        List<Batch> batches = batchQueryService.handle(getAllBatchesByProductIdQuery);
-
-        List<Batch> sorted = batches.stream()
-                .sorted(Comparator.comparing(Batch::getExpirationDate))
-                .toList();
-
-        int remaining = quantity;
-
-        for (Batch batch : sorted) {
-            if (remaining <= 0) break;
-            int available = batch.getQuantity();
-            if (available <= 0) continue;
+        stockAllocationService.allocate(Map.of(productId, quantity));
+    }
 
-            int toReduce = Math.min(available, remaining);
-            int newQuantity = available - toReduce;
+    @Override
+    @Transactional
+    public void decreaseStock(Map<Long, Integer> quantitiesByProduct) {
+        if (quantitiesByProduct == null) {
+            throw new IllegalArgumentException("quantitiesByProduct inválido");
+        }
 
-            var updateCommand = new UpdateBatchCommand(batch.getId(), newQuantity);
-            var updated = batchCommandService.handle(updateCommand);
-            if (updated == null || updated.isEmpty()) {
-                throw new IllegalStateException("No se pudo actualizar el batch " + batch.getId());
-            }
+        stockAllocationService.allocate(quantitiesByProduct);
+    }
 
-            remaining -= toReduce;
+    @Override
+    @Transactional
+    public List<Boolean> decreaseStockEach(List<Map<Long, Integer>> orders) {
+        if (orders == null) {
+            throw new IllegalArgumentException("orders inválido");
         }
 
-        if (remaining > 0) {
-            throw new IllegalStateException("Stock insuficiente. Faltan " + remaining + " unidades.");
-        }
+        return stockAllocationService.allocateEach(orders).stream()
+                .map(Optional::isPresent)
+                .toList();
     }
 
     @Override
     public Double getProductUnitPrice(Long productId) {
-        var getProductByIdQuery = new GetProductByIdQuery(productId);
-        var result = productQueryService.handle(getProductByIdQuery);
-        return result.map(product -> product.getUnitPrice()).orElse(null);
+        return productSnapshotCache.get(productId).map(ProductSnapshot::unitPrice).orElse(null);
     }
 
     @Override
-    public Long getKitById(Long kitId) {
-        var getKitByIdQuery = new GetKitByIdQuery(kitId);
-        var result = kitQueryService.handle(getKitByIdQuery);
-        return result.map(Kit::getId).orElse(null);
+    public Map<Long, ProductSnapshot> getProductSnapshots(Collection<Long> productIds) {
+        return productSnapshotCache.getAll(productIds);
     }
 
     @Override
-    public Double getKitTotalPrice(Long kitId) {
-        var getKitByIdQuery = new GetKitByIdQuery(kitId);
-        var result = kitQueryService.handle(getKitByIdQuery);
-        if (result.isEmpty()) {
-            return null;
-        }
-        Kit kit = result.get();
-        // Calculate total price: sum of (unit price * quantity) for each item
-        // The price in KitItem is unit price, so we multiply by quantity
-        return kit.getItems().stream()
-                .mapToDouble(item -> item.getPrice() * item.getQuantity())
-                .sum();
+    public Optional<KitSnapshot> getKitSnapshot(Long kitId) {
+        return kitSnapshotCache.get(kitId);
     }
 
     @Override
-    public List<Object[]> getKitProductIdsQuantitiesAndPrices(Long kitId) {
-        var getKitByIdQuery = new GetKitByIdQuery(kitId);
-        var result = kitQueryService.handle(getKitByIdQuery);
-        if (result.isEmpty()) {
-            return List.of();
-        }
-        Kit kit = result.get();
-        // Return list of [productId, quantity, price] arrays
-        return kit.getItems().stream()
-                .map(item -> new Object[]{
-                    item.getProductId(), 
-                    item.getQuantity(), 
-                    item.getPrice()
-                })
-                .collect(Collectors.toList());
+    public Long getKitById(Long kitId) {
+        return getKitSnapshot(kitId).map(KitSnapshot::kitId).orElse(null);
+    }
+
+    @Override
+    public Double getKitTotalPrice(Long kitId) {
+        // The price in KitItem is unit price, so the snapshot total multiplies it by quantity
+        return getKitSnapshot(kitId).map(KitSnapshot::totalPrice).orElse(null);
     }
 
     @Override
@@ -151,18 +126,27 @@ public class InventoryContextFacadeImpl implements InventoryContextFacade {
             throw new IllegalArgumentException("kitQuantity inválida");
         }
 
-        // Get all products, quantities and prices from the kit
-        List<Object[]> kitItems = getKitProductIdsQuantitiesAndPrices(kitId);
-        if (kitItems.isEmpty()) {
-            throw new IllegalArgumentException("Kit no encontrado: " + kitId);
+        KitSnapshot kit = getKitSnapshot(kitId)
+                .orElseThrow(() -> new IllegalArgumentException("Kit no encontrado: " + kitId));
+
+        // For each item in the kit, decrease stock by (item quantity * kit quantity), all in one allocation
+        Map<Long, Integer> quantitiesByProduct = new HashMap<>();
+        for (KitSnapshot.Item item : kit.items()) {
+            quantitiesByProduct.merge(item.productId(), item.quantity() * kitQuantity, Integer::sum);
         }
+        stockAllocationService.allocate(quantitiesByProduct);
+    }
 
-        // For each item in the kit, decrease stock by (item quantity * kit quantity)
-        for (Object[] item : kitItems) {
-            Long productId = (Long) item[0];
-            Integer itemQuantity = (Integer) item[1];
-            int totalQuantity = itemQuantity * kitQuantity;
-            decreaseStock(productId, totalQuantity);
+    @Override
+    @Transactional
+    public void consumeReservation(Long reservationId, Map<Long, Integer> quantitiesByProduct) {
+        if (quantitiesByProduct == null) {
+            throw new IllegalArgumentException("quantitiesByProduct inválido");
+        }
+        try {
+            stockReservationCommandService.handle(new ConfirmStockReservationCommand(reservationId, quantitiesByProduct));
+        } catch (StockReservationNotFoundException ex) {
+            throw new IllegalArgumentException("Reserva no encontrada: " + reservationId);
         }
     }
 
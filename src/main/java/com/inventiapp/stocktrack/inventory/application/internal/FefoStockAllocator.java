@@ -0,0 +1,240 @@
+package com.inventiapp.stocktrack.inventory.application.internal;
+
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Batch;
+import com.inventiapp.stocktrack.inventory.domain.model.events.BatchUpdatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.BatchAllocation;
+import com.inventiapp.stocktrack.inventory.domain.services.StockAllocationService;
+import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.BatchRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Takes stock from batches, first expired first out.
+ * @summary
+ * All the lines of a sale are allocated in one pass: the usable batches of every product involved
+ * are read and locked with a single query, the units are taken from the batches that expire first,
+ * and the changed batches are saved together. Expired batches are never used. The locks are held
+ * until the surrounding transaction ends, so two concurrent checkouts cannot take the same units;
+ * when a product does not have enough stock nothing is taken and the allocation fails.
+ * <p>
+ * This is the default allocation service; the in-memory StripedStockEngine replaces it when
+ * inventory.stock-engine.enabled is true.
+ * @since 1.0
+ */
+@Service
+@ConditionalOnProperty(name = "inventory.stock-engine.enabled", havingValue = "false", matchIfMissing = true)
+public class FefoStockAllocator implements StockAllocationService {
+
+    private final BatchRepository batchRepository;
+
+    public FefoStockAllocator(BatchRepository batchRepository) {
+        this.batchRepository = batchRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isAvailable(Long productId, int quantity) {
+        return batchRepository.sumAvailableQuantity(productId, startOfToday()) >= quantity;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Registers a BatchUpdatedEvent on every batch it changes.
+     */
+    @Override
+    @Transactional
+    public List<BatchAllocation> allocate(Map<Long, Integer> quantitiesByProduct) {
+        quantitiesByProduct.forEach((productId, quantity) -> {
+            if (productId == null || productId <= 0) {
+                throw new IllegalArgumentException("productId inválido");
+            }
+            if (quantity == null || quantity <= 0) {
+                throw new IllegalArgumentException("quantity inválida");
+            }
+        });
+        if (quantitiesByProduct.isEmpty()) {
+            return List.of();
+        }
+
+        Date notExpiredSince = startOfToday();
+        Map<Long, List<Batch>> batchesByProduct = new HashMap<>();
+        batchRepository.findAllocatableForUpdate(quantitiesByProduct.keySet(), notExpiredSince)
+                .forEach(batch -> batchesByProduct.computeIfAbsent(batch.getProductId(), id -> new ArrayList<>()).add(batch));
+
+        // Plan every line before changing any batch, so a failed allocation leaves them untouched
+        List<BatchAllocation> allocations = new ArrayList<>();
+        for (var line : new TreeMap<>(quantitiesByProduct).entrySet()) {
+            int remaining = line.getValue();
+            for (Batch batch : batchesByProduct.getOrDefault(line.getKey(), List.of())) {
+                if (remaining == 0) break;
+                int toReduce = Math.min(batch.getQuantity(), remaining);
+                allocations.add(new BatchAllocation(batch.getId(), line.getKey(), toReduce));
+                remaining -= toReduce;
+            }
+            if (remaining > 0) {
+                throw new IllegalStateException("Stock insuficiente para el producto " + line.getKey()
+                        + ". Faltan " + remaining + " unidades.");
+            }
+        }
+
+        Map<Long, Batch> batchesById = new HashMap<>();
+        batchesByProduct.values().forEach(batches -> batches.forEach(batch -> batchesById.put(batch.getId(), batch)));
+        List<Batch> changed = new ArrayList<>(allocations.size());
+        for (BatchAllocation allocation : allocations) {
+            Batch batch = batchesById.get(allocation.batchId());
+            int previousQuantity = batch.getQuantity();
+            batch.reduceQuantity(allocation.quantity());
+            batch.addDomainEvent(new BatchUpdatedEvent(
+                    batch,
+                    batch.getId(),
+                    batch.getProductId(),
+                    previousQuantity,
+                    batch.getQuantity()
+            ));
+            changed.add(batch);
+        }
+        batchRepository.saveAll(changed);
+        return allocations;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The batches of every product of every order are read and locked with a single query and the
+     * orders are planned against them in memory, so the cost is one lock query and one write per
+     * changed batch whatever the number of orders. Registers one BatchUpdatedEvent per changed batch.
+     */
+    @Override
+    @Transactional
+    public List<Optional<List<BatchAllocation>>> allocateEach(List<Map<Long, Integer>> orders) {
+        Set<Long> productIds = new HashSet<>();
+        for (Map<Long, Integer> order : orders) {
+            order.forEach((productId, quantity) -> {
+                if (productId == null || productId <= 0) {
+                    throw new IllegalArgumentException("productId inválido");
+                }
+                if (quantity == null || quantity <= 0) {
+                    throw new IllegalArgumentException("quantity inválida");
+                }
+            });
+            productIds.addAll(order.keySet());
+        }
+        if (productIds.isEmpty()) {
+            return orders.stream().map(order -> Optional.of(List.<BatchAllocation>of())).toList();
+        }
+
+        Map<Long, List<Batch>> batchesByProduct = new HashMap<>();
+        batchRepository.findAllocatableForUpdate(productIds, startOfToday())
+                .forEach(batch -> batchesByProduct.computeIfAbsent(batch.getProductId(), id -> new ArrayList<>()).add(batch));
+
+        // Units left in each batch as the orders are planned, and units taken from it in total
+        Map<Long, Integer> left = new HashMap<>();
+        Map<Long, Integer> taken = new HashMap<>();
+        batchesByProduct.values().forEach(batches -> batches.forEach(batch -> left.put(batch.getId(), batch.getQuantity())));
+
+        List<Optional<List<BatchAllocation>>> results = new ArrayList<>(orders.size());
+        for (Map<Long, Integer> order : orders) {
+            List<BatchAllocation> allocations = new ArrayList<>();
+            boolean filled = true;
+            for (var line : new TreeMap<>(order).entrySet()) {
+                int remaining = line.getValue();
+                for (Batch batch : batchesByProduct.getOrDefault(line.getKey(), List.of())) {
+                    if (remaining == 0) break;
+                    int toReduce = Math.min(left.get(batch.getId()), remaining);
+                    if (toReduce > 0) {
+                        allocations.add(new BatchAllocation(batch.getId(), line.getKey(), toReduce));
+                        remaining -= toReduce;
+                    }
+                }
+                if (remaining > 0) {
+                    filled = false;
+                    break;
+                }
+            }
+            if (!filled) {
+                results.add(Optional.empty());
+                continue;
+            }
+            allocations.forEach(allocation -> {
+                left.merge(allocation.batchId(), -allocation.quantity(), Integer::sum);
+                taken.merge(allocation.batchId(), allocation.quantity(), Integer::sum);
+            });
+            results.add(Optional.of(allocations));
+        }
+
+        List<Batch> changed = new ArrayList<>(taken.size());
+        batchesByProduct.values().forEach(batches -> batches.forEach(batch -> {
+            Integer quantity = taken.get(batch.getId());
+            if (quantity == null) return;
+            int previousQuantity = batch.getQuantity();
+            batch.reduceQuantity(quantity);
+            batch.addDomainEvent(new BatchUpdatedEvent(
+                    batch,
+                    batch.getId(),
+                    batch.getProductId(),
+                    previousQuantity,
+                    batch.getQuantity()
+            ));
+            changed.add(batch);
+        }));
+        batchRepository.saveAll(changed);
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Registers a BatchUpdatedEvent on every batch it changes.
+     */
+    @Override
+    @Transactional
+    public void restore(List<BatchAllocation> allocations) {
+        if (allocations.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> quantitiesByBatch = new HashMap<>();
+        Set<Long> productIds = new TreeSet<>();
+        allocations.forEach(allocation -> {
+            quantitiesByBatch.merge(allocation.batchId(), allocation.quantity(), Integer::sum);
+            productIds.add(allocation.productId());
+        });
+
+        // Locked product by product in ascending order through the (product, expiration date) index,
+        // the order allocate locks in; locking by id would follow the primary key instead
+        List<Batch> changed = new ArrayList<>();
+        for (Long productId : productIds) {
+            batchRepository.findAllByProductIdForUpdate(productId).stream()
+                    .filter(batch -> quantitiesByBatch.containsKey(batch.getId()))
+                    .forEach(changed::add);
+        }
+        for (Batch batch : changed) {
+            int previousQuantity = batch.getQuantity();
+            batch.setQuantity(previousQuantity + quantitiesByBatch.get(batch.getId()));
+            batch.addDomainEvent(new BatchUpdatedEvent(
+                    batch,
+                    batch.getId(),
+                    batch.getProductId(),
+                    previousQuantity,
+                    batch.getQuantity()
+            ));
+        }
+        batchRepository.saveAll(changed);
+    }
+
+    private Date startOfToday() {
+        ZoneId zone = ZoneId.systemDefault();
+        return Date.from(LocalDate.now(zone).atStartOfDay(zone).toInstant());
+    }
+}
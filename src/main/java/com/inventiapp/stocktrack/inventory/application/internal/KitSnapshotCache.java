@@ -0,0 +1,102 @@
+package com.inventiapp.stocktrack.inventory.application.internal;
+
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Kit;
+import com.inventiapp.stocktrack.inventory.domain.model.events.KitCreatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.KitDeletedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetKitByIdQuery;
+import com.inventiapp.stocktrack.inventory.domain.services.KitQueryService;
+import com.inventiapp.stocktrack.inventory.interfaces.acl.KitSnapshot;
+import com.inventiapp.stocktrack.shared.application.internal.cache.BoundedCache;
+import com.inventiapp.stocktrack.shared.domain.model.valueobjects.CacheStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Caches the snapshots of kits for the sales flow.
+ * @summary
+ * A kit is loaded with its items in a single query the first time it is sold and then served from
+ * a bounded least recently used cache. Kits cannot be edited, so an entry only goes stale when its
+ * kit is created or deleted; both events evict it once committed. Missing kits are not cached.
+ * <p>
+ * A load that overlaps an eviction is not stored, so a deleted kit cannot be cached again by a
+ * load that read it before the delete committed. Misses are loaded in a read-only transaction of
+ * their own, so a load never reads from the older snapshot of the sale that triggered it.
+ * @since 1.0
+ */
+@Component
+public class KitSnapshotCache {
+
+    private final KitQueryService kitQueryService;
+    private final BoundedCache<Long, KitSnapshot> snapshots;
+    private final TransactionTemplate loadTransaction;
+
+    public KitSnapshotCache(KitQueryService kitQueryService,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${inventory.cache.enabled:true}") boolean enabled,
+                            @Value("${inventory.cache.kits.maximum-size:1000}") int maximumSize,
+                            @Value("${inventory.cache.kits.ttl:PT10M}") Duration ttl) {
+        this.kitQueryService = kitQueryService;
+        this.snapshots = new BoundedCache<>("kits", enabled ? maximumSize : 0, ttl);
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Gets the snapshot of a kit, loading it on a miss.
+     * @param kitId The kit id
+     * @return the snapshot, or empty if the kit does not exist
+     * @throws IllegalArgumentException if the kit id is invalid, or an item of the kit has no quantity or price
+     */
+    public Optional<KitSnapshot> get(Long kitId) {
+        var query = new GetKitByIdQuery(kitId);
+        return Optional.ofNullable(snapshots.get(query.kitId(), id -> loadTransaction.execute(status ->
+                kitQueryService.handle(query).map(this::toSnapshot).orElse(null))));
+    }
+
+    public CacheStatistics statistics() {
+        return snapshots.statistics();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(KitCreatedEvent event) {
+        evict(event.getKitId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(KitDeletedEvent event) {
+        evict(event.getKitId());
+    }
+
+    private void evict(Long kitId) {
+        if (kitId != null) {
+            snapshots.invalidate(kitId);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if an item of the kit has no quantity or no price, so the kit cannot be sold
+     */
+    private KitSnapshot toSnapshot(Kit kit) {
+        return KitSnapshot.of(kit.getId(), kit.getName(), kit.getItems().stream()
+                .map(item -> {
+                    if (item.getQuantity() == null) {
+                        throw new IllegalArgumentException("Kit item con cantidad inválida para producto "
+                                + item.getProductId() + " en kit " + kit.getId());
+                    }
+                    if (item.getPrice() == null) {
+                        throw new IllegalArgumentException("Kit item sin precio para producto "
+                                + item.getProductId() + " en kit " + kit.getId());
+                    }
+                    return new KitSnapshot.Item(item.getProductId(), item.getQuantity(), item.getPrice());
+                })
+                .toList());
+    }
+}
@@ -0,0 +1,211 @@
+package com.inventiapp.stocktrack.inventory.application.internal;
+
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Product;
+import com.inventiapp.stocktrack.inventory.domain.model.events.BatchCreatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.BatchDeletedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.BatchUpdatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.LowStockDetectedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductCreatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductDeletedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductStockReconciledEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductUpdatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.StockRecoveredEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.CountLowStockAlertsQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetLowStockAlertsQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.LowStockAlert;
+import com.inventiapp.stocktrack.inventory.domain.services.LowStockAlertQueryService;
+import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the stock on hand of every product and the set of open low stock alerts.
+ * @summary
+ * The stock on hand is loaded once at startup from the stock columns of the products, the units
+ * not held by reservations, which ProductStockLedger keeps in step with the batches. It is then kept
+ * current from the same committed batch events the ledger follows, plus its reconciliations, and
+ * from product events; sales consume stock through batch updates, so they are covered as well. A LowStockDetectedEvent or StockRecoveredEvent is published only when a change
+ * moves a product across its minimum stock, and the current alerts are served in O(alerts).
+ * <p>
+ * Crossings are published after the triggering transaction has committed, so consumers should use
+ * plain event listeners rather than transactional ones.
+ * @since 1.0
+ */
+@Service
+public class LowStockAlertEngine implements LowStockAlertQueryService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LowStockAlertEngine.class);
+
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Long, ProductStock> products = new HashMap<>();
+    private final NavigableMap<Long, LowStockAlert> alerts = new TreeMap<>();
+
+    public LowStockAlertEngine(ProductRepository productRepository,
+                               ApplicationEventPublisher eventPublisher) {
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Loads the stock on hand of every product and computes the open alerts, without publishing
+     * crossings. Runs before the application accepts requests.
+     */
+    @PostConstruct
+    public void load() {
+        List<Product> catalogue = productRepository.findAll();
+        synchronized (this) {
+            products.clear();
+            alerts.clear();
+            catalogue.forEach(product -> {
+                ProductStock stock = products.computeIfAbsent(product.getId(), ProductStock::new);
+                stock.catalogue(product.getName(), product.getMinStock(), product.getIsActive());
+                // Batch events move the units left in batches, i.e. the available units
+                stock.onHand = product.getAvailable();
+            });
+            products.values().stream()
+                    .filter(ProductStock::isLow)
+                    .forEach(stock -> alerts.put(stock.productId, stock.toAlert()));
+        }
+        LOGGER.info("Low stock alerts loaded: {} products, {} open alerts", catalogue.size(), alerts.size());
+    }
+
+    @Override
+    public synchronized List<LowStockAlert> handle(GetLowStockAlertsQuery query) {
+        return alerts.values().stream().limit(query.limit()).toList();
+    }
+
+    @Override
+    public synchronized int handle(CountLowStockAlertsQuery query) {
+        return alerts.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(ProductCreatedEvent event) {
+        update(event.getProductId(), stock -> stock.catalogue(event.getName(), event.getMinStock(), event.getIsActive()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(ProductUpdatedEvent event) {
+        update(event.getProductId(), stock -> stock.catalogue(event.getName(), event.getMinStock(), event.getIsActive()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(ProductDeletedEvent event) {
+        ApplicationEvent crossing = null;
+        synchronized (this) {
+            ProductStock removed = products.remove(event.getProductId());
+            if (alerts.remove(event.getProductId()) != null) {
+                crossing = new StockRecoveredEvent(this, removed.productId, removed.onHand, removed.minStock);
+            }
+        }
+        publish(crossing);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(BatchCreatedEvent event) {
+        update(event.getProductId(), stock -> stock.onHand += event.getQuantity());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(BatchUpdatedEvent event) {
+        if (event.getQuantityDelta() != 0) {
+            update(event.getProductId(), stock -> stock.onHand += event.getQuantityDelta());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(BatchDeletedEvent event) {
+        update(event.getProductId(), stock -> stock.onHand -= event.getQuantity());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(ProductStockReconciledEvent event) {
+        if (event.getAvailableDelta() != 0) {
+            update(event.getProductId(), stock -> stock.onHand += event.getAvailableDelta());
+        }
+    }
+
+    /**
+     * Applies a change to the stock of a product and publishes the crossing it caused, if any.
+     */
+    private void update(Long productId, Consumer<ProductStock> change) {
+        if (productId == null) {
+            return;
+        }
+        ApplicationEvent crossing;
+        synchronized (this) {
+            ProductStock stock = products.computeIfAbsent(productId, ProductStock::new);
+            boolean wasLow = alerts.containsKey(productId);
+            change.accept(stock);
+            crossing = track(stock, wasLow);
+        }
+        publish(crossing);
+    }
+
+    private ApplicationEvent track(ProductStock stock, boolean wasLow) {
+        if (stock.isLow()) {
+            alerts.put(stock.productId, stock.toAlert());
+            return wasLow ? null
+                    : new LowStockDetectedEvent(this, stock.productId, stock.productName, stock.onHand, stock.minStock);
+        }
+        alerts.remove(stock.productId);
+        return wasLow ? new StockRecoveredEvent(this, stock.productId, stock.onHand, stock.minStock) : null;
+    }
+
+    private void publish(ApplicationEvent crossing) {
+        if (crossing != null) {
+            eventPublisher.publishEvent(crossing);
+        }
+    }
+
+    /**
+     * Catalogue values and stock on hand of one product. Batch events may arrive for a product
+     * the engine has not seen yet; it stays inactive until its catalogue values are known.
+     */
+    private static final class ProductStock {
+        private final Long productId;
+        private String productName;
+        private int minStock;
+        private boolean active;
+        private int onHand;
+
+        ProductStock(Long productId) {
+            this.productId = productId;
+        }
+
+        void catalogue(String productName, Integer minStock, Boolean active) {
+            this.productName = productName;
+            this.minStock = minStock != null ? minStock : 0;
+            this.active = Boolean.TRUE.equals(active);
+        }
+
+        boolean isLow() {
+            return active && onHand < minStock;
+        }
+
+        LowStockAlert toAlert() {
+            return new LowStockAlert(productId, productName, onHand, minStock);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.inventiapp.stocktrack.inventory.application.internal;
+
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductCreatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductDeletedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductUpdatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductByBarcodeQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductsByBarcodesQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.BarcodeMatch;
+import com.inventiapp.stocktrack.inventory.domain.services.ProductBarcodeQueryService;
+import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves scanned barcodes to products from memory.
+ * @summary
+ * Every product with a barcode is kept in a hash map keyed by the barcode, so a scan is a single
+ * lookup with no database round trip, and a whole basket is one lookup per code. The map is loaded
+ * at startup and kept up to date from the product events once committed; the database unique index
+ * on the barcode column guarantees that two products never claim the same code. Readers never lock.
+ * @since 1.0
+ */
+@Service
+public class ProductBarcodeIndex implements ProductBarcodeQueryService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProductBarcodeIndex.class);
+
+    private final ProductRepository productRepository;
+
+    private final Map<String, BarcodeMatch> byBarcode = new ConcurrentHashMap<>();
+    /** Barcode of each indexed product, to drop the old code when it changes; only touched by writers. */
+    private final Map<Long, String> barcodeByProduct = new HashMap<>();
+
+    public ProductBarcodeIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * Indexes every product with a barcode. Runs before the application accepts requests.
+     */
+    @PostConstruct
+    public synchronized void load() {
+        for (BarcodeMatch match : productRepository.findAllBarcodeMatches()) {
+            byBarcode.put(match.barcode(), match);
+            barcodeByProduct.put(match.productId(), match.barcode());
+        }
+        LOGGER.info("Product barcode index loaded: {} barcodes", byBarcode.size());
+    }
+
+    @Override
+    public Optional<BarcodeMatch> handle(GetProductByBarcodeQuery query) {
+        return Optional.ofNullable(byBarcode.get(query.barcode()));
+    }
+
+    @Override
+    public List<Optional<BarcodeMatch>> handle(GetProductsByBarcodesQuery query) {
+        List<Optional<BarcodeMatch>> matches = new ArrayList<>(query.barcodes().size());
+        for (String barcode : query.barcodes()) {
+            matches.add(Optional.ofNullable(byBarcode.get(barcode)));
+        }
+        return matches;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(ProductCreatedEvent event) {
+        index(event.getProductId(), event.getBarcode(), event.getName(), event.getUnitPrice(), event.getIsActive());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(ProductUpdatedEvent event) {
+        index(event.getProductId(), event.getBarcode(), event.getName(), event.getUnitPrice(), event.getIsActive());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(ProductDeletedEvent event) {
+        index(event.getProductId(), null, null, null, null);
+    }
+
+    /**
+     * Points the barcode at the product and drops the code it had before, if it changed. A null
+     * barcode removes the product from the index. The new code is added before the old one is
+     * removed, so a concurrent scan finds the product under either, and the old code is only
+     * removed while it still points at this product, since another product may have taken it.
+     */
+    private synchronized void index(Long productId, String barcode, String name, Double unitPrice, Boolean active) {
+        if (productId == null) {
+            return;
+        }
+        String previous;
+        if (barcode != null) {
+            byBarcode.put(barcode, new BarcodeMatch(barcode, productId, name, unitPrice, active));
+            previous = barcodeByProduct.put(productId, barcode);
+        } else {
+            previous = barcodeByProduct.remove(productId);
+        }
+        if (previous != null && !previous.equals(barcode)) {
+            byBarcode.computeIfPresent(previous, (code, match) -> productId.equals(match.productId()) ? null : match);
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.inventiapp.stocktrack.inventory.application.internal;
+
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Product;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductCreatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductDeletedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductUpdatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.SearchProductsQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductSearchHit;
+import com.inventiapp.stocktrack.inventory.domain.services.ProductSearchQueryService;
+import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Searches products by the beginnings of the words of their name and description.
+ * @summary
+ * Names and descriptions are folded to lowercase ASCII words, dropping accents, so "cafe" finds
+ * "Café" and "pina" finds "Piña". Every product gets a slot, and every word points to the slots of
+ * the products that contain it, in a sorted map, so the words that start with a typed prefix are one
+ * contiguous range of it. A search turns the range of each prefix into a bitset of slots and ANDs
+ * them, so its cost grows with the postings of the prefixes typed, not with the catalog size; only the
+ * products left are ranked, keeping the best ones in a heap the size of the limit.
+ * <p>
+ * Matches in the name rank above matches in the description, whole words above prefixes, and names
+ * that start with the first prefix above the rest; ties go to the shorter name. The index is loaded
+ * at startup and kept up to date from the product events once committed. Readers never lock: every
+ * product found is checked against its current words, so a search that overlaps a change never
+ * returns a product that does not match.
+ * @since 1.0
+ */
+@Service
+public class ProductSearchIndex implements ProductSearchQueryService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProductSearchIndex.class);
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+    private static final String[] NO_WORDS = new String[0];
+
+    private final ProductRepository productRepository;
+
+    /** Indexed products by slot; replaced when it grows. Slots of deleted products are null until reused. */
+    private volatile Entry[] entries = new Entry[1024];
+    /** Slots of the products of each word. The arrays are never modified once published. */
+    private final NavigableMap<String, int[]> postings = new ConcurrentSkipListMap<>();
+    /** Slot of each product; only touched by writers. */
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private int nextSlot;
+
+    public ProductSearchIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * Indexes every product. Runs before the application accepts requests.
+     */
+    @PostConstruct
+    public synchronized void load() {
+        List<Product> catalogue = productRepository.findAll();
+        Map<String, List<Integer>> slotsByWord = new HashMap<>();
+        Entry[] loaded = new Entry[Math.max(1024, Integer.highestOneBit(Math.max(1, catalogue.size())) << 1)];
+        int slot = 0;
+        for (Product product : catalogue) {
+            if (product.getName() == null) continue;
+            Entry entry = Entry.of(product.getId(), product.getName(), product.getDescription(),
+                    product.getCategoryId(), product.getUnitPrice(), product.getIsActive());
+            loaded[slot] = entry;
+            slots.put(entry.productId, slot);
+            for (String word : entry.allWords()) {
+                slotsByWord.computeIfAbsent(word, w -> new ArrayList<>()).add(slot);
+            }
+            slot++;
+        }
+        slotsByWord.forEach((word, wordSlots) -> postings.put(word, wordSlots.stream().mapToInt(Integer::intValue).toArray()));
+        nextSlot = slot;
+        entries = loaded;
+        LOGGER.info("Product search index loaded: {} products, {} words", slot, postings.size());
+    }
+
+    @Override
+    public List<ProductSearchHit> handle(SearchProductsQuery query) {
+        String[] prefixes = words(query.text());
+        if (prefixes.length == 0) {
+            return List.of();
+        }
+
+        Entry[] indexed = entries;
+        long[] matching = null;
+        for (String prefix : prefixes) {
+            long[] bits = new long[(indexed.length + 63) >>> 6];
+            for (int[] wordSlots : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                for (int slot : wordSlots) {
+                    if (slot < indexed.length) {
+                        bits[slot >>> 6] |= 1L << slot;
+                    }
+                }
+            }
+            if (matching != null) {
+                for (int i = 0; i < bits.length; i++) {
+                    bits[i] &= matching[i];
+                }
+            }
+            matching = bits;
+        }
+
+        PriorityQueue<Scored> best = new PriorityQueue<>(query.limit() + 1, ProductSearchIndex::compareWorstFirst);
+        for (int i = 0; i < matching.length; i++) {
+            for (long word = matching[i]; word != 0; word &= word - 1) {
+                Entry entry = indexed[(i << 6) + Long.numberOfTrailingZeros(word)];
+                if (entry == null || (!query.includeInactive() && !entry.active)) continue;
+                int score = entry.score(prefixes);
+                if (score == 0) continue;
+                Scored scored = new Scored(entry, score);
+                if (best.size() == query.limit() && compareWorstFirst(scored, best.peek()) <= 0) continue;
+                best.add(scored);
+                if (best.size() > query.limit()) {
+                    best.poll();
+                }
+            }
+        }
+
+        ProductSearchHit[] hits = new ProductSearchHit[best.size()];
+        for (int i = hits.length - 1; i >= 0; i--) {
+            Scored scored = best.poll();
+            hits[i] = new ProductSearchHit(scored.entry.productId, scored.entry.name, scored.entry.categoryId,
+                    scored.entry.unitPrice, scored.entry.active, scored.score);
+        }
+        return List.of(hits);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(ProductCreatedEvent event) {
+        index(event.getProductId(), event.getName(), event.getDescription(), event.getCategoryId(),
+                event.getUnitPrice(), event.getIsActive());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(ProductUpdatedEvent event) {
+        index(event.getProductId(), event.getName(), event.getDescription(), event.getCategoryId(),
+                event.getUnitPrice(), event.getIsActive());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(ProductDeletedEvent event) {
+        remove(event.getProductId());
+    }
+
+    /**
+     * Adds or replaces a product. The new words are posted before the old ones are removed, so a
+     * concurrent search finds the product under either.
+     */
+    private synchronized void index(Long productId, String name, String description, String categoryId,
+                                    Double unitPrice, Boolean active) {
+        if (productId == null || name == null) {
+            return;
+        }
+        Entry entry = Entry.of(productId, name, description, categoryId, unitPrice, active);
+        Integer slot = slots.get(productId);
+        Entry previous = null;
+        if (slot == null) {
+            slot = freeSlots.isEmpty() ? nextSlot++ : freeSlots.poll();
+            slots.put(productId, slot);
+        } else {
+            previous = entries[slot];
+        }
+        publish(slot, entry);
+
+        Set<String> current = entry.allWords();
+        Set<String> before = previous != null ? previous.allWords() : Set.of();
+        for (String word : current) {
+            if (!before.contains(word)) {
+                post(word, slot);
+            }
+        }
+        for (String word : before) {
+            if (!current.contains(word)) {
+                unpost(word, slot);
+            }
+        }
+    }
+
+    private synchronized void remove(Long productId) {
+        Integer slot = productId != null ? slots.remove(productId) : null;
+        if (slot == null) {
+            return;
+        }
+        Entry previous = entries[slot];
+        publish(slot, null);
+        if (previous != null) {
+            previous.allWords().forEach(word -> unpost(word, slot));
+        }
+        freeSlots.add(slot);
+    }
+
+    /**
+     * Stores the entry of a slot, growing the slots when needed. The volatile write makes the entry
+     * visible to the searches that start after it.
+     */
+    private void publish(int slot, Entry entry) {
+        Entry[] current = entries;
+        if (slot >= current.length) {
+            current = Arrays.copyOf(current, Math.max(current.length << 1, slot + 1));
+        }
+        current[slot] = entry;
+        entries = current;
+    }
+
+    private void post(String word, int slot) {
+        int[] wordSlots = postings.get(word);
+        if (wordSlots == null) {
+            postings.put(word, new int[]{slot});
+            return;
+        }
+        int[] added = Arrays.copyOf(wordSlots, wordSlots.length + 1);
+        added[wordSlots.length] = slot;
+        postings.put(word, added);
+    }
+
+    private void unpost(String word, int slot) {
+        int[] wordSlots = postings.get(word);
+        if (wordSlots == null) {
+            return;
+        }
+        int[] remaining = Arrays.stream(wordSlots).filter(s -> s != slot).toArray();
+        if (remaining.length == 0) {
+            postings.remove(word);
+        } else {
+            postings.put(word, remaining);
+        }
+    }
+
+    /**
+     * Splits a text into lowercase words without accents or punctuation.
+     */
+    static String[] words(String text) {
+        if (text == null) {
+            return NO_WORDS;
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(SEPARATORS.split(folded))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Orders results from the worst match to the best, so the heap drops the worst first.
+     */
+    private static int compareWorstFirst(Scored a, Scored b) {
+        if (a.score != b.score) {
+            return Integer.compare(a.score, b.score);
+        }
+        if (a.entry.name.length() != b.entry.name.length()) {
+            return Integer.compare(b.entry.name.length(), a.entry.name.length());
+        }
+        int byName = b.entry.name.compareTo(a.entry.name);
+        return byName != 0 ? byName : Long.compare(b.entry.productId, a.entry.productId);
+    }
+
+    private record Scored(Entry entry, int score) {}
+
+    /**
+     * What the index keeps of a product. Never modified once published; a change replaces it.
+     */
+    private record Entry(Long productId, String name, String categoryId, Double unitPrice, boolean active,
+                         String[] nameWords, String[] descriptionWords) {
+
+        static Entry of(Long productId, String name, String description, String categoryId,
+                        Double unitPrice, Boolean active) {
+            return new Entry(productId, name, categoryId, unitPrice, Boolean.TRUE.equals(active),
+                    words(name), words(description));
+        }
+
+        Set<String> allWords() {
+            Set<String> words = new HashSet<>(Arrays.asList(nameWords));
+            words.addAll(Arrays.asList(descriptionWords));
+            return words;
+        }
+
+        /**
+         * @return the sum of the best match of every prefix, or 0 if a prefix matches no word
+         */
+        int score(String[] prefixes) {
+            int score = 0;
+            for (String prefix : prefixes) {
+                int match = match(nameWords, prefix, 4, 3);
+                if (match < 3) {
+                    match = Math.max(match, match(descriptionWords, prefix, 2, 1));
+                }
+                if (match == 0) {
+                    return 0;
+                }
+                score += match;
+            }
+            if (nameWords.length > 0 && nameWords[0].startsWith(prefixes[0])) {
+                score += 2;
+            }
+            return score;
+        }
+
+        private static int match(String[] words, String prefix, int whole, int partial) {
+            int match = 0;
+            for (String word : words) {
+                if (word.startsWith(prefix)) {
+                    if (word.length() == prefix.length()) {
+                        return whole;
+                    }
+                    match = partial;
+                }
+            }
+            return match;
+        }
+    }
+}
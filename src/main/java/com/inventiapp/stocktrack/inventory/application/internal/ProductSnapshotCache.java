@@ -0,0 +1,101 @@
+package com.inventiapp.stocktrack.inventory.application.internal;
+
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Product;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductDeletedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductUpdatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductByIdQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductsByIdsQuery;
+import com.inventiapp.stocktrack.inventory.domain.services.ProductQueryService;
+import com.inventiapp.stocktrack.inventory.interfaces.acl.ProductSnapshot;
+import com.inventiapp.stocktrack.shared.application.internal.cache.BoundedCache;
+import com.inventiapp.stocktrack.shared.domain.model.valueobjects.CacheStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Caches the snapshots of products for the sales flow.
+ * @summary
+ * Every sale reads the name, price and status of its products, which change far less often than
+ * they are read. Snapshots are loaded through the ProductQueryService on a miss, a whole basket with
+ * a single query, and kept in a bounded least recently used cache. An update or a delete of a
+ * product evicts its snapshot once committed, and the time to live bounds how long a change made
+ * outside the application goes unseen. Stock is not cached: it changes with every sale.
+ * <p>
+ * Misses are loaded in a read-only transaction of their own: a sale may already have read in its
+ * transaction, and a load in that older snapshot could cache a product changed since.
+ * @since 1.0
+ */
+@Component
+public class ProductSnapshotCache {
+
+    private final ProductQueryService productQueryService;
+    private final BoundedCache<Long, ProductSnapshot> snapshots;
+    private final TransactionTemplate loadTransaction;
+
+    public ProductSnapshotCache(ProductQueryService productQueryService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${inventory.cache.enabled:true}") boolean enabled,
+                                @Value("${inventory.cache.products.maximum-size:10000}") int maximumSize,
+                                @Value("${inventory.cache.products.ttl:PT10M}") Duration ttl) {
+        this.productQueryService = productQueryService;
+        this.snapshots = new BoundedCache<>("products", enabled ? maximumSize : 0, ttl);
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Gets the snapshot of a product, loading it on a miss.
+     * @param productId The product id
+     * @return the snapshot, or empty if the product does not exist
+     * @throws IllegalArgumentException if the product id is invalid
+     */
+    public Optional<ProductSnapshot> get(Long productId) {
+        var query = new GetProductByIdQuery(productId);
+        return Optional.ofNullable(snapshots.get(query.productId(), id -> loadTransaction.execute(status ->
+                productQueryService.handle(query).map(ProductSnapshotCache::toSnapshot).orElse(null))));
+    }
+
+    /**
+     * Gets the snapshots of several products, loading the missing ones with a single query.
+     * @param productIds The product ids
+     * @return the snapshots of the products that exist, keyed by product id
+     * @throws IllegalArgumentException if a product id is invalid
+     */
+    public Map<Long, ProductSnapshot> getAll(Collection<Long> productIds) {
+        var query = new GetProductsByIdsQuery(productIds);
+        return snapshots.getAll(query.productIds(), missing -> loadTransaction.execute(status ->
+                productQueryService.handle(new GetProductsByIdsQuery(missing)).stream()
+                        .map(ProductSnapshotCache::toSnapshot)
+                        .collect(Collectors.toMap(ProductSnapshot::productId, Function.identity()))));
+    }
+
+    public CacheStatistics statistics() {
+        return snapshots.statistics();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductUpdatedEvent event) {
+        snapshots.invalidate(event.getProductId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(ProductDeletedEvent event) {
+        snapshots.invalidate(event.getProductId());
+    }
+
+    private static ProductSnapshot toSnapshot(Product product) {
+        return new ProductSnapshot(product.getId(), product.getName(), product.getUnitPrice(), product.getIsActive());
+    }
+}
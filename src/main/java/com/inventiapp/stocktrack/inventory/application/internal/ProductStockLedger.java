@@ -0,0 +1,189 @@
+package com.inventiapp.stocktrack.inventory.application.internal;
+
+import com.inventiapp.stocktrack.inventory.domain.model.events.BatchCreatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.BatchDeletedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.BatchUpdatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductStockReconciledEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.StockReservationStatus;
+import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.BatchRepository;
+import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.ProductRepository;
+import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.StockReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps the onHand and reserved columns of every product in step with its batches and reservations.
+ * @summary
+ * Every batch change publishes an event inside the transaction that makes it, whether it comes from
+ * the batches API, a sale or a reservation. The ledger adds up the changes of a transaction per
+ * product and writes them just before it commits, as one relative update per product in ascending
+ * product id, so the columns commit or roll back with the batches and concurrent transactions queue
+ * on the product rows instead of deadlocking. Reservations report the units they hold and give back.
+ * <p>
+ * A periodic reconciliation compares the columns with the sums of the batches and of the active
+ * reservations and rewrites the products that drifted, e.g. after a change made directly in the
+ * database, and publishes a ProductStockReconciledEvent for each. The columns start at zero for
+ * existing products, so the first run also fills them in.
+ * @since 1.0
+ */
+@Component
+public class ProductStockLedger {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProductStockLedger.class);
+
+    private final ProductRepository productRepository;
+    private final BatchRepository batchRepository;
+    private final StockReservationRepository stockReservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+
+    public ProductStockLedger(ProductRepository productRepository,
+                              BatchRepository batchRepository,
+                              StockReservationRepository stockReservationRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.batchRepository = batchRepository;
+        this.stockReservationRepository = stockReservationRepository;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener
+    public void on(BatchCreatedEvent event) {
+        record(event.getProductId(), event.getQuantity(), 0);
+    }
+
+    @EventListener
+    public void on(BatchUpdatedEvent event) {
+        record(event.getProductId(), event.getQuantityDelta(), 0);
+    }
+
+    @EventListener
+    public void on(BatchDeletedEvent event) {
+        record(event.getProductId(), -event.getQuantity(), 0);
+    }
+
+    /**
+     * Records units taken from batches by a reservation, which stay on hand as reserved.
+     * @param quantitiesByProduct units held, keyed by product id
+     */
+    public void hold(Map<Long, Integer> quantitiesByProduct) {
+        quantitiesByProduct.forEach((productId, quantity) -> record(productId, quantity, quantity));
+    }
+
+    /**
+     * Records units a reservation no longer holds, because they were sold or given back to their batches.
+     * @param quantitiesByProduct units held until now, keyed by product id
+     */
+    public void unhold(Map<Long, Integer> quantitiesByProduct) {
+        quantitiesByProduct.forEach((productId, quantity) -> record(productId, -quantity, -quantity));
+    }
+
+    /**
+     * Rewrites the stock columns of the products that disagree with their batches and reservations.
+     */
+    @Scheduled(fixedDelayString = "${inventory.on-hand.reconcile-interval:PT1H}",
+            initialDelayString = "${inventory.on-hand.reconcile-initial-delay:PT1M}")
+    public void reconcile() {
+        List<Long> drifted = transaction.execute(status ->
+                productRepository.findIdsWithStockDrift(StockReservationStatus.ACTIVE));
+        if (drifted == null || drifted.isEmpty()) {
+            return;
+        }
+        int fixed = 0;
+        for (Long productId : drifted) {
+            try {
+                if (Boolean.TRUE.equals(transaction.execute(status -> reconcile(productId)))) {
+                    fixed++;
+                }
+            } catch (RuntimeException ex) {
+                LOGGER.warn("Could not reconcile the stock of product {}", productId, ex);
+            }
+        }
+        LOGGER.info("Stock reconciliation rewrote {} of {} drifted products", fixed, drifted.size());
+    }
+
+    /**
+     * Recomputes the stock columns of one product under its row lock. The sums are read after the
+     * lock is taken, so a transaction still adding its changes waits and applies them on top.
+     * @return true if the columns were rewritten
+     */
+    private boolean reconcile(Long productId) {
+        var product = productRepository.findByIdForUpdate(productId);
+        if (product.isEmpty()) {
+            return false;
+        }
+        int reserved = (int) stockReservationRepository.sumQuantityByProductIdAndStatus(
+                productId, StockReservationStatus.ACTIVE);
+        int onHand = (int) batchRepository.sumQuantityByProductId(productId) + reserved;
+        if (product.get().getOnHand() == onHand && product.get().getReserved() == reserved) {
+            return false;
+        }
+        LOGGER.warn("Product {} stock drifted: onHand {} -> {}, reserved {} -> {}", productId,
+                product.get().getOnHand(), onHand, product.get().getReserved(), reserved);
+        productRepository.setStock(productId, onHand, reserved);
+        eventPublisher.publishEvent(new ProductStockReconciledEvent(this, productId,
+                product.get().getOnHand(), product.get().getReserved(), onHand, reserved));
+        return true;
+    }
+
+    private void record(Long productId, int onHandDelta, int reservedDelta) {
+        if (productId == null || (onHandDelta == 0 && reservedDelta == 0)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            transaction.executeWithoutResult(status -> productRepository.adjustStock(productId, onHandDelta, reservedDelta));
+            return;
+        }
+        var pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.add(productId, onHandDelta, reservedDelta);
+    }
+
+    /**
+     * Stock changes of one transaction, per product, written just before it commits.
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+
+        /** onHand and reserved deltas by product id, in ascending product id. */
+        private final Map<Long, int[]> deltas = new TreeMap<>();
+
+        void add(Long productId, int onHandDelta, int reservedDelta) {
+            int[] delta = deltas.computeIfAbsent(productId, id -> new int[2]);
+            delta[0] += onHandDelta;
+            delta[1] += reservedDelta;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            deltas.forEach((productId, delta) -> {
+                if (delta[0] != 0 || delta[1] != 0) {
+                    productRepository.adjustStock(productId, delta[0], delta[1]);
+                }
+            });
+            deltas.clear();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ProductStockLedger.this);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.inventiapp.stocktrack.inventory.application.internal;
+
+import com.inventiapp.stocktrack.inventory.domain.model.commands.ExpireStockReservationCommand;
+import com.inventiapp.stocktrack.inventory.domain.model.events.StockReservationClosedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.StockReservationCreatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.StockReservationStatus;
+import com.inventiapp.stocktrack.inventory.domain.services.StockReservationCommandService;
+import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.StockReservationRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expires stock reservations when their time is up, with a hashed timer wheel.
+ * @summary
+ * The wheel is a ring of slots, each covering one tick. A reservation is placed in the slot its
+ * expiration falls in, together with the number of full turns left before it is due, so scheduling
+ * and cancelling cost O(1) however many reservations are open. A thread on a virtual thread advances
+ * one slot per tick and expires the reservations that are due, each in its own transaction.
+ * <p>
+ * Reservations are scheduled once their creation commits and cancelled once they are confirmed or
+ * released; the active ones are loaded at startup. The wheel only knows the reservations of this
+ * instance, so a periodic sweep of the database expires those created elsewhere, or missed while an
+ * expiry failed. Expiring is idempotent, so both paths can meet on the same reservation.
+ * @since 1.0
+ */
+@Component
+public class ReservationExpiryWheel {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReservationExpiryWheel.class);
+
+    private final StockReservationCommandService stockReservationCommandService;
+    private final StockReservationRepository stockReservationRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long tickMillis;
+    private final int sweepBatchSize;
+
+    /** Slots of the ring, a power of two of them; only touched by the wheel thread. */
+    private final List<Queue<Timeout>> slots;
+    /** Timeouts scheduled by other threads, moved into their slot on the next tick. */
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    /** Scheduled timeouts by reservation id, to cancel them. */
+    private final Map<Long, Timeout> timeouts = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private Thread ticker;
+    private long startMillis;
+    private long tick;
+
+    public ReservationExpiryWheel(StockReservationCommandService stockReservationCommandService,
+                                  StockReservationRepository stockReservationRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${inventory.reservations.wheel.tick:PT1S}") Duration tick,
+                                  @Value("${inventory.reservations.wheel.slots:512}") int slots,
+                                  @Value("${inventory.reservations.sweep-batch-size:100}") int sweepBatchSize) {
+        this.stockReservationCommandService = stockReservationCommandService;
+        this.stockReservationRepository = stockReservationRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.tickMillis = Math.max(1, tick.toMillis());
+        this.sweepBatchSize = sweepBatchSize;
+        int slotCount = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            this.slots.add(new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Schedules the active reservations and starts the wheel once the application is ready.
+     * @param event The application ready event
+     */
+    @EventListener
+    public synchronized void on(ApplicationReadyEvent event) {
+        if (running) {
+            return;
+        }
+        startMillis = System.currentTimeMillis();
+        var deadlines = readOnlyTransaction.execute(status ->
+                stockReservationRepository.findDeadlinesByStatus(StockReservationStatus.ACTIVE));
+        if (deadlines != null) {
+            deadlines.forEach(deadline -> schedule(deadline.getId(), deadline.getExpiresAt()));
+            LOGGER.info("Reservation expiry wheel loaded {} active reservations", deadlines.size());
+        }
+        running = true;
+        ticker = Thread.ofVirtual().name("reservation-expiry-wheel").start(this::run);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        ticker.interrupt();
+        ticker.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(StockReservationCreatedEvent event) {
+        schedule(event.getReservationId(), event.getExpiresAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(StockReservationClosedEvent event) {
+        cancel(event.getReservationId());
+    }
+
+    /**
+     * Expires the overdue reservations the wheel does not know about.
+     */
+    @Scheduled(fixedDelayString = "${inventory.reservations.sweep-interval:PT1M}",
+            initialDelayString = "${inventory.reservations.sweep-interval:PT1M}")
+    public void sweep() {
+        List<Long> due;
+        do {
+            due = readOnlyTransaction.execute(status -> stockReservationRepository.findIdsDueBefore(
+                    StockReservationStatus.ACTIVE, new Date(), PageRequest.of(0, sweepBatchSize)));
+            if (due == null) {
+                return;
+            }
+            int expired = 0;
+            for (Long reservationId : due) {
+                if (expire(reservationId)) {
+                    expired++;
+                }
+            }
+            if (expired < due.size()) {
+                // The rest failed and would be read again; leave them for the next sweep
+                return;
+            }
+        } while (due.size() == sweepBatchSize);
+    }
+
+    /**
+     * Schedules the expiration of a reservation, replacing any earlier one.
+     * @param reservationId reservation id
+     * @param expiresAt the instant the reservation expires
+     */
+    public void schedule(Long reservationId, Date expiresAt) {
+        if (reservationId == null || expiresAt == null) {
+            return;
+        }
+        Timeout timeout = new Timeout(reservationId, expiresAt.getTime());
+        Timeout previous = timeouts.put(reservationId, timeout);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        pending.add(timeout);
+    }
+
+    /**
+     * Cancels the expiration of a reservation, if scheduled.
+     * @param reservationId reservation id
+     */
+    public void cancel(Long reservationId) {
+        if (reservationId == null) {
+            return;
+        }
+        Timeout timeout = timeouts.remove(reservationId);
+        if (timeout != null) {
+            timeout.cancelled = true;
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                long sleepMillis = startMillis + (tick + 1) * tickMillis - System.currentTimeMillis();
+                if (sleepMillis > 0) {
+                    Thread.sleep(sleepMillis);
+                }
+                placePending();
+                List<Long> due = dueIn(slots.get((int) (tick & (slots.size() - 1))));
+                tick++;
+                due.forEach(this::expire);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                LOGGER.warn("Reservation expiry wheel tick {} failed", tick, ex);
+            }
+        }
+    }
+
+    /**
+     * Moves the pending timeouts into their slot. Timeouts already due go in the current slot.
+     */
+    private void placePending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long dueTick = Math.max(tick, (timeout.deadlineMillis - startMillis) / tickMillis);
+            timeout.rounds = (dueTick - tick) / slots.size();
+            slots.get((int) (dueTick & (slots.size() - 1))).add(timeout);
+        }
+    }
+
+    private List<Long> dueIn(Queue<Timeout> slot) {
+        List<Long> due = new ArrayList<>();
+        for (Iterator<Timeout> it = slot.iterator(); it.hasNext(); ) {
+            Timeout timeout = it.next();
+            if (timeout.cancelled) {
+                it.remove();
+            } else if (timeout.rounds > 0) {
+                timeout.rounds--;
+            } else {
+                it.remove();
+                timeouts.remove(timeout.reservationId, timeout);
+                due.add(timeout.reservationId);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Expires one reservation; a failure is logged and left to the sweep.
+     * @return true if the reservation is no longer overdue, whether expired now or already closed
+     */
+    private boolean expire(Long reservationId) {
+        try {
+            stockReservationCommandService.handle(new ExpireStockReservationCommand(reservationId));
+            return true;
+        } catch (RuntimeException ex) {
+            LOGGER.warn("Could not expire stock reservation {}", reservationId, ex);
+            return false;
+        }
+    }
+
+    /**
+     * A scheduled expiration. The rounds are only touched by the wheel thread.
+     */
+    private static final class Timeout {
+        private final Long reservationId;
+        private final long deadlineMillis;
+        private volatile boolean cancelled;
+        private long rounds;
+
+        private Timeout(Long reservationId, long deadlineMillis) {
+            this.reservationId = reservationId;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
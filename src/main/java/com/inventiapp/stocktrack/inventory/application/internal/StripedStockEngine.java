@@ -0,0 +1,478 @@
+package com.inventiapp.stocktrack.inventory.application.internal;
+
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Batch;
+import com.inventiapp.stocktrack.inventory.domain.model.events.BatchCreatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.BatchDeletedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.BatchUpdatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.BatchAllocation;
+import com.inventiapp.stocktrack.inventory.domain.services.StockAllocationService;
+import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.BatchRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds the stock of every batch in memory and allocates from it, first expired first out.
+ * @summary
+ * Enabled with inventory.stock-engine.enabled=true, it replaces FefoStockAllocator behind the
+ * inventory facade. The batches of each product are kept in an immutable array snapshot that is
+ * swapped on every change, so availability checks read it without locking. Allocations lock one
+ * of a fixed set of stripes per product, always in ascending stripe order, take the units in memory
+ * and write them through to the batches table in the caller's transaction; if that transaction
+ * rolls back the units are given back.
+ * <p>
+ * The database stays the source of truth: the write-through only takes units a batch still has,
+ * so when memory and database disagree the allocation fails instead of overselling, and the
+ * product is reloaded from the database before its next use. Batch changes made outside the engine
+ * are applied from their events once committed. The engine is loaded from the database at startup.
+ * @since 1.0
+ */
+@Service
+@ConditionalOnProperty(name = "inventory.stock-engine.enabled", havingValue = "true")
+public class StripedStockEngine implements StockAllocationService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StripedStockEngine.class);
+
+    private final BatchRepository batchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReentrantLock[] stripes;
+    private final Map<Long, ProductBatches> products = new ConcurrentHashMap<>();
+    private final Set<Long> staleProducts = ConcurrentHashMap.newKeySet();
+
+    public StripedStockEngine(BatchRepository batchRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${inventory.stock-engine.stripes:64}") int stripes) {
+        this.batchRepository = batchRepository;
+        this.eventPublisher = eventPublisher;
+        this.stripes = new ReentrantLock[Integer.highestOneBit(Math.max(1, stripes - 1)) << 1];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Loads every batch from the database. Runs before the application accepts requests.
+     */
+    @PostConstruct
+    public void load() {
+        Map<Long, List<Batch>> batchesByProduct = new HashMap<>();
+        batchRepository.findAll()
+                .forEach(batch -> batchesByProduct.computeIfAbsent(batch.getProductId(), id -> new ArrayList<>()).add(batch));
+        products.clear();
+        batchesByProduct.forEach((productId, batches) -> products.put(productId, ProductBatches.of(batches)));
+        LOGGER.info("Stock engine loaded: {} products, {} stripes", products.size(), stripes.length);
+    }
+
+    @Override
+    public boolean isAvailable(Long productId, int quantity) {
+        return batchesOf(productId).available(startOfToday()) >= quantity;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Publishes a BatchUpdatedEvent for every batch it changes, inside the caller's transaction.
+     */
+    @Override
+    @Transactional
+    public List<BatchAllocation> allocate(Map<Long, Integer> quantitiesByProduct) {
+        quantitiesByProduct.forEach((productId, quantity) -> {
+            if (productId == null || productId <= 0) {
+                throw new IllegalArgumentException("productId inválido");
+            }
+            if (quantity == null || quantity <= 0) {
+                throw new IllegalArgumentException("quantity inválida");
+            }
+        });
+        if (quantitiesByProduct.isEmpty()) {
+            return List.of();
+        }
+
+        List<Reservation> reservations = reserve(new TreeMap<>(quantitiesByProduct), startOfToday());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(reservations);
+                }
+            }
+        });
+
+        Date now = new Date();
+        for (Reservation reservation : reservations) {
+            if (batchRepository.decreaseQuantityIfAvailable(reservation.batchId(), reservation.quantity(), now) == 0) {
+                staleProducts.add(reservation.productId());
+                throw new IllegalStateException("Stock insuficiente para el producto " + reservation.productId()
+                        + ". El lote " + reservation.batchId() + " cambió.");
+            }
+            eventPublisher.publishEvent(new BatchUpdatedEvent(this, reservation.batchId(), reservation.productId(),
+                    reservation.previousQuantity(), reservation.previousQuantity() - reservation.quantity()));
+        }
+        return reservations.stream()
+                .map(reservation -> new BatchAllocation(reservation.batchId(), reservation.productId(), reservation.quantity()))
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Each order is reserved in memory and written through on its own; when the write-through of an
+     * order fails part way, the batches it already decreased are given back before the next order.
+     * Publishes a BatchUpdatedEvent for every batch it changes, inside the caller's transaction.
+     */
+    @Override
+    @Transactional
+    public List<Optional<List<BatchAllocation>>> allocateEach(List<Map<Long, Integer>> orders) {
+        for (Map<Long, Integer> order : orders) {
+            order.forEach((productId, quantity) -> {
+                if (productId == null || productId <= 0) {
+                    throw new IllegalArgumentException("productId inválido");
+                }
+                if (quantity == null || quantity <= 0) {
+                    throw new IllegalArgumentException("quantity inválida");
+                }
+            });
+        }
+
+        List<Reservation> allocated = new ArrayList<>();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(allocated);
+                }
+            }
+        });
+
+        long notExpiredSince = startOfToday();
+        Date now = new Date();
+        List<Optional<List<BatchAllocation>>> results = new ArrayList<>(orders.size());
+        for (Map<Long, Integer> order : orders) {
+            List<Reservation> reservations;
+            try {
+                reservations = reserve(new TreeMap<>(order), notExpiredSince);
+            } catch (IllegalStateException insufficientStock) {
+                results.add(Optional.empty());
+                continue;
+            }
+            if (!writeThrough(reservations, now)) {
+                results.add(Optional.empty());
+                continue;
+            }
+            allocated.addAll(reservations);
+            results.add(Optional.of(reservations.stream()
+                    .map(reservation -> new BatchAllocation(reservation.batchId(), reservation.productId(), reservation.quantity()))
+                    .toList()));
+        }
+        return results;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The units are added to the batches table in the caller's transaction and to memory once it commits.
+     */
+    @Override
+    @Transactional
+    public void restore(List<BatchAllocation> allocations) {
+        Date now = new Date();
+        List<BatchAllocation> restored = new ArrayList<>(allocations.size());
+        // Batch id order keeps concurrent restores from deadlocking on the rows they share
+        for (BatchAllocation allocation : allocations.stream()
+                .sorted(Comparator.comparing(BatchAllocation::batchId)).toList()) {
+            if (batchRepository.increaseQuantity(allocation.batchId(), allocation.quantity(), now) == 0) {
+                continue;
+            }
+            // Read back from the row just updated: memory may lag behind changes committed elsewhere
+            int quantity = batchRepository.findQuantityById(allocation.batchId()).orElseThrow();
+            eventPublisher.publishEvent(new BatchUpdatedEvent(this, allocation.batchId(), allocation.productId(),
+                    quantity - allocation.quantity(), quantity));
+            restored.add(allocation);
+        }
+        if (restored.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                restored.forEach(allocation -> update(allocation.productId(),
+                        batches -> batches.withQuantityAdded(allocation.batchId(), allocation.quantity())));
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(BatchCreatedEvent event) {
+        update(event.getProductId(), batches ->
+                batches.withBatch(event.getBatchId(), event.getExpirationDate().getTime(), event.getQuantity()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(BatchUpdatedEvent event) {
+        if (event.getSource() == this) {
+            // Already applied in memory by allocate and restore
+            return;
+        }
+        // The difference, not the new quantity: units taken by the engine since the event's change
+        // was read must not be overwritten
+        if (event.getQuantityDelta() != 0) {
+            update(event.getProductId(), batches -> batches.withQuantityAdded(event.getBatchId(), event.getQuantityDelta()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(BatchDeletedEvent event) {
+        update(event.getProductId(), batches -> batches.withoutBatch(event.getBatchId()));
+    }
+
+    /**
+     * Takes the units in memory under the stripes of the products, all or nothing.
+     */
+    private List<Reservation> reserve(TreeMap<Long, Integer> lines, long notExpiredSince) {
+        int[] lockedStripes = lines.keySet().stream().mapToInt(this::stripeOf).distinct().sorted().toArray();
+        for (int stripe : lockedStripes) {
+            stripes[stripe].lock();
+        }
+        try {
+            List<Reservation> reservations = new ArrayList<>();
+            Map<Long, ProductBatches> reserved = new HashMap<>();
+            for (var line : lines.entrySet()) {
+                ProductBatches batches = lockedBatchesOf(line.getKey());
+                int remaining = line.getValue();
+                int[] quantities = batches.quantities().clone();
+                for (int i = 0; i < quantities.length && remaining > 0; i++) {
+                    if (batches.expirations()[i] < notExpiredSince || quantities[i] == 0) continue;
+                    int toReduce = Math.min(quantities[i], remaining);
+                    reservations.add(new Reservation(batches.batchIds()[i], line.getKey(), toReduce, quantities[i]));
+                    quantities[i] -= toReduce;
+                    remaining -= toReduce;
+                }
+                if (remaining > 0) {
+                    throw new IllegalStateException("Stock insuficiente para el producto " + line.getKey()
+                            + ". Faltan " + remaining + " unidades.");
+                }
+                reserved.put(line.getKey(), new ProductBatches(batches.batchIds(), batches.expirations(), quantities));
+            }
+            products.putAll(reserved);
+            return reservations;
+        } finally {
+            for (int i = lockedStripes.length - 1; i >= 0; i--) {
+                stripes[lockedStripes[i]].unlock();
+            }
+        }
+    }
+
+    /**
+     * Writes the reserved units through to the batches table. When a batch no longer has them, the
+     * batches already decreased are increased again, the units are given back in memory and the
+     * product is marked stale.
+     * @return true if every reservation was written
+     */
+    private boolean writeThrough(List<Reservation> reservations, Date now) {
+        for (int i = 0; i < reservations.size(); i++) {
+            Reservation reservation = reservations.get(i);
+            if (batchRepository.decreaseQuantityIfAvailable(reservation.batchId(), reservation.quantity(), now) == 0) {
+                staleProducts.add(reservation.productId());
+                for (Reservation written : reservations.subList(0, i)) {
+                    batchRepository.increaseQuantity(written.batchId(), written.quantity(), now);
+                }
+                release(reservations);
+                return false;
+            }
+        }
+        for (Reservation reservation : reservations) {
+            eventPublisher.publishEvent(new BatchUpdatedEvent(this, reservation.batchId(), reservation.productId(),
+                    reservation.previousQuantity(), reservation.previousQuantity() - reservation.quantity()));
+        }
+        return true;
+    }
+
+    /**
+     * Gives back the units of a reservation whose transaction did not commit.
+     */
+    private void release(Collection<Reservation> reservations) {
+        reservations.forEach(reservation -> update(reservation.productId(),
+                batches -> batches.withQuantityAdded(reservation.batchId(), reservation.quantity())));
+    }
+
+    /**
+     * Applies a change to the batches of a product. Stale products are skipped: they are reloaded
+     * from the database before their next use, which already reflects the change.
+     */
+    private void update(Long productId, UnaryOperator<ProductBatches> change) {
+        if (productId == null || staleProducts.contains(productId)) {
+            return;
+        }
+        ReentrantLock stripe = stripes[stripeOf(productId)];
+        stripe.lock();
+        try {
+            products.put(productId, change.apply(products.getOrDefault(productId, ProductBatches.EMPTY)));
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    private ProductBatches batchesOf(Long productId) {
+        if (!staleProducts.contains(productId)) {
+            return products.getOrDefault(productId, ProductBatches.EMPTY);
+        }
+        ReentrantLock stripe = stripes[stripeOf(productId)];
+        stripe.lock();
+        try {
+            return lockedBatchesOf(productId);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /**
+     * Gets the batches of a product, reloading them first when they are stale. Callers hold its stripe.
+     */
+    private ProductBatches lockedBatchesOf(Long productId) {
+        if (staleProducts.remove(productId)) {
+            ProductBatches reloaded = ProductBatches.of(batchRepository.findByProductIdOrderByExpirationDateAsc(productId));
+            products.put(productId, reloaded);
+            LOGGER.info("Stock engine reloaded product {} after it diverged from the database", productId);
+            return reloaded;
+        }
+        return products.getOrDefault(productId, ProductBatches.EMPTY);
+    }
+
+    private int stripeOf(Long productId) {
+        long hash = productId * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & (stripes.length - 1);
+    }
+
+    private static long startOfToday() {
+        ZoneId zone = ZoneId.systemDefault();
+        return LocalDate.now(zone).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    private record Reservation(Long batchId, Long productId, int quantity, int previousQuantity) {}
+
+    /**
+     * Batches of one product ordered by expiration date and id, as parallel arrays. Never modified
+     * once published; every change builds a new instance.
+     */
+    private record ProductBatches(long[] batchIds, long[] expirations, int[] quantities) {
+
+        static final ProductBatches EMPTY = new ProductBatches(new long[0], new long[0], new int[0]);
+
+        static ProductBatches of(List<Batch> batches) {
+            ProductBatches result = EMPTY;
+            for (Batch batch : batches) {
+                result = result.withBatch(batch.getId(), batch.getExpirationDate().getTime(), batch.getQuantity());
+            }
+            return result;
+        }
+
+        int available(long notExpiredSince) {
+            int available = 0;
+            for (int i = 0; i < quantities.length; i++) {
+                if (expirations[i] >= notExpiredSince) {
+                    available += quantities[i];
+                }
+            }
+            return available;
+        }
+
+        ProductBatches withBatch(Long batchId, long expiration, int quantity) {
+            ProductBatches without = withoutBatch(batchId);
+            int at = 0;
+            while (at < without.batchIds.length && (without.expirations[at] < expiration
+                    || (without.expirations[at] == expiration && without.batchIds[at] < batchId))) {
+                at++;
+            }
+            return new ProductBatches(
+                    insert(without.batchIds, at, batchId),
+                    insert(without.expirations, at, expiration),
+                    insert(without.quantities, at, quantity));
+        }
+
+        ProductBatches withoutBatch(Long batchId) {
+            int at = indexOf(batchId);
+            if (at < 0) {
+                return this;
+            }
+            return new ProductBatches(remove(batchIds, at), remove(expirations, at), remove(quantities, at));
+        }
+
+        ProductBatches withQuantity(Long batchId, int quantity) {
+            int at = indexOf(batchId);
+            if (at < 0) {
+                return this;
+            }
+            int[] changed = quantities.clone();
+            changed[at] = quantity;
+            return new ProductBatches(batchIds, expirations, changed);
+        }
+
+        ProductBatches withQuantityAdded(Long batchId, int quantity) {
+            int at = indexOf(batchId);
+            return at < 0 ? this : withQuantity(batchId, quantities[at] + quantity);
+        }
+
+        private int indexOf(Long batchId) {
+            for (int i = 0; i < batchIds.length; i++) {
+                if (batchIds[i] == batchId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static long[] insert(long[] values, int at, long value) {
+            long[] result = new long[values.length + 1];
+            System.arraycopy(values, 0, result, 0, at);
+            result[at] = value;
+            System.arraycopy(values, at, result, at + 1, values.length - at);
+            return result;
+        }
+
+        private static int[] insert(int[] values, int at, int value) {
+            int[] result = new int[values.length + 1];
+            System.arraycopy(values, 0, result, 0, at);
+            result[at] = value;
+            System.arraycopy(values, at, result, at + 1, values.length - at);
+            return result;
+        }
+
+        private static long[] remove(long[] values, int at) {
+            long[] result = Arrays.copyOf(values, values.length - 1);
+            System.arraycopy(values, at + 1, result, at, values.length - at - 1);
+            return result;
+        }
+
+        private static int[] remove(int[] values, int at) {
+            int[] result = Arrays.copyOf(values, values.length - 1);
+            System.arraycopy(values, at + 1, result, at, values.length - at - 1);
+            return result;
+        }
+    }
+}
@@ -8,19 +8,22 @@ import com.inventiapp.stocktrack.inventory.domain.model.commands.DeleteBatchComm
 import com.inventiapp.stocktrack.inventory.domain.model.commands.UpdateBatchCommand;
 import com.inventiapp.stocktrack.inventory.domain.model.events.BatchCreatedEvent;
 import com.inventiapp.stocktrack.inventory.domain.model.events.BatchDeletedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.BatchUpdatedEvent;
 import com.inventiapp.stocktrack.inventory.domain.services.BatchCommandService;
 import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.BatchRepository;
 import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.ProductRepository;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 /**
  * Implementation of BatchCommandService.
  *
- * @summary Performs domain operations for Batch aggregate: create and delete.
+ * @summary Performs domain operations for Batch aggregate: create, update and delete.
  * Exceptions from persistence layer are translated into domain-friendly exceptions.
+ * Each operation runs in one transaction, so the on-hand stock of the product changes with the batch.
  * @since 1.0
  */
 @Service
@@ -44,6 +47,7 @@ public class BatchCommandServiceImpl implements BatchCommandService {
      * @throws ProductNotFoundException if the product does not exist
      */
     @Override
+    @Transactional
     public Long handle(CreateBatchCommand command) {
         if (!productRepository.existsById(command.productId())) {
             throw new ProductNotFoundException(command.productId());
@@ -77,11 +81,12 @@ public class BatchCommandServiceImpl implements BatchCommandService {
      * @throws BatchNotFoundException if the batch does not exist
      */
     @Override
+    @Transactional
     public void handle(DeleteBatchCommand command) {
         Batch batch = batchRepository.findById(command.batchId())
                 .orElseThrow(() -> new BatchNotFoundException(command.batchId()));
 
-        batch.addDomainEvent(new BatchDeletedEvent(batch, batch.getId()));
+        batch.addDomainEvent(new BatchDeletedEvent(batch, batch.getId(), batch.getProductId(), batch.getQuantity()));
 
         try {
             batchRepository.delete(batch);
@@ -91,7 +96,17 @@ public class BatchCommandServiceImpl implements BatchCommandService {
         }
     }
 
+    /**
+     * Handles updating the quantity of a batch.
+     * Registers a BatchUpdatedEvent carrying the previous and the new quantity.
+     *
+     * @param command UpdateBatchCommand containing batch id and new quantity
+     * @return Optional with the updated batch
+     * @throws BatchNotFoundException if the batch does not exist
+     * @throws ProductNotFoundException if the batch product does not exist
+     */
     @Override
+    @Transactional
     public Optional<Batch> handle(UpdateBatchCommand command) {
         Batch batch = batchRepository.findById(command.batchId())
                 .orElseThrow(() -> new BatchNotFoundException(command.batchId()));
@@ -100,12 +115,21 @@ public class BatchCommandServiceImpl implements BatchCommandService {
             throw new ProductNotFoundException(batch.getProductId());
         }
 
+        int previousQuantity = batch.getQuantity();
         if (command.newQuantity() >= 0) {
             batch.setQuantity(command.newQuantity());
         } else {
             throw new IllegalArgumentException("Quantity cannot be negative");
         }
 
+        batch.addDomainEvent(new BatchUpdatedEvent(
+                batch,
+                batch.getId(),
+                batch.getProductId(),
+                previousQuantity,
+                batch.getQuantity()
+        ));
+
         try {
             Batch updated = batchRepository.save(batch);
             return Optional.of(updated);
@@ -44,11 +44,11 @@ public class KitCommandServiceImpl implements KitCommandService {
         }
 
         var kit = new Kit(command);
+
+        // Register domain event before saving so it is published by the save
+        kit.addDomainEvent(new KitCreatedEvent(kit, kit.getId(), kit.getName()));
+
         var savedKit = kitRepository.save(kit);
-        
-        // Register domain event
-        savedKit.addDomainEvent(new KitCreatedEvent(savedKit, savedKit.getId(), savedKit.getName()));
-        
         return Optional.of(savedKit);
     }
 
@@ -2,6 +2,7 @@ package com.inventiapp.stocktrack.inventory.application.internal.commandservices
 
 import com.inventiapp.stocktrack.inventory.domain.exceptions.CategoryNotFoundException;
 import com.inventiapp.stocktrack.inventory.domain.exceptions.ProductAlreadyExistsException;
+import com.inventiapp.stocktrack.inventory.domain.exceptions.ProductBarcodeAlreadyExistsException;
 import com.inventiapp.stocktrack.inventory.domain.exceptions.ProductNotFoundException;
 import com.inventiapp.stocktrack.inventory.domain.exceptions.ProviderNotFoundException;
 import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Product;
@@ -52,6 +53,7 @@ public class ProductCommandServiceImpl implements ProductCommandService {
      * @param command CreateProductCommand with product data
      * @return generated product id
      * @throws ProductAlreadyExistsException if a product with the same name and provider already exists
+     * @throws ProductBarcodeAlreadyExistsException if another product has the same barcode
      */
     @Override
     public Long handle(CreateProductCommand command) {
@@ -70,6 +72,10 @@ public class ProductCommandServiceImpl implements ProductCommandService {
             throw new ProductAlreadyExistsException(command.name());
         }
 
+        if (command.barcode() != null && productRepository.existsByBarcode_Value(command.barcode())) {
+            throw new ProductBarcodeAlreadyExistsException(command.barcode());
+        }
+
         Product product = new Product(command);
 
         product.addDomainEvent(new ProductCreatedEvent(
@@ -81,7 +87,8 @@ public class ProductCommandServiceImpl implements ProductCommandService {
                 product.getProviderId(),
                 product.getMinStock(),
                 product.getUnitPrice(),
-                product.getIsActive()
+                product.getIsActive(),
+                product.getBarcodeValue()
         ));
 
         try {
@@ -101,6 +108,7 @@ public class ProductCommandServiceImpl implements ProductCommandService {
      * @param command UpdateProductCommand containing product id and updated values
      * @return Optional with updated product if exists
      * @throws ProductNotFoundException if the product does not exist
+     * @throws ProductBarcodeAlreadyExistsException if another product has the same barcode
      */
     @Override
     public Optional<Product> handle(UpdateProductCommand command) {
@@ -117,6 +125,11 @@ public class ProductCommandServiceImpl implements ProductCommandService {
             throw new ProviderNotFoundException(providerId);
         }
 
+        if (command.barcode() != null
+                && productRepository.existsByBarcode_ValueAndIdNot(command.barcode(), command.productId())) {
+            throw new ProductBarcodeAlreadyExistsException(command.barcode());
+        }
+
         product.updateProduct(command);
 
         product.addDomainEvent(new ProductUpdatedEvent(
@@ -128,7 +141,8 @@ public class ProductCommandServiceImpl implements ProductCommandService {
                 product.getProviderId(),
                 product.getMinStock(),
                 product.getUnitPrice(),
-                product.getIsActive()
+                product.getIsActive(),
+                product.getBarcodeValue()
         ));
 
         try {
@@ -0,0 +1,190 @@
+package com.inventiapp.stocktrack.inventory.application.internal.commandservices;
+
+import com.inventiapp.stocktrack.inventory.application.internal.ProductStockLedger;
+import com.inventiapp.stocktrack.inventory.domain.exceptions.StockReservationNotFoundException;
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.StockReservation;
+import com.inventiapp.stocktrack.inventory.domain.model.commands.ConfirmStockReservationCommand;
+import com.inventiapp.stocktrack.inventory.domain.model.commands.CreateStockReservationCommand;
+import com.inventiapp.stocktrack.inventory.domain.model.commands.ExpireStockReservationCommand;
+import com.inventiapp.stocktrack.inventory.domain.model.commands.ReleaseStockReservationCommand;
+import com.inventiapp.stocktrack.inventory.domain.model.events.StockReservationClosedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.StockReservationCreatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.BatchAllocation;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.StockReservationStatus;
+import com.inventiapp.stocktrack.inventory.domain.services.StockAllocationService;
+import com.inventiapp.stocktrack.inventory.domain.services.StockReservationCommandService;
+import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.StockReservationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * StockReservationCommandService Implementation
+ *
+ * @summary
+ * Implementation of the StockReservationCommandService interface.
+ * Reserving takes the units from their batches through the StockAllocationService, so reserved stock
+ * is never counted as available; releasing or expiring gives them back. Confirming only changes the
+ * status of the reservation, plus the difference when the units sold are not the units held.
+ * The units held are reported to the ProductStockLedger, which keeps them on hand as reserved.
+ * @since 1.0
+ */
+@Service
+public class StockReservationCommandServiceImpl implements StockReservationCommandService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final StockAllocationService stockAllocationService;
+    private final ProductStockLedger productStockLedger;
+    private final Duration defaultTtl;
+    private final Duration maxTtl;
+
+    public StockReservationCommandServiceImpl(StockReservationRepository stockReservationRepository,
+                                              StockAllocationService stockAllocationService,
+                                              ProductStockLedger productStockLedger,
+                                              @Value("${inventory.reservations.default-ttl:PT15M}") Duration defaultTtl,
+                                              @Value("${inventory.reservations.max-ttl:PT2H}") Duration maxTtl) {
+        this.stockReservationRepository = stockReservationRepository;
+        this.stockAllocationService = stockAllocationService;
+        this.productStockLedger = productStockLedger;
+        this.defaultTtl = defaultTtl;
+        this.maxTtl = maxTtl;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Registers a StockReservationCreatedEvent on the aggregate.
+     */
+    @Override
+    @Transactional
+    public StockReservation handle(CreateStockReservationCommand command) {
+        Duration ttl = command.ttl() != null ? command.ttl() : defaultTtl;
+        if (ttl.compareTo(maxTtl) > 0) {
+            throw new IllegalArgumentException("ttl cannot exceed " + maxTtl);
+        }
+
+        List<BatchAllocation> allocations = stockAllocationService.allocate(command.quantitiesByProduct());
+        var reservation = new StockReservation(Date.from(Instant.now().plus(ttl)), allocations);
+        productStockLedger.hold(reservation.quantitiesByProduct());
+
+        reservation.addDomainEvent(new StockReservationCreatedEvent(
+                reservation, reservation.getId(), reservation.getExpiresAt()));
+
+        return stockReservationRepository.save(reservation);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Registers a StockReservationClosedEvent on the aggregate.
+     */
+    @Override
+    @Transactional
+    public StockReservation handle(ConfirmStockReservationCommand command) {
+        var reservation = stockReservationRepository.findByIdForUpdate(command.reservationId())
+                .orElseThrow(() -> new StockReservationNotFoundException(command.reservationId()));
+        reservation.confirm(new Date());
+        productStockLedger.unhold(reservation.quantitiesByProduct());
+
+        if (command.quantitiesByProduct() != null) {
+            Map<Long, Integer> held = reservation.quantitiesByProduct();
+            Map<Long, Integer> missing = new TreeMap<>();
+            command.quantitiesByProduct().forEach((productId, quantity) -> {
+                int difference = quantity - held.getOrDefault(productId, 0);
+                if (difference > 0) {
+                    missing.put(productId, difference);
+                }
+            });
+            List<BatchAllocation> surplus = surplusOf(reservation, command.quantitiesByProduct());
+            if (!missing.isEmpty()) {
+                stockAllocationService.allocate(missing);
+            }
+            if (!surplus.isEmpty()) {
+                stockAllocationService.restore(surplus);
+            }
+        }
+
+        reservation.addDomainEvent(new StockReservationClosedEvent(
+                reservation, reservation.getId(), reservation.getStatus()));
+        return stockReservationRepository.save(reservation);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Registers a StockReservationClosedEvent on the aggregate.
+     */
+    @Override
+    @Transactional
+    public StockReservation handle(ReleaseStockReservationCommand command) {
+        var reservation = stockReservationRepository.findByIdForUpdate(command.reservationId())
+                .orElseThrow(() -> new StockReservationNotFoundException(command.reservationId()));
+        reservation.release();
+        stockAllocationService.restore(reservation.allocations());
+        productStockLedger.unhold(reservation.quantitiesByProduct());
+
+        reservation.addDomainEvent(new StockReservationClosedEvent(
+                reservation, reservation.getId(), reservation.getStatus()));
+        return stockReservationRepository.save(reservation);
+    }
+
+    /**
+     * {@inheritDoc}
+     * Registers a StockReservationClosedEvent on the aggregate.
+     */
+    @Override
+    @Transactional
+    public boolean handle(ExpireStockReservationCommand command) {
+        var found = stockReservationRepository.findByIdForUpdate(command.reservationId());
+        if (found.isEmpty()) {
+            return false;
+        }
+        var reservation = found.get();
+        if (reservation.getStatus() != StockReservationStatus.ACTIVE || reservation.isActiveAt(new Date())) {
+            return false;
+        }
+        reservation.expire();
+        stockAllocationService.restore(reservation.allocations());
+        productStockLedger.unhold(reservation.quantitiesByProduct());
+
+        reservation.addDomainEvent(new StockReservationClosedEvent(
+                reservation, reservation.getId(), reservation.getStatus()));
+        stockReservationRepository.save(reservation);
+        return true;
+    }
+
+    /**
+     * Picks the held units that were not sold, giving back the batches that expire last first so the
+     * sale keeps the units that should leave the shelf soonest.
+     */
+    private static List<BatchAllocation> surplusOf(StockReservation reservation, Map<Long, Integer> sold) {
+        Map<Long, Integer> toGiveBack = new HashMap<>();
+        reservation.quantitiesByProduct().forEach((productId, quantity) -> {
+            int surplus = quantity - sold.getOrDefault(productId, 0);
+            if (surplus > 0) {
+                toGiveBack.put(productId, surplus);
+            }
+        });
+        List<BatchAllocation> allocations = reservation.allocations();
+        List<BatchAllocation> surplus = new ArrayList<>();
+        for (int i = allocations.size() - 1; i >= 0 && !toGiveBack.isEmpty(); i--) {
+            BatchAllocation allocation = allocations.get(i);
+            Integer remaining = toGiveBack.get(allocation.productId());
+            if (remaining == null) continue;
+            int quantity = Math.min(remaining, allocation.quantity());
+            surplus.add(new BatchAllocation(allocation.batchId(), allocation.productId(), quantity));
+            if (remaining == quantity) {
+                toGiveBack.remove(allocation.productId());
+            } else {
+                toGiveBack.put(allocation.productId(), remaining - quantity);
+            }
+        }
+        return surplus;
+    }
+}
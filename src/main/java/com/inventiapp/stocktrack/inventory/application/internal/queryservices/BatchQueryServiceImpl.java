@@ -5,11 +5,18 @@ import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Batch;
 import com.inventiapp.stocktrack.inventory.domain.model.queries.GetAllBatchesByProductIdQuery;
 import com.inventiapp.stocktrack.inventory.domain.model.queries.GetAllBatchesQuery;
 import com.inventiapp.stocktrack.inventory.domain.model.queries.GetBatchByIdQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetBatchesExpiringBetweenQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetExpiringBatchesQuery;
 import com.inventiapp.stocktrack.inventory.domain.services.BatchQueryService;
 import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.BatchRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,4 +48,20 @@ public class BatchQueryServiceImpl implements BatchQueryService {
     public List<Batch> handle(GetAllBatchesByProductIdQuery query) {
         return batchRepository.findByProductIdOrderByExpirationDateAsc(query.productId());
     }
+
+    @Override
+    public List<Batch> handle(GetBatchesExpiringBetweenQuery query) {
+        return batchRepository.findExpiringBetween(query.from(), query.to(), PageRequest.of(0, query.limit()))
+                .getContent();
+    }
+
+    @Override
+    public Page<Batch> handle(GetExpiringBatchesQuery query) {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zone);
+        return batchRepository.findExpiringBetween(
+                Date.from(today.atStartOfDay(zone).toInstant()),
+                Date.from(today.plusDays(query.withinDays() + 1L).atStartOfDay(zone).toInstant()),
+                PageRequest.of(query.page(), query.size()));
+    }
 }
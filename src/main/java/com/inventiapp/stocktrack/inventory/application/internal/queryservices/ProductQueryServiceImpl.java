@@ -3,9 +3,16 @@ package com.inventiapp.stocktrack.inventory.application.internal.queryservices;
 import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Product;
 import com.inventiapp.stocktrack.inventory.domain.model.queries.GetAllProductsQuery;
 import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductByIdQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductsByIdsQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductsPageQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductCursor;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductView;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductsPage;
 import com.inventiapp.stocktrack.inventory.domain.services.ProductQueryService;
 import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.ProductRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,7 +20,8 @@ import java.util.Optional;
 /**
  * Implementation of ProductQueryService.
  * @summary
- * Provides read operations for Product aggregate: list all and find by id.
+ * Provides read operations for Product aggregate: list all, find by id and page through the catalog.
+ * Catalog pages are keyset pages read as views, so they cost the same at any depth.
  * Read methods are marked as read-only transactions.
  * @since 1.0
  */
@@ -45,4 +53,47 @@ public class ProductQueryServiceImpl implements ProductQueryService {
     public List<Product> handle(GetAllProductsQuery query) {
         return productRepository.findAll();
     }
-}
\ No newline at end of file
+
+    /**
+     * Handle query to get the products with the given ids.
+     * @param query GetProductsByIdsQuery
+     * @return list of the products found
+     */
+    @Override
+    public List<Product> handle(GetProductsByIdsQuery query) {
+        if (query.productIds().isEmpty()) {
+            return List.of();
+        }
+        return productRepository.findAllById(query.productIds());
+    }
+
+    /**
+     * Handle query to get a page of the product catalog.
+     * @param query GetProductsPageQuery
+     * @return the page, with the cursor of the next one
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ProductsPage handle(GetProductsPageQuery query) {
+        var after = query.after();
+        Long afterId = after != null ? after.productId() : 0L;
+        // One row more than the limit tells whether there is a next page
+        var pageable = PageRequest.of(0, query.limit() + 1);
+        List<ProductView> products = switch (query.sort()) {
+            case NAME -> productRepository.findPageByName(after != null ? after.name() : "", afterId,
+                    query.categoryId(), query.providerId(), query.isActive(), query.minPrice(), query.maxPrice(),
+                    query.lowStockOnly(), pageable);
+            case PRICE -> productRepository.findPageByPrice(after != null ? after.unitPrice() : 0.0, afterId,
+                    query.categoryId(), query.providerId(), query.isActive(), query.minPrice(), query.maxPrice(),
+                    query.lowStockOnly(), pageable);
+            case ID -> productRepository.findPageById(afterId,
+                    query.categoryId(), query.providerId(), query.isActive(), query.minPrice(), query.maxPrice(),
+                    query.lowStockOnly(), pageable);
+        };
+        if (products.size() <= query.limit()) {
+            return new ProductsPage(products, null);
+        }
+        List<ProductView> page = products.subList(0, query.limit());
+        return new ProductsPage(page, ProductCursor.of(page.get(page.size() - 1)));
+    }
+}
@@ -0,0 +1,37 @@
+package com.inventiapp.stocktrack.inventory.application.internal.queryservices;
+
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.StockReservation;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetStockReservationByIdQuery;
+import com.inventiapp.stocktrack.inventory.domain.services.StockReservationQueryService;
+import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.StockReservationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * StockReservationQueryService Implementation
+ *
+ * @summary
+ * Implementation of the StockReservationQueryService interface.
+ * It is responsible for handling stock reservation queries.
+ * @since 1.0
+ */
+@Service
+public class StockReservationQueryServiceImpl implements StockReservationQueryService {
+
+    private final StockReservationRepository stockReservationRepository;
+
+    public StockReservationQueryServiceImpl(StockReservationRepository stockReservationRepository) {
+        this.stockReservationRepository = stockReservationRepository;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StockReservation> handle(GetStockReservationByIdQuery query) {
+        return stockReservationRepository.findById(query.reservationId());
+    }
+}
@@ -0,0 +1,8 @@
+package com.inventiapp.stocktrack.inventory.domain.exceptions;
+
+public class ProductBarcodeAlreadyExistsException extends RuntimeException {
+
+    public ProductBarcodeAlreadyExistsException(String barcode) {
+        super("Product with barcode '%s' already exists".formatted(barcode));
+    }
+}
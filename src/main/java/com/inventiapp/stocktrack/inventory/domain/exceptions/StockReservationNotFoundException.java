@@ -0,0 +1,19 @@
+package com.inventiapp.stocktrack.inventory.domain.exceptions;
+
+/**
+ * Exception thrown when a stock reservation is not found.
+ *
+ * @summary
+ * This exception is thrown when a stock reservation is not found in the database.
+ * @see RuntimeException
+ * @since 1.0
+ */
+public class StockReservationNotFoundException extends RuntimeException {
+    /**
+     * Constructor for the exception.
+     * @param reservationId The ID of the reservation that was not found.
+     */
+    public StockReservationNotFoundException(Long reservationId) {
+        super(String.format("Stock reservation with id '%s' not found", reservationId));
+    }
+}
@@ -5,6 +5,7 @@ import com.inventiapp.stocktrack.inventory.domain.model.commands.UpdateBatchComm
 import com.inventiapp.stocktrack.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,7 +19,10 @@ import java.util.Date;
  * Contains basic validation and inherits audit fields.
  */
 @Entity
-@Table(name = "batches")
+@Table(name = "batches", indexes = {
+        @Index(name = "idx_batches_expiration_date", columnList = "expiration_date"),
+        @Index(name = "idx_batches_product_id_expiration_date", columnList = "product_id, expiration_date")
+})
 @Getter
 @NoArgsConstructor
 public class Batch extends AuditableAbstractAggregateRoot<Batch> {
@@ -2,9 +2,14 @@ package com.inventiapp.stocktrack.inventory.domain.model.aggregates;
 
 import com.inventiapp.stocktrack.inventory.domain.model.commands.CreateProductCommand;
 import com.inventiapp.stocktrack.inventory.domain.model.commands.UpdateProductCommand;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.Barcode;
 import com.inventiapp.stocktrack.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
 import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,7 +22,12 @@ import org.apache.logging.log4j.util.Strings;
  * Contains basic validation and inherits audit fields.
  */
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_name_id", columnList = "name, id"),
+        @Index(name = "idx_products_unit_price_id", columnList = "unit_price, id"),
+        @Index(name = "idx_products_category_id_name_id", columnList = "category_id, name, id"),
+        @Index(name = "idx_products_provider_id_name_id", columnList = "provider_id, name, id")
+})
 @Getter
 @NoArgsConstructor
 public class Product extends AuditableAbstractAggregateRoot<Product> {
@@ -43,6 +53,28 @@ public class Product extends AuditableAbstractAggregateRoot<Product> {
     @Column(nullable = false)
     private Boolean isActive;
 
+    /**
+     * Barcode or SKU as a value object, unique across products; null when the product has none.
+     */
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "value", column = @Column(name = "barcode", length = Barcode.MAX_LENGTH, nullable = true, unique = true))
+    })
+    private Barcode barcode;
+
+    /**
+     * Units in stock: the units of all its batches plus the units held by active reservations.
+     * Kept by ProductStockLedger in the transaction that changes them, never written from the entity.
+     */
+    @Column(nullable = false, updatable = false)
+    private Integer onHand = 0;
+
+    /**
+     * Units of onHand held by active reservations.
+     */
+    @Column(nullable = false, updatable = false)
+    private Integer reserved = 0;
+
     /**
      * Creates a new Product aggregate from the CreateProductCommand.
      *
@@ -78,6 +110,7 @@ public class Product extends AuditableAbstractAggregateRoot<Product> {
         this.minStock = command.minStock();
         this.unitPrice = command.unitPrice();
         this.isActive = command.isActive();
+        this.barcode = command.barcode() != null ? new Barcode(command.barcode()) : null;
     }
 
     /**
@@ -118,6 +151,25 @@ public class Product extends AuditableAbstractAggregateRoot<Product> {
         this.minStock = command.minStock();
         this.unitPrice = command.unitPrice();
         this.isActive = command.isActive();
+        this.barcode = command.barcode() != null ? new Barcode(command.barcode()) : null;
+    }
+
+    /**
+     * Gets the barcode as text.
+     *
+     * @return the barcode, or null if the product has none
+     */
+    public String getBarcodeValue() {
+        return barcode != null ? barcode.value() : null;
+    }
+
+    /**
+     * Gets the units in stock that are not held by a reservation.
+     *
+     * @return onHand minus reserved
+     */
+    public int getAvailable() {
+        return onHand - reserved;
     }
 
     /**
@@ -0,0 +1,127 @@
+package com.inventiapp.stocktrack.inventory.domain.model.aggregates;
+
+import com.inventiapp.stocktrack.inventory.domain.model.entities.StockReservationLine;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.BatchAllocation;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.StockReservationStatus;
+import com.inventiapp.stocktrack.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * StockReservation Aggregate Root
+ *
+ * @summary
+ * Represents units held for a cart until it is sold or the reservation expires.
+ * The units are taken from their batches when the reservation is created, so they no longer count
+ * as available stock; the lines record which batches they came from so they can be given back.
+ * @since 1.0
+ */
+@Entity
+@Table(name = "stock_reservations",
+        indexes = @Index(name = "idx_stock_reservations_status_expires_at", columnList = "status, expires_at"))
+@Getter
+@NoArgsConstructor
+public class StockReservation extends AuditableAbstractAggregateRoot<StockReservation> {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StockReservationStatus status;
+
+    @Column(nullable = false)
+    private Date expiresAt;
+
+    @OneToMany(
+            mappedBy = "reservation",
+            cascade = CascadeType.ALL,
+            orphanRemoval = true,
+            fetch = FetchType.LAZY
+    )
+    private List<StockReservationLine> lines = new ArrayList<>();
+
+    /**
+     * Constructor for StockReservation.
+     * @param expiresAt The instant the units are given back if the reservation is still active
+     * @param allocations The units taken from each batch
+     */
+    public StockReservation(Date expiresAt, List<BatchAllocation> allocations) {
+        if (expiresAt == null) {
+            throw new IllegalArgumentException("Expiration is required");
+        }
+        if (allocations == null || allocations.isEmpty()) {
+            throw new IllegalArgumentException("Reservation must hold at least one product");
+        }
+        this.status = StockReservationStatus.ACTIVE;
+        this.expiresAt = expiresAt;
+        this.lines = new ArrayList<>();
+        for (BatchAllocation allocation : allocations) {
+            this.lines.add(new StockReservationLine(this, allocation));
+        }
+    }
+
+    /**
+     * @param now The current instant
+     * @return true if the reservation still holds its units and has not timed out
+     */
+    public boolean isActiveAt(Date now) {
+        return status == StockReservationStatus.ACTIVE && expiresAt.after(now);
+    }
+
+    /**
+     * Marks the units as sold.
+     * @param now The current instant
+     * @throws IllegalStateException if the reservation is no longer active or has timed out
+     */
+    public void confirm(Date now) {
+        if (!isActiveAt(now)) {
+            throw new IllegalStateException("Reservation " + getId() + " is not active");
+        }
+        this.status = StockReservationStatus.CONFIRMED;
+    }
+
+    /**
+     * Marks the units as given back on request.
+     * @throws IllegalStateException if the reservation is no longer active
+     */
+    public void release() {
+        requireActive();
+        this.status = StockReservationStatus.RELEASED;
+    }
+
+    /**
+     * Marks the units as given back because the reservation timed out.
+     * @throws IllegalStateException if the reservation is no longer active
+     */
+    public void expire() {
+        requireActive();
+        this.status = StockReservationStatus.EXPIRED;
+    }
+
+    /**
+     * @return the units held in each batch
+     */
+    public List<BatchAllocation> allocations() {
+        return lines.stream().map(StockReservationLine::toAllocation).toList();
+    }
+
+    /**
+     * @return the units held, keyed by product id
+     */
+    public Map<Long, Integer> quantitiesByProduct() {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        lines.forEach(line -> quantities.merge(line.getProductId(), line.getQuantity(), Integer::sum));
+        return quantities;
+    }
+
+    private void requireActive() {
+        if (status != StockReservationStatus.ACTIVE) {
+            throw new IllegalStateException("Reservation " + getId() + " is " + status.name().toLowerCase());
+        }
+    }
+}
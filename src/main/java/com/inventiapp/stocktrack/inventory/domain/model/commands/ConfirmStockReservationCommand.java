@@ -0,0 +1,39 @@
+package com.inventiapp.stocktrack.inventory.domain.model.commands;
+
+import java.util.Map;
+
+/**
+ * Command to turn the units held by a reservation into sold stock.
+ *
+ * @param reservationId The id of the reservation to confirm. Cannot be null.
+ * @param quantitiesByProduct The units actually sold, keyed by product id; units held beyond them are
+ *                            given back and missing ones are taken from the batches. Null to sell exactly
+ *                            what is held.
+ * @since 1.0
+ */
+public record ConfirmStockReservationCommand(Long reservationId, Map<Long, Integer> quantitiesByProduct) {
+    public ConfirmStockReservationCommand {
+        if (reservationId == null || reservationId <= 0) {
+            throw new IllegalArgumentException("reservationId must be a positive number");
+        }
+        if (quantitiesByProduct != null) {
+            quantitiesByProduct.forEach((productId, quantity) -> {
+                if (productId == null || productId <= 0) {
+                    throw new IllegalArgumentException("Product ID must be a positive number");
+                }
+                if (quantity == null || quantity <= 0) {
+                    throw new IllegalArgumentException("Quantity must be greater than 0");
+                }
+            });
+            quantitiesByProduct = Map.copyOf(quantitiesByProduct);
+        }
+    }
+
+    /**
+     * Confirms exactly the units held.
+     * @param reservationId The id of the reservation to confirm
+     */
+    public ConfirmStockReservationCommand(Long reservationId) {
+        this(reservationId, null);
+    }
+}
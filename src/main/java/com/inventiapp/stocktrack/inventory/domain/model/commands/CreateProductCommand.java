@@ -10,6 +10,7 @@ package com.inventiapp.stocktrack.inventory.domain.model.commands;
  * @param minStock   the minimum stock threshold (alert level). Cannot be null or negative.
  * @param unitPrice  the unit price. Cannot be null and must be greater than 0.
  * @param isActive   whether the product is active (available). Cannot be null.
+ * @param barcode     the barcode or SKU scanners read. Can be null or blank for none.
  * @since 1.0
  */
 public record CreateProductCommand(
@@ -19,7 +20,8 @@ public record CreateProductCommand(
         String providerId,
         Integer minStock,
         Double unitPrice,
-        Boolean isActive
+        Boolean isActive,
+        String barcode
 ) {
     /**
      * Constructor validation.
@@ -45,5 +47,6 @@ public record CreateProductCommand(
         if (isActive == null) {
             throw new IllegalArgumentException("isActive cannot be null");
         }
+        barcode = barcode == null || barcode.isBlank() ? null : barcode.trim();
     }
 }
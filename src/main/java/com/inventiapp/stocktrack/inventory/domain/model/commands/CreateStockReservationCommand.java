@@ -0,0 +1,31 @@
+package com.inventiapp.stocktrack.inventory.domain.model.commands;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Command to hold stock for a cart.
+ *
+ * @param quantitiesByProduct The units to hold, keyed by product id. Cannot be empty.
+ * @param ttl How long the units are held; null to use the configured default.
+ * @since 1.0
+ */
+public record CreateStockReservationCommand(Map<Long, Integer> quantitiesByProduct, Duration ttl) {
+    public CreateStockReservationCommand {
+        if (quantitiesByProduct == null || quantitiesByProduct.isEmpty()) {
+            throw new IllegalArgumentException("Reservation must hold at least one product");
+        }
+        quantitiesByProduct.forEach((productId, quantity) -> {
+            if (productId == null || productId <= 0) {
+                throw new IllegalArgumentException("Product ID must be a positive number");
+            }
+            if (quantity == null || quantity <= 0) {
+                throw new IllegalArgumentException("Quantity must be greater than 0");
+            }
+        });
+        if (ttl != null && (ttl.isNegative() || ttl.isZero())) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        quantitiesByProduct = Map.copyOf(quantitiesByProduct);
+    }
+}
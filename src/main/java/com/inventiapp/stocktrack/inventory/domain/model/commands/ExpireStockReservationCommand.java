@@ -0,0 +1,16 @@
+package com.inventiapp.stocktrack.inventory.domain.model.commands;
+
+/**
+ * Command to give back the units of a reservation that has timed out.
+ * Reservations that are no longer active, or not yet due, are left untouched.
+ *
+ * @param reservationId The id of the reservation to expire. Cannot be null.
+ * @since 1.0
+ */
+public record ExpireStockReservationCommand(Long reservationId) {
+    public ExpireStockReservationCommand {
+        if (reservationId == null || reservationId <= 0) {
+            throw new IllegalArgumentException("reservationId must be a positive number");
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.inventiapp.stocktrack.inventory.domain.model.commands;
+
+/**
+ * Command to give back the units held by a reservation.
+ *
+ * @param reservationId The id of the reservation to release. Cannot be null.
+ * @since 1.0
+ */
+public record ReleaseStockReservationCommand(Long reservationId) {
+    public ReleaseStockReservationCommand {
+        if (reservationId == null || reservationId <= 0) {
+            throw new IllegalArgumentException("reservationId must be a positive number");
+        }
+    }
+}
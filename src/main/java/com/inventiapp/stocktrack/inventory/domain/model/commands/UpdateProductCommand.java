@@ -11,6 +11,7 @@ package com.inventiapp.stocktrack.inventory.domain.model.commands;
  * @param minStock    the minimum stock threshold (alert level). Cannot be null or negative.
  * @param unitPrice   the unit price. Cannot be null and must be greater than 0.
  * @param isActive    whether the product is active. Cannot be null.
+ * @param barcode     the barcode or SKU scanners read. Can be null or blank for none.
  */
 public record UpdateProductCommand(
         Long productId,
@@ -20,7 +21,8 @@ public record UpdateProductCommand(
         String providerId,
         Integer minStock,
         Double unitPrice,
-        Boolean isActive
+        Boolean isActive,
+        String barcode
 ) {
     public UpdateProductCommand {
         if (productId == null || productId <= 0) {
@@ -44,5 +46,6 @@ public record UpdateProductCommand(
         if (isActive == null) {
             throw new IllegalArgumentException("isActive cannot be null");
         }
+        barcode = barcode == null || barcode.isBlank() ? null : barcode.trim();
     }
 }
@@ -0,0 +1,60 @@
+package com.inventiapp.stocktrack.inventory.domain.model.entities;
+
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.StockReservation;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.BatchAllocation;
+import com.inventiapp.stocktrack.shared.domain.model.entities.AuditableModel;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * StockReservationLine Entity
+ *
+ * @summary
+ * Represents the units of a product a reservation holds in one batch.
+ * @since 1.0
+ */
+@Entity
+@Table(name = "stock_reservation_lines")
+@Getter
+@NoArgsConstructor
+public class StockReservationLine extends AuditableModel {
+
+    @Column(nullable = false)
+    private Long batchId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "reservation_id", nullable = false)
+    private StockReservation reservation;
+
+    /**
+     * Constructor for StockReservationLine.
+     * @param reservation The reservation this line belongs to
+     * @param allocation The units held, as taken from the batch
+     */
+    public StockReservationLine(StockReservation reservation, BatchAllocation allocation) {
+        if (reservation == null) {
+            throw new IllegalArgumentException("Reservation cannot be null");
+        }
+        if (allocation == null || allocation.quantity() <= 0) {
+            throw new IllegalArgumentException("Quantity must be greater than 0");
+        }
+        this.reservation = reservation;
+        this.batchId = allocation.batchId();
+        this.productId = allocation.productId();
+        this.quantity = allocation.quantity();
+    }
+
+    /**
+     * @return the units held, as an allocation that can be given back to the batch
+     */
+    public BatchAllocation toAllocation() {
+        return new BatchAllocation(batchId, productId, quantity);
+    }
+}
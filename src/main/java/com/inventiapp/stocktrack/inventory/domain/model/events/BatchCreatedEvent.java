@@ -1,5 +1,7 @@
 package com.inventiapp.stocktrack.inventory.domain.model.events;
 
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Batch;
+import com.inventiapp.stocktrack.shared.domain.model.events.DomainEvent;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
@@ -13,7 +15,7 @@ import java.util.Date;
  * @since 1.0
  */
 @Getter
-public class BatchCreatedEvent extends ApplicationEvent {
+public class BatchCreatedEvent extends ApplicationEvent implements DomainEvent {
     private final Long batchId;
     private final Long productId;
     private final Integer quantity;
@@ -43,5 +45,18 @@ public class BatchCreatedEvent extends ApplicationEvent {
         this.expirationDate = expirationDate;
         this.receptionDate = receptionDate;
     }
-}
 
+    /**
+     * Gets the id of the created batch.
+     * The event is registered before the aggregate is saved, so when no id was captured
+     * it is resolved from the source aggregate once the database has assigned it.
+     *
+     * @return the batch id
+     */
+    public Long getBatchId() {
+        if (batchId == null && getSource() instanceof Batch batch) {
+            return batch.getId();
+        }
+        return batchId;
+    }
+}
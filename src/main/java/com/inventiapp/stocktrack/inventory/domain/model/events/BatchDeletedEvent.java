@@ -1,5 +1,6 @@
 package com.inventiapp.stocktrack.inventory.domain.model.events;
 
+import com.inventiapp.stocktrack.shared.domain.model.events.DomainEvent;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
@@ -7,22 +8,28 @@ import org.springframework.context.ApplicationEvent;
  * Event fired when a batch is deleted.
  * @summary
  * This event is published after a batch aggregate is removed.
- * It contains the id of the removed batch.
+ * It contains the id of the removed batch together with the product and quantity
+ * it held, so consumers can discount the removed stock.
  * @since 1.0
  */
 @Getter
-public class BatchDeletedEvent extends ApplicationEvent {
+public class BatchDeletedEvent extends ApplicationEvent implements DomainEvent {
     private final Long batchId;
+    private final Long productId;
+    private final Integer quantity;
 
     /**
      * Constructor.
      *
      * @param source    the event source (usually the aggregate or service)
      * @param batchId   the id of the deleted batch
+     * @param productId the product the batch belonged to
+     * @param quantity  the quantity the batch held when it was deleted
      */
-    public BatchDeletedEvent(Object source, Long batchId) {
+    public BatchDeletedEvent(Object source, Long batchId, Long productId, Integer quantity) {
         super(source);
         this.batchId = batchId;
+        this.productId = productId;
+        this.quantity = quantity;
     }
 }
-
@@ -0,0 +1,51 @@
+package com.inventiapp.stocktrack.inventory.domain.model.events;
+
+import com.inventiapp.stocktrack.shared.domain.model.events.DomainEvent;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event fired when the quantity of a batch changes.
+ * @summary
+ * This event is published after a batch aggregate is updated, either from the batches API
+ * or when a sale consumes stock. It carries the previous and the new quantity so consumers
+ * can apply the difference without reading the batch again.
+ * @since 1.0
+ */
+@Getter
+public class BatchUpdatedEvent extends ApplicationEvent implements DomainEvent {
+    private final Long batchId;
+    private final Long productId;
+    private final Integer previousQuantity;
+    private final Integer quantity;
+
+    /**
+     * Constructor.
+     *
+     * @param source           the event source (usually the aggregate or service)
+     * @param batchId          the id of the updated batch
+     * @param productId        the product the batch belongs to
+     * @param previousQuantity the quantity before the update
+     * @param quantity         the quantity after the update
+     */
+    public BatchUpdatedEvent(Object source,
+                             Long batchId,
+                             Long productId,
+                             Integer previousQuantity,
+                             Integer quantity) {
+        super(source);
+        this.batchId = batchId;
+        this.productId = productId;
+        this.previousQuantity = previousQuantity;
+        this.quantity = quantity;
+    }
+
+    /**
+     * Gets the stock difference introduced by the update.
+     *
+     * @return new quantity minus previous quantity
+     */
+    public int getQuantityDelta() {
+        return quantity - previousQuantity;
+    }
+}
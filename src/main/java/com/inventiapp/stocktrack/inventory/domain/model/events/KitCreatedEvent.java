@@ -1,5 +1,7 @@
 package com.inventiapp.stocktrack.inventory.domain.model.events;
 
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Kit;
+import com.inventiapp.stocktrack.shared.domain.model.events.DomainEvent;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
@@ -12,7 +14,7 @@ import org.springframework.context.ApplicationEvent;
  * @since 1.0
  */
 @Getter
-public class KitCreatedEvent extends ApplicationEvent {
+public class KitCreatedEvent extends ApplicationEvent implements DomainEvent {
     private final Long kitId;
     private final String name;
 
@@ -28,5 +30,18 @@ public class KitCreatedEvent extends ApplicationEvent {
         this.kitId = kitId;
         this.name = name;
     }
-}
 
+    /**
+     * Gets the id of the created kit.
+     * The event is registered before the aggregate is saved, so when no id was captured
+     * it is resolved from the source aggregate once the database has assigned it.
+     *
+     * @return the kit id
+     */
+    public Long getKitId() {
+        if (kitId == null && getSource() instanceof Kit kit) {
+            return kit.getId();
+        }
+        return kitId;
+    }
+}
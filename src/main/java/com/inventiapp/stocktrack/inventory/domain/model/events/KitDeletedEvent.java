@@ -1,5 +1,6 @@
 package com.inventiapp.stocktrack.inventory.domain.model.events;
 
+import com.inventiapp.stocktrack.shared.domain.model.events.DomainEvent;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
@@ -12,7 +13,7 @@ import org.springframework.context.ApplicationEvent;
  * @since 1.0
  */
 @Getter
-public class KitDeletedEvent extends ApplicationEvent {
+public class KitDeletedEvent extends ApplicationEvent implements DomainEvent {
     private final Long kitId;
 
     /**
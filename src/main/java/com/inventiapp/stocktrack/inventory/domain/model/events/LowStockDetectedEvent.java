@@ -0,0 +1,38 @@
+package com.inventiapp.stocktrack.inventory.domain.model.events;
+
+import com.inventiapp.stocktrack.shared.domain.model.events.DomainEvent;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event fired when a product enters the low stock alert set.
+ * @summary
+ * This event is published by the low stock alert engine once a committed change leaves an active
+ * product with less stock on hand than its minimum stock, and only on that crossing: further
+ * changes that keep the product below its minimum stock do not publish it again.
+ * @since 1.0
+ */
+@Getter
+public class LowStockDetectedEvent extends ApplicationEvent implements DomainEvent {
+    private final Long productId;
+    private final String productName;
+    private final Integer onHand;
+    private final Integer minStock;
+
+    /**
+     * Constructor.
+     *
+     * @param source      the event source (usually the alert engine)
+     * @param productId   the id of the product
+     * @param productName the name of the product
+     * @param onHand      the stock on hand after the change
+     * @param minStock    the minimum stock of the product
+     */
+    public LowStockDetectedEvent(Object source, Long productId, String productName, Integer onHand, Integer minStock) {
+        super(source);
+        this.productId = productId;
+        this.productName = productName;
+        this.onHand = onHand;
+        this.minStock = minStock;
+    }
+}
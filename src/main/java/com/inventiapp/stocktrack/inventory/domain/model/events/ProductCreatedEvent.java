@@ -1,5 +1,7 @@
 package com.inventiapp.stocktrack.inventory.domain.model.events;
 
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Product;
+import com.inventiapp.stocktrack.shared.domain.model.events.DomainEvent;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
@@ -10,7 +12,7 @@ import org.springframework.context.ApplicationEvent;
  * It contains the product id and the product snapshot (basic fields) useful for reporting.
  */
 @Getter
-public class ProductCreatedEvent extends ApplicationEvent {
+public class ProductCreatedEvent extends ApplicationEvent implements DomainEvent {
     private final Long productId;
     private final String name;
     private final String description;
@@ -19,6 +21,7 @@ public class ProductCreatedEvent extends ApplicationEvent {
     private final Integer minStock;
     private final Double unitPrice;
     private final Boolean isActive;
+    private final String barcode;
 
     /**
      * Constructor.
@@ -32,6 +35,7 @@ public class ProductCreatedEvent extends ApplicationEvent {
      * @param minStock      minimum quantity of the product
      * @param unitPrice     unit price of the product
      * @param isActive      product status
+     * @param barcode       product barcode, or null
      */
     public ProductCreatedEvent(Object source,
                                Long productId,
@@ -41,7 +45,8 @@ public class ProductCreatedEvent extends ApplicationEvent {
                                String providerId,
                                Integer minStock,
                                Double unitPrice,
-                               Boolean isActive) {
+                               Boolean isActive,
+                               String barcode) {
         super(source);
         this.productId = productId;
         this.name = name;
@@ -51,5 +56,20 @@ public class ProductCreatedEvent extends ApplicationEvent {
         this.minStock = minStock;
         this.unitPrice = unitPrice;
         this.isActive = isActive;
+        this.barcode = barcode;
+    }
+
+    /**
+     * Gets the id of the created product.
+     * The event is registered before the aggregate is saved, so when no id was captured
+     * it is resolved from the source aggregate once the database has assigned it.
+     *
+     * @return the product id
+     */
+    public Long getProductId() {
+        if (productId == null && getSource() instanceof Product product) {
+            return product.getId();
+        }
+        return productId;
     }
 }
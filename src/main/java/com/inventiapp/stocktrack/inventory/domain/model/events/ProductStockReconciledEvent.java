@@ -0,0 +1,56 @@
+package com.inventiapp.stocktrack.inventory.domain.model.events;
+
+import com.inventiapp.stocktrack.shared.domain.model.events.DomainEvent;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event fired when the stock columns of a product are rewritten because they drifted from its
+ * batches and reservations.
+ * @summary
+ * Published by the stock reconciliation in the transaction that rewrites the columns, e.g. after
+ * batches were changed directly in the database. Consumers that follow batch events drifted by the
+ * same amount, so they apply the difference of available units.
+ * @since 1.0
+ */
+@Getter
+public class ProductStockReconciledEvent extends ApplicationEvent implements DomainEvent {
+    private final Long productId;
+    private final Integer previousOnHand;
+    private final Integer previousReserved;
+    private final Integer onHand;
+    private final Integer reserved;
+
+    /**
+     * Constructor.
+     *
+     * @param source           the event source (usually the aggregate or service)
+     * @param productId        the id of the product
+     * @param previousOnHand   the units in stock before the rewrite
+     * @param previousReserved the reserved units before the rewrite
+     * @param onHand           the units in stock after the rewrite
+     * @param reserved         the reserved units after the rewrite
+     */
+    public ProductStockReconciledEvent(Object source,
+                                       Long productId,
+                                       Integer previousOnHand,
+                                       Integer previousReserved,
+                                       Integer onHand,
+                                       Integer reserved) {
+        super(source);
+        this.productId = productId;
+        this.previousOnHand = previousOnHand;
+        this.previousReserved = previousReserved;
+        this.onHand = onHand;
+        this.reserved = reserved;
+    }
+
+    /**
+     * Gets the difference of units not held by reservations introduced by the rewrite.
+     *
+     * @return new available units minus previous available units
+     */
+    public int getAvailableDelta() {
+        return (onHand - reserved) - (previousOnHand - previousReserved);
+    }
+}
@@ -1,5 +1,6 @@
 package com.inventiapp.stocktrack.inventory.domain.model.events;
 
+import com.inventiapp.stocktrack.shared.domain.model.events.DomainEvent;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
@@ -11,7 +12,7 @@ import org.springframework.context.ApplicationEvent;
  * @since 1.0
  */
 @Getter
-public class ProductUpdatedEvent extends ApplicationEvent {
+public class ProductUpdatedEvent extends ApplicationEvent implements DomainEvent {
 
     private final Long productId;
     private final String name;
@@ -21,6 +22,7 @@ public class ProductUpdatedEvent extends ApplicationEvent {
     private final Integer minStock;
     private final Double unitPrice;
     private final Boolean isActive;
+    private final String barcode;
 
     /**
      * Constructor.
@@ -34,6 +36,7 @@ public class ProductUpdatedEvent extends ApplicationEvent {
      * @param minStock    updated minimum stock level
      * @param unitPrice   updated unit price
      * @param isActive    updated active status
+     * @param barcode     updated barcode, or null
      */
     public ProductUpdatedEvent(Object source,
                                Long productId,
@@ -43,7 +46,8 @@ public class ProductUpdatedEvent extends ApplicationEvent {
                                String providerId,
                                Integer minStock,
                                Double unitPrice,
-                               Boolean isActive) {
+                               Boolean isActive,
+                               String barcode) {
         super(source);
         this.productId = productId;
         this.name = name;
@@ -53,5 +57,6 @@ public class ProductUpdatedEvent extends ApplicationEvent {
         this.minStock = minStock;
         this.unitPrice = unitPrice;
         this.isActive = isActive;
+        this.barcode = barcode;
     }
 }
\ No newline at end of file
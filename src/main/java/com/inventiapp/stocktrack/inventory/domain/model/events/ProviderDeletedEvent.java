@@ -1,5 +1,6 @@
 package com.inventiapp.stocktrack.inventory.domain.model.events;
 
+import com.inventiapp.stocktrack.shared.domain.model.events.DomainEvent;
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
@@ -11,7 +12,7 @@ import org.springframework.context.ApplicationEvent;
  * @since 1.0
  */
 @Getter
-public class ProviderDeletedEvent extends ApplicationEvent {
+public class ProviderDeletedEvent extends ApplicationEvent implements DomainEvent {
     private final Long providerId;
     private final String reason;
 
@@ -0,0 +1,35 @@
+package com.inventiapp.stocktrack.inventory.domain.model.events;
+
+import com.inventiapp.stocktrack.shared.domain.model.events.DomainEvent;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event fired when a product leaves the low stock alert set.
+ * @summary
+ * This event is published by the low stock alert engine once a committed change clears the alert
+ * of a product: its stock on hand reached the minimum stock, the minimum stock was lowered, or the
+ * product was deactivated or deleted.
+ * @since 1.0
+ */
+@Getter
+public class StockRecoveredEvent extends ApplicationEvent implements DomainEvent {
+    private final Long productId;
+    private final Integer onHand;
+    private final Integer minStock;
+
+    /**
+     * Constructor.
+     *
+     * @param source    the event source (usually the alert engine)
+     * @param productId the id of the product
+     * @param onHand    the stock on hand after the change
+     * @param minStock  the minimum stock of the product
+     */
+    public StockRecoveredEvent(Object source, Long productId, Integer onHand, Integer minStock) {
+        super(source);
+        this.productId = productId;
+        this.onHand = onHand;
+        this.minStock = minStock;
+    }
+}
@@ -0,0 +1,32 @@
+package com.inventiapp.stocktrack.inventory.domain.model.events;
+
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.StockReservationStatus;
+import com.inventiapp.stocktrack.shared.domain.model.events.DomainEvent;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Event fired when a stock reservation stops holding its units.
+ * @summary
+ * This event is published after a reservation is confirmed, released or expired.
+ * It contains the reservation id and its final status.
+ * @since 1.0
+ */
+@Getter
+public class StockReservationClosedEvent extends ApplicationEvent implements DomainEvent {
+    private final Long reservationId;
+    private final StockReservationStatus status;
+
+    /**
+     * Constructor.
+     *
+     * @param source        the event source (usually the aggregate or service)
+     * @param reservationId the id of the reservation
+     * @param status        the final status of the reservation
+     */
+    public StockReservationClosedEvent(Object source, Long reservationId, StockReservationStatus status) {
+        super(source);
+        this.reservationId = reservationId;
+        this.status = status;
+    }
+}
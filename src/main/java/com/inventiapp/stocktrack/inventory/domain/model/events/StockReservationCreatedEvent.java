@@ -0,0 +1,48 @@
+package com.inventiapp.stocktrack.inventory.domain.model.events;
+
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.StockReservation;
+import com.inventiapp.stocktrack.shared.domain.model.events.DomainEvent;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Date;
+
+/**
+ * Event fired when stock is reserved.
+ * @summary
+ * This event is published after a stock reservation is created and its units taken from their batches.
+ * It contains the reservation id and the instant the units are given back if it is still active.
+ * @since 1.0
+ */
+@Getter
+public class StockReservationCreatedEvent extends ApplicationEvent implements DomainEvent {
+    private final Long reservationId;
+    private final Date expiresAt;
+
+    /**
+     * Constructor.
+     *
+     * @param source        the event source (usually the aggregate or service)
+     * @param reservationId the id of the created reservation
+     * @param expiresAt     the instant the reservation expires
+     */
+    public StockReservationCreatedEvent(Object source, Long reservationId, Date expiresAt) {
+        super(source);
+        this.reservationId = reservationId;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Gets the id of the created reservation.
+     * The event is registered before the aggregate is saved, so when no id was captured
+     * it is resolved from the source aggregate once the database has assigned it.
+     *
+     * @return the reservation id
+     */
+    public Long getReservationId() {
+        if (reservationId == null && getSource() instanceof StockReservation reservation) {
+            return reservation.getId();
+        }
+        return reservationId;
+    }
+}
@@ -0,0 +1,6 @@
+package com.inventiapp.stocktrack.inventory.domain.model.queries;
+
+/**
+ * Query to count the open low stock alerts.
+ */
+public record CountLowStockAlertsQuery() {}
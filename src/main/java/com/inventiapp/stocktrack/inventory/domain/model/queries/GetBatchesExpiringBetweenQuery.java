@@ -0,0 +1,29 @@
+package com.inventiapp.stocktrack.inventory.domain.model.queries;
+
+import java.util.Date;
+
+/**
+ * Query to get the batches that expire within a date range, soonest first.
+ *
+ * @param from  inclusive lower bound of the expiration date
+ * @param to    exclusive upper bound of the expiration date
+ * @param limit maximum number of batches to return
+ */
+public record GetBatchesExpiringBetweenQuery(Date from, Date to, int limit) {
+    /**
+     * Constructor validation.
+     *
+     * @throws IllegalArgumentException if the range is missing or inverted, or the limit is not positive.
+     */
+    public GetBatchesExpiringBetweenQuery {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("from and to are required");
+        }
+        if (from.after(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be greater than 0");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.inventiapp.stocktrack.inventory.domain.model.queries;
+
+/**
+ * Query to get a page of the batches that expire from today up to a number of days ahead, soonest first.
+ *
+ * @param withinDays number of days ahead to look, 0 meaning batches expiring today only
+ * @param page       zero-based page number
+ * @param size       number of batches per page
+ */
+public record GetExpiringBatchesQuery(int withinDays, int page, int size) {
+
+    public static final int MAX_WITHIN_DAYS = 3650;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Constructor validation.
+     *
+     * @throws IllegalArgumentException if withinDays, page or size are out of range.
+     */
+    public GetExpiringBatchesQuery {
+        if (withinDays < 0 || withinDays > MAX_WITHIN_DAYS) {
+            throw new IllegalArgumentException("withinDays must be between 0 and " + MAX_WITHIN_DAYS);
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.inventiapp.stocktrack.inventory.domain.model.queries;
+
+/**
+ * Query to get the open low stock alerts, ordered by product id.
+ *
+ * @param limit maximum number of alerts to return
+ */
+public record GetLowStockAlertsQuery(int limit) {
+    /**
+     * Constructor validation.
+     *
+     * @throws IllegalArgumentException if the limit is not positive.
+     */
+    public GetLowStockAlertsQuery {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be greater than 0");
+        }
+    }
+}
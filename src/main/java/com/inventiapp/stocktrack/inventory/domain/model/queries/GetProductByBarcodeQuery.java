@@ -0,0 +1,16 @@
+package com.inventiapp.stocktrack.inventory.domain.model.queries;
+
+/**
+ * Query to resolve a scanned barcode to its product.
+ *
+ * @param barcode the barcode, as read by the scanner
+ */
+public record GetProductByBarcodeQuery(String barcode) {
+
+    public GetProductByBarcodeQuery {
+        if (barcode == null || barcode.isBlank()) {
+            throw new IllegalArgumentException("barcode cannot be null or blank");
+        }
+        barcode = barcode.trim();
+    }
+}
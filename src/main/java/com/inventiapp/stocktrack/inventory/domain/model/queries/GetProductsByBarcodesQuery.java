@@ -0,0 +1,26 @@
+package com.inventiapp.stocktrack.inventory.domain.model.queries;
+
+import java.util.List;
+
+/**
+ * Query to resolve every barcode of a scanned basket in one call.
+ *
+ * @param barcodes the barcodes, in scan order; the same barcode may appear more than once
+ */
+public record GetProductsByBarcodesQuery(List<String> barcodes) {
+
+    public static final int MAX_BARCODES = 500;
+
+    public GetProductsByBarcodesQuery {
+        if (barcodes == null || barcodes.isEmpty()) {
+            throw new IllegalArgumentException("barcodes cannot be null or empty");
+        }
+        if (barcodes.size() > MAX_BARCODES) {
+            throw new IllegalArgumentException("at most " + MAX_BARCODES + " barcodes can be resolved at once");
+        }
+        if (barcodes.stream().anyMatch(barcode -> barcode == null || barcode.isBlank())) {
+            throw new IllegalArgumentException("barcodes cannot contain null or blank values");
+        }
+        barcodes = barcodes.stream().map(String::trim).toList();
+    }
+}
@@ -0,0 +1,27 @@
+package com.inventiapp.stocktrack.inventory.domain.model.queries;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Query to get the products with the given ids.
+ *
+ * @param productIds Product ids; duplicates are ignored.
+ */
+public record GetProductsByIdsQuery(Collection<Long> productIds) {
+    /**
+     * Constructor validation.
+     *
+     * @param productIds Product ids. Must not be null nor contain null or non-positive ids.
+     * @throws IllegalArgumentException if productIds is null or contains an invalid id.
+     */
+    public GetProductsByIdsQuery {
+        if (productIds == null) {
+            throw new IllegalArgumentException("productIds is required");
+        }
+        if (productIds.stream().anyMatch(productId -> productId == null || productId <= 0)) {
+            throw new IllegalArgumentException("productIds must be greater than 0");
+        }
+        productIds = Set.copyOf(productIds);
+    }
+}
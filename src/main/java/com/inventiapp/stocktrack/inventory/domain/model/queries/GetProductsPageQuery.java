@@ -0,0 +1,50 @@
+package com.inventiapp.stocktrack.inventory.domain.model.queries;
+
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductCursor;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductSort;
+
+/**
+ * Query to get a page of the product catalog, optionally filtered.
+ *
+ * @param categoryId   category filter, or null
+ * @param providerId   provider filter, or null
+ * @param isActive     active filter, or null for both
+ * @param minPrice     minimum unit price (inclusive), or null
+ * @param maxPrice     maximum unit price (inclusive), or null
+ * @param lowStockOnly only products whose available stock is below their minimum stock
+ * @param sort         order of the products
+ * @param after        cursor returned with the previous page, or null for the first page
+ * @param limit        maximum number of products in the page
+ */
+public record GetProductsPageQuery(String categoryId, String providerId, Boolean isActive,
+                                   Double minPrice, Double maxPrice, boolean lowStockOnly,
+                                   ProductSort sort, ProductCursor after, int limit) {
+
+    public static final int MAX_LIMIT = 500;
+
+    public GetProductsPageQuery {
+        if (categoryId != null && categoryId.isBlank()) {
+            categoryId = null;
+        }
+        if (providerId != null && providerId.isBlank()) {
+            providerId = null;
+        }
+        if (minPrice != null && (minPrice.isNaN() || minPrice < 0)) {
+            throw new IllegalArgumentException("minPrice cannot be negative");
+        }
+        if (maxPrice != null && (maxPrice.isNaN() || maxPrice < 0)) {
+            throw new IllegalArgumentException("maxPrice cannot be negative");
+        }
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("minPrice cannot be greater than maxPrice");
+        }
+        if (sort == null) {
+            throw new IllegalArgumentException("sort cannot be null");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        categoryId = categoryId != null ? categoryId.trim() : null;
+        providerId = providerId != null ? providerId.trim() : null;
+    }
+}
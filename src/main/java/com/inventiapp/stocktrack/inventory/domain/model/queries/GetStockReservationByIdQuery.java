@@ -0,0 +1,21 @@
+package com.inventiapp.stocktrack.inventory.domain.model.queries;
+
+/**
+ * Query to get a stock reservation by id.
+ *
+ * @param reservationId Reservation id.
+ * @since 1.0
+ */
+public record GetStockReservationByIdQuery(Long reservationId) {
+    /**
+     * Constructor validation.
+     *
+     * @param reservationId Reservation id. Must be greater than 0 and not null.
+     * @throws IllegalArgumentException if reservationId is null or not greater than 0.
+     */
+    public GetStockReservationByIdQuery {
+        if (reservationId == null || reservationId <= 0) {
+            throw new IllegalArgumentException("reservationId is required and must be greater than 0");
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.inventiapp.stocktrack.inventory.domain.model.queries;
+
+/**
+ * Query to search products by the words of their name and description, as typed by a cashier.
+ *
+ * @param text            the words or beginnings of words to look for
+ * @param includeInactive whether inactive products are returned too
+ * @param limit           maximum number of products to return
+ */
+public record SearchProductsQuery(String text, boolean includeInactive, int limit) {
+
+    public static final int MAX_LIMIT = 100;
+
+    public SearchProductsQuery {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("text cannot be null or blank");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
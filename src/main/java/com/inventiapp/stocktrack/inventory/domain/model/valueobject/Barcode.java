@@ -0,0 +1,33 @@
+package com.inventiapp.stocktrack.inventory.domain.model.valueobject;
+
+import jakarta.persistence.Embeddable;
+
+/**
+ * Value object representing the barcode or SKU of a product.
+ * @summary
+ * This value object encapsulates the code a scanner reads, such as an EAN-13, UPC or internal SKU.
+ * It validates that the code is at most 64 letters, digits, dots, dashes or underscores, with no spaces,
+ * so the same code always resolves to the same product.
+ * @param value The code. It must be 1 to 64 characters long.
+ * @see IllegalArgumentException
+ * @since 1.0
+ */
+@Embeddable
+public record Barcode(String value) {
+
+    public static final int MAX_LENGTH = 64;
+
+    public Barcode {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Barcode cannot be null or empty");
+        }
+
+        if (value.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Barcode cannot be longer than " + MAX_LENGTH + " characters");
+        }
+
+        if (!value.chars().allMatch(c -> (c < 128 && Character.isLetterOrDigit(c)) || c == '.' || c == '-' || c == '_')) {
+            throw new IllegalArgumentException("Barcode must contain only letters, digits, dots, dashes or underscores");
+        }
+    }
+}
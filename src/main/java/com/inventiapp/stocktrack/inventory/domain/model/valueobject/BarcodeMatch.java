@@ -0,0 +1,13 @@
+package com.inventiapp.stocktrack.inventory.domain.model.valueobject;
+
+/**
+ * Value object representing the product a scanned barcode resolves to.
+ * @param barcode   The barcode scanned.
+ * @param productId The id of the product.
+ * @param name      The name of the product.
+ * @param unitPrice The unit price of the product.
+ * @param isActive  Whether the product is active.
+ * @since 1.0
+ */
+public record BarcodeMatch(String barcode, Long productId, String name, Double unitPrice, Boolean isActive) {
+}
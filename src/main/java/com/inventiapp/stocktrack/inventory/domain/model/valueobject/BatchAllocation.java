@@ -0,0 +1,10 @@
+package com.inventiapp.stocktrack.inventory.domain.model.valueobject;
+
+/**
+ * Value object representing the units of a product taken from one batch.
+ * @param batchId   The id of the batch the units were taken from.
+ * @param productId The id of the product.
+ * @param quantity  The number of units taken.
+ * @since 1.0
+ */
+public record BatchAllocation(Long batchId, Long productId, int quantity) {}
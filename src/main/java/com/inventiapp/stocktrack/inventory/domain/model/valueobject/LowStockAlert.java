@@ -0,0 +1,13 @@
+package com.inventiapp.stocktrack.inventory.domain.model.valueobject;
+
+/**
+ * Value object representing an open low stock alert.
+ * @summary
+ * An active product whose stock on hand, the sum of its batch quantities, is below its minimum stock.
+ * @param productId   The id of the product.
+ * @param productName The name of the product.
+ * @param onHand      The stock on hand of the product.
+ * @param minStock    The minimum stock of the product.
+ * @since 1.0
+ */
+public record LowStockAlert(Long productId, String productName, int onHand, int minStock) {}
@@ -0,0 +1,60 @@
+package com.inventiapp.stocktrack.inventory.domain.model.valueobject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in the product catalog: the sort keys and id of the last product returned.
+ * The next page starts right after it, so paging costs the same however deep the client goes.
+ *
+ * @param name      name of the last product returned
+ * @param unitPrice unit price of the last product returned
+ * @param productId id of the last product returned, breaking ties between equal keys
+ */
+public record ProductCursor(String name, Double unitPrice, Long productId) {
+    private static final String SEPARATOR = "|";
+
+    public ProductCursor {
+        if (name == null) {
+            throw new IllegalArgumentException("name cannot be null");
+        }
+        if (unitPrice == null || unitPrice.isNaN()) {
+            throw new IllegalArgumentException("unitPrice cannot be null");
+        }
+        if (productId == null || productId <= 0) {
+            throw new IllegalArgumentException("productId must be positive");
+        }
+    }
+
+    /**
+     * Gets the position of a listed product.
+     */
+    public static ProductCursor of(ProductView product) {
+        return new ProductCursor(product.name(), product.unitPrice(), product.id());
+    }
+
+    /**
+     * Encodes the cursor as an opaque URL-safe token.
+     */
+    public String encode() {
+        // The name goes last because it may contain the separator
+        var raw = productId + SEPARATOR + unitPrice + SEPARATOR + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ProductCursor decode(String token) {
+        try {
+            var parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new ProductCursor(parts[2], Double.valueOf(parts[1]), Long.valueOf(parts[0]));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.inventiapp.stocktrack.inventory.domain.model.valueobject;
+
+/**
+ * Value object representing a product found by a search.
+ * @param productId  The id of the product.
+ * @param name       The name of the product.
+ * @param categoryId The category of the product.
+ * @param unitPrice  The unit price of the product.
+ * @param isActive   Whether the product is active.
+ * @param score      How well the product matches; higher is better.
+ * @since 1.0
+ */
+public record ProductSearchHit(Long productId, String name, String categoryId, Double unitPrice,
+                               Boolean isActive, int score) {}
@@ -0,0 +1,31 @@
+package com.inventiapp.stocktrack.inventory.domain.model.valueobject;
+
+import java.util.Locale;
+
+/**
+ * Orders the product catalog can be listed in. Each one is ascending and served by an index,
+ * with the product id breaking ties.
+ * @since 1.0
+ */
+public enum ProductSort {
+    NAME,
+    PRICE,
+    ID;
+
+    /**
+     * Parses a sort name, ignoring case.
+     * @param value name, price or id
+     * @return the sort
+     * @throws IllegalArgumentException if the value is not a sort
+     */
+    public static ProductSort parse(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("sort cannot be blank");
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("sort must be name, price or id");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.inventiapp.stocktrack.inventory.domain.model.valueobject;
+
+/**
+ * Value object representing a product as listed in the catalog, read without loading the aggregate.
+ * @param id          The id of the product.
+ * @param name        The name of the product.
+ * @param description The description of the product.
+ * @param categoryId  The category of the product.
+ * @param providerId  The provider of the product.
+ * @param minStock    The minimum stock of the product.
+ * @param unitPrice   The unit price of the product.
+ * @param isActive    Whether the product is active.
+ * @param onHand      The units in stock, reserved ones included.
+ * @param reserved    The units held by active reservations.
+ * @param barcode     The barcode of the product, or null.
+ * @since 1.0
+ */
+public record ProductView(Long id, String name, String description, String categoryId, String providerId,
+                          Integer minStock, Double unitPrice, Boolean isActive, Integer onHand, Integer reserved,
+                          String barcode) {
+
+    /**
+     * @return the units in stock that are not held by a reservation
+     */
+    public int available() {
+        return onHand - reserved;
+    }
+}
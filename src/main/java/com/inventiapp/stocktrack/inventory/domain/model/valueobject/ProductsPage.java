@@ -0,0 +1,12 @@
+package com.inventiapp.stocktrack.inventory.domain.model.valueobject;
+
+import java.util.List;
+
+/**
+ * One page of the product catalog.
+ *
+ * @param products   the products of the page
+ * @param nextCursor where the next page starts, or null if this is the last page
+ */
+public record ProductsPage(List<ProductView> products, ProductCursor nextCursor) {
+}
@@ -0,0 +1,18 @@
+package com.inventiapp.stocktrack.inventory.domain.model.valueobject;
+
+/**
+ * Lifecycle of a stock reservation.
+ * <ul>
+ *     <li>ACTIVE: the units are held until the reservation expires.</li>
+ *     <li>CONFIRMED: the units were sold.</li>
+ *     <li>RELEASED: the units were given back on request.</li>
+ *     <li>EXPIRED: the units were given back because the reservation timed out.</li>
+ * </ul>
+ * @since 1.0
+ */
+public enum StockReservationStatus {
+    ACTIVE,
+    CONFIRMED,
+    RELEASED,
+    EXPIRED
+}
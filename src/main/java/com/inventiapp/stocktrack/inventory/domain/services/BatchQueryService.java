@@ -4,6 +4,9 @@ import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Batch;
 import com.inventiapp.stocktrack.inventory.domain.model.queries.GetAllBatchesByProductIdQuery;
 import com.inventiapp.stocktrack.inventory.domain.model.queries.GetAllBatchesQuery;
 import com.inventiapp.stocktrack.inventory.domain.model.queries.GetBatchByIdQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetBatchesExpiringBetweenQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetExpiringBatchesQuery;
+import org.springframework.data.domain.Page;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,5 +32,18 @@ public interface BatchQueryService {
     List<Batch> handle(GetAllBatchesQuery query);
 
     List<Batch> handle(GetAllBatchesByProductIdQuery getAllBatchesByProductIdQuery);
-}
 
+    /**
+     * Handle query to get the batches expiring within a date range.
+     * @param query get batches expiring between query
+     * @return batches ordered by expiration date, at most query.limit() of them
+     */
+    List<Batch> handle(GetBatchesExpiringBetweenQuery query);
+
+    /**
+     * Handle query to get a page of the batches expiring from today up to query.withinDays() days ahead.
+     * @param query get expiring batches query
+     * @return page of batches ordered by expiration date
+     */
+    Page<Batch> handle(GetExpiringBatchesQuery query);
+}
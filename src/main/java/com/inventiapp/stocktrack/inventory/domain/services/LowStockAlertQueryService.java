@@ -0,0 +1,28 @@
+package com.inventiapp.stocktrack.inventory.domain.services;
+
+import com.inventiapp.stocktrack.inventory.domain.model.queries.CountLowStockAlertsQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetLowStockAlertsQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.LowStockAlert;
+
+import java.util.List;
+
+/**
+ * Query service for low stock alerts.
+ * Serves the current alert set without scanning products or batches.
+ */
+public interface LowStockAlertQueryService {
+
+    /**
+     * Handle query to get the open low stock alerts.
+     * @param query get low stock alerts query
+     * @return at most query.limit() alerts, ordered by product id
+     */
+    List<LowStockAlert> handle(GetLowStockAlertsQuery query);
+
+    /**
+     * Handle query to count the open low stock alerts.
+     * @param query count low stock alerts query
+     * @return number of open alerts
+     */
+    int handle(CountLowStockAlertsQuery query);
+}
@@ -0,0 +1,29 @@
+package com.inventiapp.stocktrack.inventory.domain.services;
+
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductByBarcodeQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductsByBarcodesQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.BarcodeMatch;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Query service for barcode scans.
+ * Resolves barcodes to products without querying the products table.
+ */
+public interface ProductBarcodeQueryService {
+
+    /**
+     * Handle query to resolve a barcode.
+     * @param query get product by barcode query
+     * @return the product with that barcode, empty if none
+     */
+    Optional<BarcodeMatch> handle(GetProductByBarcodeQuery query);
+
+    /**
+     * Handle query to resolve the barcodes of a basket.
+     * @param query get products by barcodes query
+     * @return for each barcode, in the same order, the product with that barcode or empty if none
+     */
+    List<Optional<BarcodeMatch>> handle(GetProductsByBarcodesQuery query);
+}
@@ -3,13 +3,16 @@ package com.inventiapp.stocktrack.inventory.domain.services;
 import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Product;
 import com.inventiapp.stocktrack.inventory.domain.model.queries.GetAllProductsQuery;
 import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductByIdQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductsByIdsQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductsPageQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductsPage;
 
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Query service for Product aggregate.
- * Provides methods to fetch products by id or all products.
+ * Provides methods to fetch products by id, all products or a page of the catalog.
  */
 public interface ProductQueryService {
 
@@ -26,4 +29,18 @@ public interface ProductQueryService {
      * @return list of products
      */
     List<Product> handle(GetAllProductsQuery query);
+
+    /**
+     * Handle query to get the products with the given ids, in a single query.
+     * @param query get products by ids query
+     * @return list of the products found; missing ids are left out
+     */
+    List<Product> handle(GetProductsByIdsQuery query);
+
+    /**
+     * Handle query to get a page of the product catalog.
+     * @param query get products page query
+     * @return the page, with the cursor of the next one
+     */
+    ProductsPage handle(GetProductsPageQuery query);
 }
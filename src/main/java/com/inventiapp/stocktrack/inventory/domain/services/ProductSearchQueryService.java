@@ -0,0 +1,20 @@
+package com.inventiapp.stocktrack.inventory.domain.services;
+
+import com.inventiapp.stocktrack.inventory.domain.model.queries.SearchProductsQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductSearchHit;
+
+import java.util.List;
+
+/**
+ * Query service for product search.
+ * Finds products by the words of their name and description without scanning the products table.
+ */
+public interface ProductSearchQueryService {
+
+    /**
+     * Handle query to search products.
+     * @param query search products query
+     * @return at most query.limit() products, best match first
+     */
+    List<ProductSearchHit> handle(SearchProductsQuery query);
+}
@@ -0,0 +1,47 @@
+package com.inventiapp.stocktrack.inventory.domain.services;
+
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.BatchAllocation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service that checks and takes product stock from batches, first expired first out.
+ * Expired batches never count as available stock.
+ */
+public interface StockAllocationService {
+
+    /**
+     * Checks whether a product has enough unexpired stock.
+     * @param productId product id
+     * @param quantity required units
+     * @return true if at least quantity units can be taken
+     */
+    boolean isAvailable(Long productId, int quantity);
+
+    /**
+     * Takes the requested units of each product from its batches, all or nothing.
+     * @param quantitiesByProduct units to take, keyed by product id
+     * @return the units taken from each batch
+     * @throws IllegalArgumentException if a product id or quantity is invalid
+     * @throws IllegalStateException if a product does not have enough unexpired stock
+     */
+    List<BatchAllocation> allocate(Map<Long, Integer> quantitiesByProduct);
+
+    /**
+     * Takes the units of several orders, in order, each one all or nothing. An order that cannot be
+     * filled is skipped and leaves stock untouched for the orders after it.
+     * @param orders units to take per order, keyed by product id
+     * @return for each order, the units taken from each batch, or empty if the order was skipped
+     * @throws IllegalArgumentException if a product id or quantity is invalid
+     */
+    List<Optional<List<BatchAllocation>>> allocateEach(List<Map<Long, Integer>> orders);
+
+    /**
+     * Gives back units previously taken by allocate to the batches they came from.
+     * Units of a batch deleted in the meantime are dropped with it.
+     * @param allocations units to give back, as returned by allocate
+     */
+    void restore(List<BatchAllocation> allocations);
+}
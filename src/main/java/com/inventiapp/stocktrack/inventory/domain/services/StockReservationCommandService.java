@@ -0,0 +1,58 @@
+package com.inventiapp.stocktrack.inventory.domain.services;
+
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.StockReservation;
+import com.inventiapp.stocktrack.inventory.domain.model.commands.ConfirmStockReservationCommand;
+import com.inventiapp.stocktrack.inventory.domain.model.commands.CreateStockReservationCommand;
+import com.inventiapp.stocktrack.inventory.domain.model.commands.ExpireStockReservationCommand;
+import com.inventiapp.stocktrack.inventory.domain.model.commands.ReleaseStockReservationCommand;
+
+/**
+ * @name StockReservationCommandService
+ *
+ * @summary
+ * This interface represents the service to handle stock reservation commands.
+ * @since 1.0
+ */
+public interface StockReservationCommandService {
+    /**
+     * Handles the create stock reservation command.
+     * Takes the units from their batches, first expired first out, all or nothing.
+     * @param command The create stock reservation command.
+     * @return The created reservation.
+     *
+     * @throws IllegalArgumentException If the ttl exceeds the configured maximum
+     * @throws IllegalStateException If a product does not have enough unexpired stock
+     * @see CreateStockReservationCommand
+     */
+    StockReservation handle(CreateStockReservationCommand command);
+
+    /**
+     * Handles the confirm stock reservation command.
+     * @param command The confirm stock reservation command.
+     * @return The confirmed reservation.
+     *
+     * @throws StockReservationNotFoundException If the reservation is not found
+     * @throws IllegalStateException If the reservation is no longer active, or extra units are missing
+     * @see ConfirmStockReservationCommand
+     */
+    StockReservation handle(ConfirmStockReservationCommand command);
+
+    /**
+     * Handles the release stock reservation command.
+     * @param command The release stock reservation command.
+     * @return The released reservation.
+     *
+     * @throws StockReservationNotFoundException If the reservation is not found
+     * @throws IllegalStateException If the reservation is no longer active
+     * @see ReleaseStockReservationCommand
+     */
+    StockReservation handle(ReleaseStockReservationCommand command);
+
+    /**
+     * Handles the expire stock reservation command.
+     * @param command The expire stock reservation command.
+     * @return true if the reservation was expired by this call
+     * @see ExpireStockReservationCommand
+     */
+    boolean handle(ExpireStockReservationCommand command);
+}
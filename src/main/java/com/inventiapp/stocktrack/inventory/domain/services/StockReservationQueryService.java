@@ -0,0 +1,23 @@
+package com.inventiapp.stocktrack.inventory.domain.services;
+
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.StockReservation;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetStockReservationByIdQuery;
+
+import java.util.Optional;
+
+/**
+ * @name StockReservationQueryService
+ *
+ * @summary
+ * This interface represents the service to handle stock reservation queries.
+ * @since 1.0
+ */
+public interface StockReservationQueryService {
+    /**
+     * Handles the get stock reservation by id query.
+     * @param query The get stock reservation by id query.
+     * @return Optional containing the reservation if found.
+     * @see GetStockReservationByIdQuery
+     */
+    Optional<StockReservation> handle(GetStockReservationByIdQuery query);
+}
@@ -1,11 +1,20 @@
 package com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories;
 
 import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Batch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Batch aggregate.
@@ -36,4 +45,116 @@ public interface BatchRepository extends JpaRepository<Batch, Long> {
     boolean existsByReceptionDate(Date receptionDate);
 
     List<Batch> findByProductIdOrderByExpirationDateAsc(Long productId);
+
+    /**
+     * Find a page of the batches whose expiration date falls in [from, to), soonest first.
+     * Both the page and its count are range scans over idx_batches_expiration_date, so their cost
+     * depends on the number of matching batches only; the id breaks ties so pages are stable.
+     * @param from inclusive lower bound
+     * @param to exclusive upper bound
+     * @param pageable requested page; its sort is ignored
+     * @return page of batches ordered by expiration date and id
+     */
+    @Query("""
+            SELECT b FROM Batch b
+            WHERE b.expirationDate >= :from AND b.expirationDate < :to
+            ORDER BY b.expirationDate ASC, b.id ASC
+            """)
+    Page<Batch> findExpiringBetween(@Param("from") Date from, @Param("to") Date to, Pageable pageable);
+
+    /**
+     * Find and lock the batches stock can be taken from for the given products: those with units left
+     * that have not expired. Rows are read through idx_batches_product_id_expiration_date and locked in
+     * (product, expiration date) order, the same order for every transaction, so concurrent allocations
+     * queue on the rows they share instead of deadlocking.
+     * @param productIds product ids
+     * @param notExpiredSince batches expiring before this instant are skipped
+     * @return locked batches ordered by product, then first expired first out
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT b FROM Batch b
+            WHERE b.productId IN :productIds AND b.expirationDate >= :notExpiredSince AND b.quantity > 0
+            ORDER BY b.productId ASC, b.expirationDate ASC, b.id ASC
+            """)
+    List<Batch> findAllocatableForUpdate(@Param("productIds") Collection<Long> productIds,
+                                         @Param("notExpiredSince") Date notExpiredSince);
+
+    /**
+     * Find and lock every batch of a product, expired or empty ones included. Rows are read through
+     * idx_batches_product_id_expiration_date and locked in expiration date order, the order
+     * findAllocatableForUpdate locks them in; callers locking several products must do so in
+     * ascending product order so giving units back queues behind allocations instead of deadlocking.
+     * @param productId product id
+     * @return locked batches, first expired first
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT b FROM Batch b
+            WHERE b.productId = :productId
+            ORDER BY b.expirationDate ASC, b.id ASC
+            """)
+    List<Batch> findAllByProductIdForUpdate(@Param("productId") Long productId);
+
+    /**
+     * Sum the units of a product in batches that have not expired.
+     * @param productId product id
+     * @param notExpiredSince batches expiring before this instant are not counted
+     * @return available units, 0 when there are none
+     */
+    @Query("""
+            SELECT COALESCE(SUM(b.quantity), 0) FROM Batch b
+            WHERE b.productId = :productId AND b.expirationDate >= :notExpiredSince
+            """)
+    long sumAvailableQuantity(@Param("productId") Long productId, @Param("notExpiredSince") Date notExpiredSince);
+
+    /**
+     * Sum the units of all the batches of a product, expired or not.
+     * @param productId product id
+     * @return units in batches, 0 when there are none
+     */
+    @Query("SELECT COALESCE(SUM(b.quantity), 0) FROM Batch b WHERE b.productId = :productId")
+    long sumQuantityByProductId(@Param("productId") Long productId);
+
+    /**
+     * Read the current quantity of a batch without loading the aggregate. After an update of the
+     * row in the same transaction it returns the quantity that update left.
+     * @param batchId batch id
+     * @return the quantity, empty if the batch does not exist
+     */
+    @Query("SELECT b.quantity FROM Batch b WHERE b.id = :batchId")
+    Optional<Integer> findQuantityById(@Param("batchId") Long batchId);
+
+    /**
+     * Take units from a batch only if it still has them. The condition makes the decrement safe
+     * against concurrent writers without reading the row first.
+     * @param batchId batch id
+     * @param quantity units to take
+     * @param updatedAt modification time to record
+     * @return 1 if the units were taken, 0 if the batch does not exist or has fewer units
+     */
+    @Modifying
+    @Query("""
+            UPDATE Batch b SET b.quantity = b.quantity - :quantity, b.updatedAt = :updatedAt
+            WHERE b.id = :batchId AND b.quantity >= :quantity
+            """)
+    int decreaseQuantityIfAvailable(@Param("batchId") Long batchId,
+                                    @Param("quantity") int quantity,
+                                    @Param("updatedAt") Date updatedAt);
+
+    /**
+     * Give units back to a batch without reading the row first.
+     * @param batchId batch id
+     * @param quantity units to add
+     * @param updatedAt modification time to record
+     * @return 1 if the units were added, 0 if the batch does not exist
+     */
+    @Modifying
+    @Query("""
+            UPDATE Batch b SET b.quantity = b.quantity + :quantity, b.updatedAt = :updatedAt
+            WHERE b.id = :batchId
+            """)
+    int increaseQuantity(@Param("batchId") Long batchId,
+                         @Param("quantity") int quantity,
+                         @Param("updatedAt") Date updatedAt);
 }
@@ -1,9 +1,21 @@
 package com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories;
 
 import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Product;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.BarcodeMatch;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductView;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.StockReservationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository interface for Product aggregate.
  * Provides basic CRUD operations and additional query methods if needed.
@@ -19,4 +31,167 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     boolean existsByNameAndProviderId(String name, String providerId);
 
+    /**
+     * Check if a product has the given barcode, to enforce its uniqueness before the unique index does.
+     * @param barcode barcode
+     * @return true if exists
+     */
+    boolean existsByBarcode_Value(String barcode);
+
+    /**
+     * Check if a product other than the given one has the given barcode.
+     * @param barcode barcode
+     * @param productId id of the product being updated
+     * @return true if exists
+     */
+    boolean existsByBarcode_ValueAndIdNot(String barcode, Long productId);
+
+    /**
+     * Find what a scan needs of every product that has a barcode, to load the barcode index.
+     * @return barcode matches, in no particular order
+     */
+    @Query("""
+            SELECT new com.inventiapp.stocktrack.inventory.domain.model.valueobject.BarcodeMatch(
+                p.barcode.value, p.id, p.name, p.unitPrice, p.isActive)
+            FROM Product p
+            WHERE p.barcode.value IS NOT NULL
+            """)
+    List<BarcodeMatch> findAllBarcodeMatches();
+
+    /**
+     * Find a page of the catalog by name, starting after the (afterName, afterId) position. The position
+     * is a keyset over idx_products_name_id, so a page costs the same at any depth; pass ("", 0) for
+     * the first page. Rows are read as views, not managed entities.
+     */
+    @Query("""
+            SELECT new com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductView(
+                p.id, p.name, p.description, p.categoryId, p.providerId, p.minStock, p.unitPrice, p.isActive,
+                p.onHand, p.reserved, p.barcode.value)
+            FROM Product p
+            WHERE (p.name > :afterName OR (p.name = :afterName AND p.id > :afterId))
+              AND (:categoryId IS NULL OR p.categoryId = :categoryId)
+              AND (:providerId IS NULL OR p.providerId = :providerId)
+              AND (:isActive IS NULL OR p.isActive = :isActive)
+              AND (:minPrice IS NULL OR p.unitPrice >= :minPrice)
+              AND (:maxPrice IS NULL OR p.unitPrice <= :maxPrice)
+              AND (:lowStockOnly = FALSE OR p.onHand - p.reserved < p.minStock)
+            ORDER BY p.name ASC, p.id ASC
+            """)
+    List<ProductView> findPageByName(@Param("afterName") String afterName,
+            @Param("afterId") Long afterId,
+            @Param("categoryId") String categoryId,
+            @Param("providerId") String providerId,
+            @Param("isActive") Boolean isActive,
+            @Param("minPrice") Double minPrice,
+            @Param("maxPrice") Double maxPrice,
+            @Param("lowStockOnly") boolean lowStockOnly,
+            Pageable pageable);
+
+    /**
+     * Find a page of the catalog by unit price, starting after the (afterPrice, afterId) position, a keyset
+     * over idx_products_unit_price_id; pass (0, 0) for the first page.
+     */
+    @Query("""
+            SELECT new com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductView(
+                p.id, p.name, p.description, p.categoryId, p.providerId, p.minStock, p.unitPrice, p.isActive,
+                p.onHand, p.reserved, p.barcode.value)
+            FROM Product p
+            WHERE (p.unitPrice > :afterPrice OR (p.unitPrice = :afterPrice AND p.id > :afterId))
+              AND (:categoryId IS NULL OR p.categoryId = :categoryId)
+              AND (:providerId IS NULL OR p.providerId = :providerId)
+              AND (:isActive IS NULL OR p.isActive = :isActive)
+              AND (:minPrice IS NULL OR p.unitPrice >= :minPrice)
+              AND (:maxPrice IS NULL OR p.unitPrice <= :maxPrice)
+              AND (:lowStockOnly = FALSE OR p.onHand - p.reserved < p.minStock)
+            ORDER BY p.unitPrice ASC, p.id ASC
+            """)
+    List<ProductView> findPageByPrice(@Param("afterPrice") Double afterPrice,
+            @Param("afterId") Long afterId,
+            @Param("categoryId") String categoryId,
+            @Param("providerId") String providerId,
+            @Param("isActive") Boolean isActive,
+            @Param("minPrice") Double minPrice,
+            @Param("maxPrice") Double maxPrice,
+            @Param("lowStockOnly") boolean lowStockOnly,
+            Pageable pageable);
+
+    /**
+     * Find a page of the catalog by id, starting after afterId; pass 0 for the first page.
+     */
+    @Query("""
+            SELECT new com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductView(
+                p.id, p.name, p.description, p.categoryId, p.providerId, p.minStock, p.unitPrice, p.isActive,
+                p.onHand, p.reserved, p.barcode.value)
+            FROM Product p
+            WHERE p.id > :afterId
+              AND (:categoryId IS NULL OR p.categoryId = :categoryId)
+              AND (:providerId IS NULL OR p.providerId = :providerId)
+              AND (:isActive IS NULL OR p.isActive = :isActive)
+              AND (:minPrice IS NULL OR p.unitPrice >= :minPrice)
+              AND (:maxPrice IS NULL OR p.unitPrice <= :maxPrice)
+              AND (:lowStockOnly = FALSE OR p.onHand - p.reserved < p.minStock)
+            ORDER BY p.id ASC
+            """)
+    List<ProductView> findPageById(@Param("afterId") Long afterId,
+            @Param("categoryId") String categoryId,
+            @Param("providerId") String providerId,
+            @Param("isActive") Boolean isActive,
+            @Param("minPrice") Double minPrice,
+            @Param("maxPrice") Double maxPrice,
+            @Param("lowStockOnly") boolean lowStockOnly,
+            Pageable pageable);
+
+    /**
+     * Find and lock a product, so its stock columns can be rewritten without losing a concurrent change.
+     * @param productId product id
+     * @return the locked product, empty if it does not exist
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id = :productId")
+    Optional<Product> findByIdForUpdate(@Param("productId") Long productId);
+
+    /**
+     * Add to the stock columns of a product without reading the row first.
+     * @param productId product id
+     * @param onHandDelta units to add to onHand, negative to take
+     * @param reservedDelta units to add to reserved, negative to take
+     * @return 1 if the product was updated, 0 if it does not exist
+     */
+    @Modifying
+    @Query("""
+            UPDATE Product p SET p.onHand = p.onHand + :onHandDelta, p.reserved = p.reserved + :reservedDelta
+            WHERE p.id = :productId
+            """)
+    int adjustStock(@Param("productId") Long productId,
+                    @Param("onHandDelta") int onHandDelta,
+                    @Param("reservedDelta") int reservedDelta);
+
+    /**
+     * Overwrite the stock columns of a product.
+     * @param productId product id
+     * @param onHand units in stock
+     * @param reserved units held by active reservations
+     * @return 1 if the product was updated, 0 if it does not exist
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.onHand = :onHand, p.reserved = :reserved WHERE p.id = :productId")
+    int setStock(@Param("productId") Long productId,
+                 @Param("onHand") int onHand,
+                 @Param("reserved") int reserved);
+
+    /**
+     * Find the products whose stock columns disagree with their batches and reservations.
+     * @param held status of the reservations that hold units
+     * @return product ids, ascending
+     */
+    @Query("""
+            SELECT p.id FROM Product p
+            WHERE p.reserved <> (SELECT COALESCE(SUM(l.quantity), 0) FROM StockReservationLine l
+                                 WHERE l.productId = p.id AND l.reservation.status = :held)
+               OR p.onHand <> (SELECT COALESCE(SUM(b.quantity), 0) FROM Batch b WHERE b.productId = p.id)
+                               + (SELECT COALESCE(SUM(l.quantity), 0) FROM StockReservationLine l
+                                  WHERE l.productId = p.id AND l.reservation.status = :held)
+            ORDER BY p.id ASC
+            """)
+    List<Long> findIdsWithStockDrift(@Param("held") StockReservationStatus held);
 }
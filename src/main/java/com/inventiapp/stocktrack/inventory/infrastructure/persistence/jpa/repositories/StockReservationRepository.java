@@ -0,0 +1,82 @@
+package com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories;
+
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.StockReservation;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.StockReservationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for StockReservation aggregate.
+ */
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    /**
+     * Find and lock a reservation, so confirming, releasing and expiring it are serialized.
+     * @param reservationId reservation id
+     * @return the locked reservation, empty if it does not exist
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM StockReservation r WHERE r.id = :reservationId")
+    Optional<StockReservation> findByIdForUpdate(@Param("reservationId") Long reservationId);
+
+    /**
+     * Find the id and expiration of every reservation in a status, read through
+     * idx_stock_reservations_status_expires_at.
+     * @param status reservation status
+     * @return the deadlines, soonest first
+     */
+    @Query("""
+            SELECT r.id AS id, r.expiresAt AS expiresAt FROM StockReservation r
+            WHERE r.status = :status
+            ORDER BY r.expiresAt ASC
+            """)
+    List<ReservationDeadline> findDeadlinesByStatus(@Param("status") StockReservationStatus status);
+
+    /**
+     * Find the reservations in a status that expired before an instant, soonest first.
+     * @param status reservation status
+     * @param before exclusive upper bound of the expiration
+     * @param pageable page limiting the number of ids returned
+     * @return reservation ids
+     */
+    @Query("""
+            SELECT r.id FROM StockReservation r
+            WHERE r.status = :status AND r.expiresAt <= :before
+            ORDER BY r.expiresAt ASC
+            """)
+    List<Long> findIdsDueBefore(@Param("status") StockReservationStatus status,
+                                @Param("before") Date before,
+                                Pageable pageable);
+
+    /**
+     * Sum the units of a product held by the reservations in a status.
+     * @param productId product id
+     * @param status reservation status
+     * @return units held, 0 when there are none
+     */
+    @Query("""
+            SELECT COALESCE(SUM(l.quantity), 0) FROM StockReservationLine l
+            WHERE l.productId = :productId AND l.reservation.status = :status
+            """)
+    long sumQuantityByProductIdAndStatus(@Param("productId") Long productId,
+                                         @Param("status") StockReservationStatus status);
+
+    /**
+     * Id and expiration of a reservation.
+     */
+    interface ReservationDeadline {
+        Long getId();
+
+        Date getExpiresAt();
+    }
+}
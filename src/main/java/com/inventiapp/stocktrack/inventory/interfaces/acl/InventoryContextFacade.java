@@ -1,6 +1,9 @@
 package com.inventiapp.stocktrack.inventory.interfaces.acl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface InventoryContextFacade {
 
@@ -11,10 +14,39 @@ public interface InventoryContextFacade {
 
     void decreaseStock(Long productId, Integer quantity);
 
+    /**
+     * Decrease the stock of several products in one allocation, first expired first out.
+     * Either every product is decreased or, when one lacks unexpired stock, none is.
+     * @param quantitiesByProduct The units to take, keyed by product id
+     */
+    void decreaseStock(Map<Long, Integer> quantitiesByProduct);
+
+    /**
+     * Decrease the stock of several orders in one allocation, each order all or nothing.
+     * An order lacking unexpired stock is skipped without failing the others.
+     * @param orders The units to take per order, keyed by product id
+     * @return For each order, whether its stock was decreased
+     */
+    List<Boolean> decreaseStockEach(List<Map<Long, Integer>> orders);
+
 //    boolean existsProductById(Long productId);
 
     Double getProductUnitPrice(Long productId);
 
+    /**
+     * Get the snapshots of several products with a single query.
+     * @param productIds The product ids
+     * @return The snapshots of the products that exist, keyed by product id; missing products are absent
+     */
+    Map<Long, ProductSnapshot> getProductSnapshots(Collection<Long> productIds);
+
+    /**
+     * Get the snapshot of a kit with its items, loaded with a single query and cached until the kit changes.
+     * @param kitId The kit id
+     * @return The kit snapshot, empty if the kit doesn't exist
+     */
+    Optional<KitSnapshot> getKitSnapshot(Long kitId);
+
     /**
      * Get kit by id.
      * @param kitId The kit id
@@ -29,13 +61,6 @@ public interface InventoryContextFacade {
      */
     Double getKitTotalPrice(Long kitId);
 
-    /**
-     * Get all product IDs, quantities and prices from a kit.
-     * @param kitId The kit id
-     * @return List of arrays [productId (Long), quantity (Integer), price (Double)] for each item in the kit, empty list if kit doesn't exist
-     */
-    List<Object[]> getKitProductIdsQuantitiesAndPrices(Long kitId);
-
     /**
      * Decrease stock for all products in a kit.
      * @param kitId The kit id
@@ -43,4 +68,14 @@ public interface InventoryContextFacade {
      */
     void decreaseStockForKit(Long kitId, Integer kitQuantity);
 
+    /**
+     * Turn the units held by a stock reservation into sold stock. Units held beyond the ones sold
+     * are given back and missing ones are taken from stock, all or nothing.
+     * @param reservationId The reservation id
+     * @param quantitiesByProduct The units sold, keyed by product id
+     * @throws IllegalArgumentException if the reservation doesn't exist
+     * @throws IllegalStateException if the reservation is no longer active, or missing units are not in stock
+     */
+    void consumeReservation(Long reservationId, Map<Long, Integer> quantitiesByProduct);
+
 }
@@ -0,0 +1,39 @@
+package com.inventiapp.stocktrack.inventory.interfaces.acl;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of a kit and its bill of materials, as other bounded contexts need it to sell the kit.
+ *
+ * @param kitId      The kit id
+ * @param name       The kit name
+ * @param items      The products of the kit, in kit order
+ * @param totalPrice The price of one kit, the sum of unit price times quantity of its items
+ */
+public record KitSnapshot(Long kitId, String name, List<Item> items, double totalPrice) {
+
+    public KitSnapshot {
+        items = List.copyOf(items);
+    }
+
+    /**
+     * Creates a snapshot computing the total price from its items.
+     * @param kitId The kit id
+     * @param name The kit name
+     * @param items The products of the kit
+     * @return the snapshot
+     */
+    public static KitSnapshot of(Long kitId, String name, List<Item> items) {
+        return new KitSnapshot(kitId, name, items,
+                items.stream().mapToDouble(item -> item.unitPrice() * item.quantity()).sum());
+    }
+
+    /**
+     * One product of a kit.
+     *
+     * @param productId The product id
+     * @param quantity  The quantity of the product in one kit
+     * @param unitPrice The unit price of the product within the kit
+     */
+    public record Item(Long productId, int quantity, double unitPrice) {}
+}
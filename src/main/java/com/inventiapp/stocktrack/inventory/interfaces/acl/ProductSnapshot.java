@@ -0,0 +1,11 @@
+package com.inventiapp.stocktrack.inventory.interfaces.acl;
+
+/**
+ * Snapshot of the product values other bounded contexts need to sell a product.
+ *
+ * @param productId The product id
+ * @param name      The product name
+ * @param unitPrice The unit price of the product
+ * @param isActive  Whether the product is active
+ */
+public record ProductSnapshot(Long productId, String name, Double unitPrice, Boolean isActive) {}
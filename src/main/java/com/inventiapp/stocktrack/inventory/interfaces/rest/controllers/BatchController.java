@@ -7,8 +7,10 @@ import com.inventiapp.stocktrack.inventory.domain.model.commands.DeleteBatchComm
 import com.inventiapp.stocktrack.inventory.domain.model.commands.UpdateBatchCommand;
 import com.inventiapp.stocktrack.inventory.domain.model.queries.GetAllBatchesQuery;
 import com.inventiapp.stocktrack.inventory.domain.model.queries.GetBatchByIdQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetExpiringBatchesQuery;
 import com.inventiapp.stocktrack.inventory.domain.services.BatchCommandService;
 import com.inventiapp.stocktrack.inventory.domain.services.BatchQueryService;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.BatchPageResource;
 import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.BatchResource;
 import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.CreateBatchResource;
 import com.inventiapp.stocktrack.inventory.interfaces.rest.transform.BatchResourceFromEntityAssembler;
@@ -18,6 +20,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -95,6 +98,24 @@ public class BatchController {
         return ResponseEntity.ok(resources);
     }
 
+    @Operation(summary = "Get expiring batches",
+            description = "Retrieve a page of the batches expiring from today up to withinDays days ahead, soonest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batches found"),
+            @ApiResponse(responseCode = "400", description = "Bad request")
+    })
+    @GetMapping("/expiring")
+    public ResponseEntity<BatchPageResource> getExpiring(@RequestParam(defaultValue = "30") int withinDays,
+                                                         @RequestParam(defaultValue = "0") int page,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        try {
+            Page<Batch> batches = batchQueryService.handle(new GetExpiringBatchesQuery(withinDays, page, size));
+            return ResponseEntity.ok(BatchResourceFromEntityAssembler.toPageResource(batches));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @Operation(summary = "Delete a batch", description = "Deletes a batch by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Batch deleted"),
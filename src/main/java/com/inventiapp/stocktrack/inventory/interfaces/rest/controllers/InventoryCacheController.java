@@ -0,0 +1,65 @@
+package com.inventiapp.stocktrack.inventory.interfaces.rest.controllers;
+
+import com.inventiapp.stocktrack.inventory.application.internal.KitSnapshotCache;
+import com.inventiapp.stocktrack.inventory.application.internal.ProductSnapshotCache;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.CacheStatisticsResource;
+import com.inventiapp.stocktrack.shared.domain.model.valueobjects.CacheStatistics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * REST Controller for the inventory lookup caches.
+ * Exposes the size, hits, misses and evictions of the product and kit caches used by sales.
+ */
+@RestController
+@RequestMapping(value = "/api/v1/inventory/cache", produces = APPLICATION_JSON_VALUE)
+@Tag(name = "Inventory cache", description = "Inventory lookup cache monitoring")
+@SecurityRequirement(name = "bearerAuth")
+public class InventoryCacheController {
+
+    private final ProductSnapshotCache productSnapshotCache;
+    private final KitSnapshotCache kitSnapshotCache;
+
+    public InventoryCacheController(ProductSnapshotCache productSnapshotCache, KitSnapshotCache kitSnapshotCache) {
+        this.productSnapshotCache = productSnapshotCache;
+        this.kitSnapshotCache = kitSnapshotCache;
+    }
+
+    @GetMapping("/metrics")
+    @Operation(summary = "Get inventory cache metrics",
+            description = "Retrieves the size, hits, misses, hit rate, evictions, expirations and invalidations " +
+                    "of the product and kit caches of this instance since it started")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Metrics retrieved")
+    })
+    public ResponseEntity<List<CacheStatisticsResource>> getMetrics() {
+        return ResponseEntity.ok(List.of(
+                toResource(productSnapshotCache.statistics()),
+                toResource(kitSnapshotCache.statistics())));
+    }
+
+    private static CacheStatisticsResource toResource(CacheStatistics statistics) {
+        return new CacheStatisticsResource(
+                statistics.name(),
+                statistics.enabled(),
+                statistics.size(),
+                statistics.maximumSize(),
+                statistics.hits(),
+                statistics.misses(),
+                statistics.hitRate(),
+                statistics.evictions(),
+                statistics.expirations(),
+                statistics.invalidations());
+    }
+}
@@ -1,18 +1,33 @@
 package com.inventiapp.stocktrack.inventory.interfaces.rest.controllers;
 
 import com.inventiapp.stocktrack.inventory.domain.exceptions.ProductAlreadyExistsException;
+import com.inventiapp.stocktrack.inventory.domain.exceptions.ProductBarcodeAlreadyExistsException;
 import com.inventiapp.stocktrack.inventory.domain.exceptions.ProductNotFoundException;
 import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Product;
 import com.inventiapp.stocktrack.inventory.domain.model.commands.DeleteProductCommand;
-import com.inventiapp.stocktrack.inventory.domain.model.queries.GetAllProductsQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductByBarcodeQuery;
 import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductByIdQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductsByBarcodesQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetProductsPageQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.SearchProductsQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductCursor;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductSort;
+import com.inventiapp.stocktrack.inventory.domain.services.ProductBarcodeQueryService;
 import com.inventiapp.stocktrack.inventory.domain.services.ProductCommandService;
 import com.inventiapp.stocktrack.inventory.domain.services.ProductQueryService;
+import com.inventiapp.stocktrack.inventory.domain.services.ProductSearchQueryService;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.BarcodeLookupResultResource;
 import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.CreateProductResource;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.ProductBarcodeResource;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.ProductPageResource;
 import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.ProductResource;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.ProductSearchResultResource;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.ResolveBarcodesResource;
 import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.UpdateProductResource;
 import com.inventiapp.stocktrack.inventory.interfaces.rest.transform.CreateProductCommandFromResourceAssembler;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.transform.ProductBarcodeResourceFromMatchAssembler;
 import com.inventiapp.stocktrack.inventory.interfaces.rest.transform.ProductResourceFromEntityAssembler;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.transform.ProductSearchResultResourceFromHitAssembler;
 import com.inventiapp.stocktrack.inventory.interfaces.rest.transform.UpdateProductCommandFromResourceAssembler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -35,11 +50,17 @@ public class ProductController {
 
     private final ProductCommandService productCommandService;
     private final ProductQueryService productQueryService;
+    private final ProductSearchQueryService productSearchQueryService;
+    private final ProductBarcodeQueryService productBarcodeQueryService;
 
     public ProductController(ProductCommandService productCommandService,
-                             ProductQueryService productQueryService) {
+                             ProductQueryService productQueryService,
+                             ProductSearchQueryService productSearchQueryService,
+                             ProductBarcodeQueryService productBarcodeQueryService) {
         this.productCommandService = productCommandService;
         this.productQueryService = productQueryService;
+        this.productSearchQueryService = productSearchQueryService;
+        this.productBarcodeQueryService = productBarcodeQueryService;
     }
 
     @Operation(summary = "Create a product", description = "Creates a new product")
@@ -60,7 +81,7 @@ public class ProductController {
                     })
                     .orElseGet(() -> ResponseEntity.badRequest().build());
 
-        } catch (IllegalArgumentException | ProductAlreadyExistsException ex) {
+        } catch (IllegalArgumentException | ProductAlreadyExistsException | ProductBarcodeAlreadyExistsException ex) {
             return ResponseEntity.badRequest().build();
         }
     }
@@ -82,17 +103,91 @@ public class ProductController {
         }
     }
 
-    @Operation(summary = "Get all products", description = "Retrieve all products")
+    @Operation(summary = "Get products",
+            description = "Retrieve a page of the product catalog sorted by name, price or id, optionally filtered " +
+                    "by category, provider, active flag, price range (inclusive) and low stock. Pass the nextCursor " +
+                    "of a page, with the same sort and filters, to get the next one")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Products found")
+            @ApiResponse(responseCode = "200", description = "Products found"),
+            @ApiResponse(responseCode = "400", description = "Invalid filters, sort or cursor")
     })
     @GetMapping
-    public ResponseEntity<List<ProductResource>> getAll() {
-        List<Product> products = productQueryService.handle(new GetAllProductsQuery());
-        List<ProductResource> resources = products.stream()
-                .map(ProductResourceFromEntityAssembler::toResource)
-                .toList();
-        return ResponseEntity.ok(resources);
+    public ResponseEntity<ProductPageResource> getAll(@RequestParam(required = false) String categoryId,
+                                                      @RequestParam(required = false) String providerId,
+                                                      @RequestParam(required = false) Boolean isActive,
+                                                      @RequestParam(required = false) Double minPrice,
+                                                      @RequestParam(required = false) Double maxPrice,
+                                                      @RequestParam(defaultValue = "false") boolean lowStockOnly,
+                                                      @RequestParam(defaultValue = "name") String sort,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "50") int limit) {
+        try {
+            var after = cursor != null && !cursor.isBlank() ? ProductCursor.decode(cursor) : null;
+            var query = new GetProductsPageQuery(categoryId, providerId, isActive, minPrice, maxPrice, lowStockOnly,
+                    ProductSort.parse(sort), after, limit);
+            var page = productQueryService.handle(query);
+            return ResponseEntity.ok(ProductResourceFromEntityAssembler.toPageResource(page, limit));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Search products",
+            description = "Finds products whose name or description has words starting with every word of q, " +
+                    "ignoring case and accents, best match first. Inactive products are left out unless includeInactive is true")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Products found"),
+            @ApiResponse(responseCode = "400", description = "Blank q or invalid limit")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<ProductSearchResultResource>> search(@RequestParam String q,
+                                                                    @RequestParam(defaultValue = "false") boolean includeInactive,
+                                                                    @RequestParam(defaultValue = "20") int limit) {
+        try {
+            var hits = productSearchQueryService.handle(new SearchProductsQuery(q, includeInactive, limit));
+            return ResponseEntity.ok(hits.stream()
+                    .map(ProductSearchResultResourceFromHitAssembler::toResource)
+                    .toList());
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Get product by barcode",
+            description = "Resolves a scanned barcode or SKU to its product from an in-memory index")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Product found"),
+            @ApiResponse(responseCode = "400", description = "Blank code"),
+            @ApiResponse(responseCode = "404", description = "No product has that barcode")
+    })
+    @GetMapping("/by-barcode/{code}")
+    public ResponseEntity<ProductBarcodeResource> getByBarcode(@PathVariable String code) {
+        try {
+            return productBarcodeQueryService.handle(new GetProductByBarcodeQuery(code))
+                    .map(ProductBarcodeResourceFromMatchAssembler::toResource)
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "Get products by barcodes",
+            description = "Resolves every barcode of a scanned basket in one call. Returns one result per code, " +
+                    "in the same order, with a null product for the codes no product has")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Barcodes resolved"),
+            @ApiResponse(responseCode = "400", description = "Empty, blank or more than 500 codes")
+    })
+    @PostMapping(value = "/by-barcode", consumes = APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<BarcodeLookupResultResource>> getByBarcodes(@RequestBody ResolveBarcodesResource resource) {
+        try {
+            var query = new GetProductsByBarcodesQuery(resource.codes());
+            var matches = productBarcodeQueryService.handle(query);
+            return ResponseEntity.ok(ProductBarcodeResourceFromMatchAssembler.toLookupResources(resource.codes(), matches));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @Operation(summary = "Update a product", description = "Updates product data")
@@ -113,7 +208,7 @@ public class ProductController {
                     .map(ResponseEntity::ok)
                     .orElseGet(() -> ResponseEntity.notFound().build());
 
-        } catch (IllegalArgumentException ex) {
+        } catch (IllegalArgumentException | ProductBarcodeAlreadyExistsException ex) {
             return ResponseEntity.badRequest().build();
         } catch (ProductNotFoundException ex) {
             return ResponseEntity.notFound().build();
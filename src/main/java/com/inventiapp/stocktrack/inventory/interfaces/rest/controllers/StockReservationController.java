@@ -0,0 +1,169 @@
+package com.inventiapp.stocktrack.inventory.interfaces.rest.controllers;
+
+import com.inventiapp.stocktrack.inventory.domain.exceptions.StockReservationNotFoundException;
+import com.inventiapp.stocktrack.inventory.domain.model.commands.ConfirmStockReservationCommand;
+import com.inventiapp.stocktrack.inventory.domain.model.commands.ReleaseStockReservationCommand;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetStockReservationByIdQuery;
+import com.inventiapp.stocktrack.inventory.domain.services.StockReservationCommandService;
+import com.inventiapp.stocktrack.inventory.domain.services.StockReservationQueryService;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.CreateStockReservationResource;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.StockReservationResource;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.transform.CreateStockReservationCommandFromResourceAssembler;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.transform.StockReservationResourceFromEntityAssembler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * REST controller for stock reservations.
+ *
+ * @summary
+ * This class provides REST endpoints to hold stock for a cart and then confirm or release it.
+ * Held units stop counting as available until the reservation is released or expires.
+ * @since 1.0
+ */
+@RestController
+@RequestMapping(value = "/api/v1/reservations", produces = APPLICATION_JSON_VALUE)
+@Tag(name = "Stock Reservations", description = "Endpoints for time-boxed stock reservations")
+public class StockReservationController {
+
+    private final StockReservationCommandService stockReservationCommandService;
+    private final StockReservationQueryService stockReservationQueryService;
+
+    /**
+     * Constructor for StockReservationController.
+     * @param stockReservationCommandService Stock reservation command service
+     * @param stockReservationQueryService Stock reservation query service
+     * @since 1.0
+     * @see StockReservationCommandService
+     * @see StockReservationQueryService
+     */
+    public StockReservationController(
+            StockReservationCommandService stockReservationCommandService,
+            StockReservationQueryService stockReservationQueryService) {
+        this.stockReservationCommandService = stockReservationCommandService;
+        this.stockReservationQueryService = stockReservationQueryService;
+    }
+
+    /**
+     * Reserves stock.
+     * @param resource CreateStockReservationResource containing the products and an optional ttl
+     * @return ResponseEntity with the created reservation resource, bad request if the resource is invalid,
+     * or conflict if a product does not have enough stock
+     * @since 1.0
+     * @see CreateStockReservationResource
+     * @see StockReservationResource
+     */
+    @Operation(
+            summary = "Reserve stock",
+            description = "Holds the requested units, first expired first out, until the reservation is confirmed, released or expires")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Stock reserved"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "409", description = "Not enough stock")
+    })
+    @PostMapping(consumes = APPLICATION_JSON_VALUE)
+    public ResponseEntity<StockReservationResource> createReservation(@Valid @RequestBody CreateStockReservationResource resource) {
+        try {
+            var reservation = stockReservationCommandService
+                    .handle(CreateStockReservationCommandFromResourceAssembler.toCommandFromResource(resource));
+            return new ResponseEntity<>(StockReservationResourceFromEntityAssembler.toResourceFromEntity(reservation), CREATED);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(CONFLICT).build();
+        }
+    }
+
+    /**
+     * Gets a reservation by id.
+     * @param id The reservation id
+     * @return ResponseEntity with the reservation resource, or not found if the reservation doesn't exist
+     * @since 1.0
+     * @see StockReservationResource
+     */
+    @Operation(
+            summary = "Get a reservation by id",
+            description = "Gets a stock reservation by its id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservation found"),
+            @ApiResponse(responseCode = "404", description = "Reservation not found")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<StockReservationResource> getReservationById(@PathVariable Long id) {
+        try {
+            var reservation = stockReservationQueryService.handle(new GetStockReservationByIdQuery(id));
+            return reservation.map(r -> ResponseEntity.ok(
+                    StockReservationResourceFromEntityAssembler.toResourceFromEntity(r)))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Confirms a reservation, turning the held units into sold stock.
+     * @param id The reservation id
+     * @return ResponseEntity with the confirmed reservation, not found if it doesn't exist,
+     * or conflict if it is no longer active
+     * @since 1.0
+     */
+    @Operation(
+            summary = "Confirm a reservation",
+            description = "Turns the units held by an active reservation into sold stock")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservation confirmed"),
+            @ApiResponse(responseCode = "404", description = "Reservation not found"),
+            @ApiResponse(responseCode = "409", description = "Reservation no longer active")
+    })
+    @PostMapping("/{id}/confirm")
+    public ResponseEntity<StockReservationResource> confirmReservation(@PathVariable Long id) {
+        try {
+            var reservation = stockReservationCommandService.handle(new ConfirmStockReservationCommand(id));
+            return ResponseEntity.ok(StockReservationResourceFromEntityAssembler.toResourceFromEntity(reservation));
+        } catch (StockReservationNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(CONFLICT).build();
+        }
+    }
+
+    /**
+     * Releases a reservation, giving its units back.
+     * @param id The reservation id
+     * @return ResponseEntity with the released reservation, not found if it doesn't exist,
+     * or conflict if it is no longer active
+     * @since 1.0
+     */
+    @Operation(
+            summary = "Release a reservation",
+            description = "Gives the units held by an active reservation back to their batches")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservation released"),
+            @ApiResponse(responseCode = "404", description = "Reservation not found"),
+            @ApiResponse(responseCode = "409", description = "Reservation no longer active")
+    })
+    @PostMapping("/{id}/release")
+    public ResponseEntity<StockReservationResource> releaseReservation(@PathVariable Long id) {
+        try {
+            var reservation = stockReservationCommandService.handle(new ReleaseStockReservationCommand(id));
+            return ResponseEntity.ok(StockReservationResourceFromEntityAssembler.toResourceFromEntity(reservation));
+        } catch (StockReservationNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(CONFLICT).build();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.inventiapp.stocktrack.inventory.interfaces.rest.resources;
+
+/**
+ * Resource record for one barcode of a scanned basket.
+ * @summary
+ * This record carries the code as sent and the product it resolves to, or a null product when no
+ * product has that code.
+ * @since 1.0
+ */
+public record BarcodeLookupResultResource(
+        String code,
+        ProductBarcodeResource product
+) {}
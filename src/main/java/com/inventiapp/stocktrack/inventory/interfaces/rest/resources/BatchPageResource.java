@@ -0,0 +1,18 @@
+package com.inventiapp.stocktrack.inventory.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Resource record for a page of batches.
+ * @summary
+ * This record represents one page of a batch listing.
+ * It contains the batches of the page, the page number and size, and the totals of the listing.
+ * @since 1.0
+ */
+public record BatchPageResource(
+        List<BatchResource> content,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages
+) {}
@@ -0,0 +1,27 @@
+package com.inventiapp.stocktrack.inventory.interfaces.rest.resources;
+
+/**
+ * Size and counters of an inventory lookup cache.
+ *
+ * @param name          name of the cache
+ * @param enabled       whether the cache keeps entries
+ * @param size          entries held now
+ * @param maximumSize   most entries held before the least recently used is evicted
+ * @param hits          reads served from the cache since startup
+ * @param misses        reads that went to the database since startup
+ * @param hitRate       fraction of reads served from the cache
+ * @param evictions     entries dropped to stay within the maximum size
+ * @param expirations   entries dropped because they outlived their time to live
+ * @param invalidations entries dropped because what they hold changed
+ */
+public record CacheStatisticsResource(String name,
+                                      boolean enabled,
+                                      int size,
+                                      int maximumSize,
+                                      long hits,
+                                      long misses,
+                                      double hitRate,
+                                      long evictions,
+                                      long expirations,
+                                      long invalidations) {
+}
@@ -11,6 +11,7 @@ package com.inventiapp.stocktrack.inventory.interfaces.rest.resources;
  * @param minStock   minimum stock quantity to trigger alert (required)
  * @param unitPrice  price per unit (required)
  * @param isActive   product active status (required)
+ * @param barcode    barcode or SKU (optional, unique)
  */
 public record CreateProductResource(
         String name,
@@ -19,7 +20,8 @@ public record CreateProductResource(
         String providerId,
         Integer minStock,
         Double unitPrice,
-        Boolean isActive
+        Boolean isActive,
+        String barcode
 ) {
     /**
      * Validate the resource.
@@ -0,0 +1,52 @@
+package com.inventiapp.stocktrack.inventory.interfaces.rest.resources;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * Resource record for reserving stock.
+ *
+ * @summary
+ * This record represents the resource for reserving stock for a cart.
+ * It contains the products to hold and, optionally, how long to hold them.
+ * @since 1.0
+ */
+public record CreateStockReservationResource(
+        @NotEmpty(message = "Reservation must hold at least one product")
+        @Valid
+        List<ReservationItemResource> items,
+        Long ttlSeconds
+) {
+    /**
+     * Validates the resource.
+     * @throws IllegalArgumentException If items are empty or the ttl is not positive
+     */
+    public CreateStockReservationResource {
+        if (items == null || items.isEmpty())
+            throw new IllegalArgumentException("Reservation must hold at least one product");
+        if (ttlSeconds != null && ttlSeconds <= 0)
+            throw new IllegalArgumentException("ttlSeconds must be greater than 0");
+    }
+
+    /**
+     * Resource for a reserved product.
+     *
+     * @param productId The product ID. Must be positive.
+     * @param quantity The units to hold. Must be greater than 0.
+     */
+    public record ReservationItemResource(
+            Long productId,
+            Integer quantity
+    ) {
+        public ReservationItemResource {
+            if (productId == null || productId <= 0) {
+                throw new IllegalArgumentException("Product ID must be a positive number");
+            }
+            if (quantity == null || quantity <= 0) {
+                throw new IllegalArgumentException("Quantity must be greater than 0");
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.inventiapp.stocktrack.inventory.interfaces.rest.resources;
+
+/**
+ * Resource record for the product a scanned barcode resolves to.
+ * @summary
+ * This record carries what a checkout needs to add the scanned product to a sale.
+ * @since 1.0
+ */
+public record ProductBarcodeResource(
+        Long id,
+        String barcode,
+        String name,
+        Double unitPrice,
+        Boolean isActive
+) {}
@@ -0,0 +1,16 @@
+package com.inventiapp.stocktrack.inventory.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Resource record for a page of the product catalog.
+ * @summary
+ * This record represents one keyset page of the product listing.
+ * It contains the products of the page and the cursor to pass to get the next one.
+ * @since 1.0
+ */
+public record ProductPageResource(
+        List<ProductResource> content,
+        String nextCursor,
+        int limit
+) {}
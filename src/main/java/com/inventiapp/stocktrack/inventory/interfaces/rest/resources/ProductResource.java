@@ -11,5 +11,9 @@ public record ProductResource (
     String providerId,
     Integer minStock,
     Double unitPrice,
-    Boolean isActive
+    Boolean isActive,
+    Integer onHand,
+    Integer reserved,
+    Integer available,
+    String barcode
 ) {}
@@ -0,0 +1,16 @@
+package com.inventiapp.stocktrack.inventory.interfaces.rest.resources;
+
+/**
+ * Resource record for a product found by a search.
+ * @summary
+ * This record carries what a cashier needs to pick a product from the results, best match first.
+ * @since 1.0
+ */
+public record ProductSearchResultResource(
+        Long id,
+        String name,
+        String categoryId,
+        Double unitPrice,
+        Boolean isActive,
+        int score
+) {}
@@ -0,0 +1,12 @@
+package com.inventiapp.stocktrack.inventory.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * Resource record for resolving the barcodes of a scanned basket.
+ * @param codes barcodes in scan order (required, at most 500)
+ * @since 1.0
+ */
+public record ResolveBarcodesResource(
+        List<String> codes
+) {}
@@ -0,0 +1,34 @@
+package com.inventiapp.stocktrack.inventory.interfaces.rest.resources;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Resource record for a stock reservation.
+ *
+ * @summary
+ * This record represents the resource for a stock reservation.
+ * It contains the ID, status, expiration, the units held per batch, createdAt, and updatedAt.
+ * @since 1.0
+ */
+public record StockReservationResource(
+        Long id,
+        String status,
+        Date expiresAt,
+        List<StockReservationLineResource> lines,
+        Date createdAt,
+        Date updatedAt
+) {
+    /**
+     * Resource for the units held in one batch.
+     *
+     * @param batchId The batch ID
+     * @param productId The product ID
+     * @param quantity The units held
+     */
+    public record StockReservationLineResource(
+            Long batchId,
+            Long productId,
+            Integer quantity
+    ) {}
+}
@@ -10,7 +10,8 @@ public record UpdateProductResource(
         String providerId,
         Integer minStock,
         Double unitPrice,
-        Boolean isActive
+        Boolean isActive,
+        String barcode
 ) {
     public UpdateProductResource {
         if (name == null || name.isBlank()) {
@@ -1,7 +1,9 @@
 package com.inventiapp.stocktrack.inventory.interfaces.rest.transform;
 
 import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Batch;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.BatchPageResource;
 import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.BatchResource;
+import org.springframework.data.domain.Page;
 
 /**
  * Assembler to convert a Batch aggregate to a BatchResource.
@@ -26,4 +28,20 @@ public class BatchResourceFromEntityAssembler {
                 batch.getReceptionDate()
         );
     }
+
+    /**
+     * Converts a page of Batch entities into a BatchPageResource.
+     *
+     * @param page the page of Batch aggregates
+     * @return BatchPageResource for API responses
+     */
+    public static BatchPageResource toPageResource(Page<Batch> page) {
+        return new BatchPageResource(
+                page.getContent().stream().map(BatchResourceFromEntityAssembler::toResource).toList(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages()
+        );
+    }
 }
@@ -29,7 +29,8 @@ public class CreateProductCommandFromResourceAssembler {
                 resource.providerId(),
                 resource.minStock(),
                 resource.unitPrice(),
-                resource.isActive()
+                resource.isActive(),
+                resource.barcode()
         );
     }
 }
@@ -0,0 +1,28 @@
+package com.inventiapp.stocktrack.inventory.interfaces.rest.transform;
+
+import com.inventiapp.stocktrack.inventory.domain.model.commands.CreateStockReservationCommand;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.CreateStockReservationResource;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assembler to create a CreateStockReservationCommand from a CreateStockReservationResource.
+ * @since 1.0
+ */
+public class CreateStockReservationCommandFromResourceAssembler {
+    /**
+     * Converts a CreateStockReservationResource to a CreateStockReservationCommand.
+     * Items repeating a product are added together.
+     * @param resource CreateStockReservationResource to convert
+     * @return CreateStockReservationCommand created from the resource
+     */
+    public static CreateStockReservationCommand toCommandFromResource(CreateStockReservationResource resource) {
+        Map<Long, Integer> quantitiesByProduct = new HashMap<>();
+        resource.items().forEach(item -> quantitiesByProduct.merge(item.productId(), item.quantity(), Integer::sum));
+
+        Duration ttl = resource.ttlSeconds() != null ? Duration.ofSeconds(resource.ttlSeconds()) : null;
+        return new CreateStockReservationCommand(quantitiesByProduct, ttl);
+    }
+}
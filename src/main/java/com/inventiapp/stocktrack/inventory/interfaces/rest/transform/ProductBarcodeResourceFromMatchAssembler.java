@@ -0,0 +1,49 @@
+package com.inventiapp.stocktrack.inventory.interfaces.rest.transform;
+
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.BarcodeMatch;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.BarcodeLookupResultResource;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.ProductBarcodeResource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Assembler to convert a BarcodeMatch to a ProductBarcodeResource.
+ */
+public class ProductBarcodeResourceFromMatchAssembler {
+    /**
+     * Converts a barcode match into a ProductBarcodeResource.
+     *
+     * @param match the product a barcode resolves to
+     * @return ProductBarcodeResource for API responses
+     */
+    public static ProductBarcodeResource toResource(BarcodeMatch match) {
+        return new ProductBarcodeResource(
+                match.productId(),
+                match.barcode(),
+                match.name(),
+                match.unitPrice(),
+                match.isActive()
+        );
+    }
+
+    /**
+     * Pairs each code of a basket with the product it resolves to.
+     *
+     * @param codes   the codes, as sent
+     * @param matches the match of each code, in the same order
+     * @return one BarcodeLookupResultResource per code
+     */
+    public static List<BarcodeLookupResultResource> toLookupResources(List<String> codes,
+                                                                       List<Optional<BarcodeMatch>> matches) {
+        List<BarcodeLookupResultResource> results = new ArrayList<>(codes.size());
+        for (int i = 0; i < codes.size(); i++) {
+            results.add(new BarcodeLookupResultResource(
+                    codes.get(i),
+                    matches.get(i).map(ProductBarcodeResourceFromMatchAssembler::toResource).orElse(null)
+            ));
+        }
+        return results;
+    }
+}
@@ -1,10 +1,13 @@
 package com.inventiapp.stocktrack.inventory.interfaces.rest.transform;
 
 import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Product;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductView;
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductsPage;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.ProductPageResource;
 import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.ProductResource;
 
 /**
- * Assembler to convert a Product aggregate to a ProductResource.
+ * Assembler to convert a Product aggregate, or a catalog view of one, to a ProductResource.
  */
 public class ProductResourceFromEntityAssembler {
     /**
@@ -26,7 +29,49 @@ public class ProductResourceFromEntityAssembler {
                 product.getProviderId(),
                 product.getMinStock(),
                 product.getUnitPrice(),
-                product.getIsActive()
+                product.getIsActive(),
+                product.getOnHand(),
+                product.getReserved(),
+                product.getAvailable(),
+                product.getBarcodeValue()
+        );
+    }
+
+    /**
+     * Converts a catalog view of a product into a ProductResource.
+     *
+     * @param product the product view
+     * @return ProductResource for API responses
+     */
+    public static ProductResource toResource(ProductView product) {
+        return new ProductResource(
+                product.id(),
+                product.name(),
+                product.description(),
+                product.categoryId(),
+                product.providerId(),
+                product.minStock(),
+                product.unitPrice(),
+                product.isActive(),
+                product.onHand(),
+                product.reserved(),
+                product.available(),
+                product.barcode()
+        );
+    }
+
+    /**
+     * Converts a page of the product catalog into a ProductPageResource.
+     *
+     * @param page  the page
+     * @param limit the requested page size
+     * @return ProductPageResource for API responses
+     */
+    public static ProductPageResource toPageResource(ProductsPage page, int limit) {
+        return new ProductPageResource(
+                page.products().stream().map(ProductResourceFromEntityAssembler::toResource).toList(),
+                page.nextCursor() != null ? page.nextCursor().encode() : null,
+                limit
         );
     }
 }
@@ -0,0 +1,26 @@
+package com.inventiapp.stocktrack.inventory.interfaces.rest.transform;
+
+import com.inventiapp.stocktrack.inventory.domain.model.valueobject.ProductSearchHit;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.ProductSearchResultResource;
+
+/**
+ * Assembler to convert a ProductSearchHit to a ProductSearchResultResource.
+ */
+public class ProductSearchResultResourceFromHitAssembler {
+    /**
+     * Converts a search hit into a ProductSearchResultResource.
+     *
+     * @param hit the product found
+     * @return ProductSearchResultResource for API responses
+     */
+    public static ProductSearchResultResource toResource(ProductSearchHit hit) {
+        return new ProductSearchResultResource(
+                hit.productId(),
+                hit.name(),
+                hit.categoryId(),
+                hit.unitPrice(),
+                hit.isActive(),
+                hit.score()
+        );
+    }
+}
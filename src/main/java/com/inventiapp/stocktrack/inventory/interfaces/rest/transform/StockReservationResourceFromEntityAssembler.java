@@ -0,0 +1,36 @@
+package com.inventiapp.stocktrack.inventory.interfaces.rest.transform;
+
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.StockReservation;
+import com.inventiapp.stocktrack.inventory.interfaces.rest.resources.StockReservationResource;
+
+import java.util.List;
+
+/**
+ * Assembler to create a StockReservationResource from a StockReservation entity.
+ * @since 1.0
+ */
+public class StockReservationResourceFromEntityAssembler {
+    /**
+     * Converts a StockReservation entity to a StockReservationResource.
+     * @param entity StockReservation entity to convert
+     * @return StockReservationResource created from the entity
+     */
+    public static StockReservationResource toResourceFromEntity(StockReservation entity) {
+        List<StockReservationResource.StockReservationLineResource> lines = entity.getLines().stream()
+                .map(line -> new StockReservationResource.StockReservationLineResource(
+                        line.getBatchId(),
+                        line.getProductId(),
+                        line.getQuantity()
+                ))
+                .toList();
+
+        return new StockReservationResource(
+                entity.getId(),
+                entity.getStatus().name(),
+                entity.getExpiresAt(),
+                lines,
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+}
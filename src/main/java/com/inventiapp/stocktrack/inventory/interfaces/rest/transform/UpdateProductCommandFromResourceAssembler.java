@@ -31,7 +31,8 @@ public class UpdateProductCommandFromResourceAssembler {
                 resource.providerId(),
                 resource.minStock(),
                 resource.unitPrice(),
-                resource.isActive()
+                resource.isActive(),
+                resource.barcode()
         );
     }
 }
\ No newline at end of file
@@ -12,5 +12,12 @@ public interface DashboardService {
      * @return DashboardResource with all dashboard information
      */
     DashboardResource getDashboardData();
+
+    /**
+     * Gets the dashboard data from the dashboard cache, computing it only when it has changed or
+     * is older than the configured maximum staleness.
+     * @return DashboardSnapshot with the dashboard data and its entity tag
+     */
+    DashboardSnapshot getDashboardSnapshot();
 }
 
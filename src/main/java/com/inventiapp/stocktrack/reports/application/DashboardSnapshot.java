@@ -0,0 +1,18 @@
+package com.inventiapp.stocktrack.reports.application;
+
+import com.inventiapp.stocktrack.reports.interfaces.rest.resources.DashboardResource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Dashboard data together with the entity tag of its content and the moment it was computed.
+ * @param dashboard the dashboard data
+ * @param etag quoted entity tag derived from the dashboard content
+ * @param computedAt when the dashboard data was computed
+ * @param branchTimings elapsed time of each branch of the computation that produced the data
+ */
+public record DashboardSnapshot(DashboardResource dashboard, String etag, Instant computedAt,
+                                Map<String, Duration> branchTimings) {
+}
@@ -0,0 +1,28 @@
+package com.inventiapp.stocktrack.reports.application;
+
+import com.inventiapp.stocktrack.reports.domain.model.queries.GetSalesReportQuery;
+import com.inventiapp.stocktrack.reports.domain.model.queries.GetTopProductsQuery;
+import com.inventiapp.stocktrack.reports.interfaces.rest.resources.SalesReportResource;
+import com.inventiapp.stocktrack.reports.interfaces.rest.resources.TopProductResource;
+
+import java.util.List;
+
+/**
+ * Service interface for sales reports.
+ */
+public interface SalesReportService {
+
+    /**
+     * Gets the sales report of a date range, optionally restricted to a staff user and a product.
+     * @param query The report query
+     * @return SalesReportResource with the totals and the daily series of the range
+     */
+    SalesReportResource handle(GetSalesReportQuery query);
+
+    /**
+     * Gets the best selling products of a date range.
+     * @param query The top products query
+     * @return the k best selling products, best first
+     */
+    List<TopProductResource> handle(GetTopProductsQuery query);
+}
@@ -0,0 +1,138 @@
+package com.inventiapp.stocktrack.reports.application.internal;
+
+import com.inventiapp.stocktrack.reports.domain.exceptions.DashboardUnavailableException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent branches of a dashboard computation and records how long each one took.
+ * @summary
+ * In parallel mode every branch runs on its own virtual thread, in its own read-only transaction,
+ * and is awaited for at most the branch timeout counted from when it was forked. The first branch
+ * that fails or times out cancels all the others, and closing the scope cancels whatever is left,
+ * so no branch outlives the computation. In sequential mode branches run inline on the caller,
+ * inside the caller's transaction.
+ * @since 1.0
+ */
+final class DashboardBranches implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final TransactionTemplate transaction;
+    private final Duration branchTimeout;
+    private final List<Branch<?>> branches = new ArrayList<>();
+
+    private DashboardBranches(ExecutorService executor, TransactionTemplate transaction, Duration branchTimeout) {
+        this.executor = executor;
+        this.transaction = transaction;
+        this.branchTimeout = branchTimeout;
+    }
+
+    static DashboardBranches parallel(TransactionTemplate transaction, Duration branchTimeout) {
+        return new DashboardBranches(Executors.newVirtualThreadPerTaskExecutor(), transaction, branchTimeout);
+    }
+
+    static DashboardBranches sequential() {
+        return new DashboardBranches(null, null, null);
+    }
+
+    /**
+     * Starts a branch.
+     * @param name branch name, used in timings and errors
+     * @param task the work of the branch
+     * @return the branch, to be joined for its result
+     */
+    <T> Branch<T> fork(String name, Supplier<T> task) {
+        Branch<T> branch = new Branch<>(name);
+        branches.add(branch);
+        if (executor == null) {
+            branch.value = branch.timed(task);
+        } else {
+            branch.deadline = System.nanoTime() + branchTimeout.toNanos();
+            branch.future = executor.submit(() -> branch.timed(() -> transaction.execute(status -> task.get())));
+        }
+        return branch;
+    }
+
+    /**
+     * @return elapsed time of each finished branch, in fork order
+     */
+    Map<String, Duration> timings() {
+        Map<String, Duration> timings = new LinkedHashMap<>();
+        branches.stream()
+                .filter(branch -> branch.elapsed != null)
+                .forEach(branch -> timings.put(branch.name, branch.elapsed));
+        return timings;
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor.close();
+        }
+    }
+
+    private void cancelAll() {
+        branches.stream()
+                .filter(branch -> branch.future != null)
+                .forEach(branch -> branch.future.cancel(true));
+    }
+
+    /**
+     * A forked branch of a dashboard computation.
+     */
+    final class Branch<T> {
+        private final String name;
+        private volatile Duration elapsed;
+        private T value;
+        private Future<T> future;
+        private long deadline;
+
+        private Branch(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Waits for the result of the branch.
+         * @return the result
+         * @throws DashboardUnavailableException if the branch failed or timed out, after cancelling the other branches
+         */
+        T join() {
+            if (future == null) {
+                return value;
+            }
+            try {
+                return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                cancelAll();
+                throw new DashboardUnavailableException(name, "timed out after " + branchTimeout, null);
+            } catch (ExecutionException e) {
+                cancelAll();
+                throw new DashboardUnavailableException(name, "failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll();
+                throw new DashboardUnavailableException(name, "was interrupted", e);
+            }
+        }
+
+        private T timed(Supplier<T> task) {
+            long start = System.nanoTime();
+            T result = task.get();
+            elapsed = Duration.ofNanos(System.nanoTime() - start);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.inventiapp.stocktrack.reports.application.internal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventiapp.stocktrack.inventory.domain.model.events.BatchCreatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.BatchDeletedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.BatchUpdatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductCreatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductDeletedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductUpdatedEvent;
+import com.inventiapp.stocktrack.reports.application.DashboardSnapshot;
+import com.inventiapp.stocktrack.reports.interfaces.rest.resources.DashboardResource;
+import com.inventiapp.stocktrack.sales.domain.model.events.SaleCreatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the last computed dashboard.
+ * @summary
+ * Keeps a single dashboard snapshot, which is dropped when a sale, batch or product changes and in
+ * any case once it is older than the configured maximum staleness, since some figures depend on
+ * the current date. Concurrent misses are computed once. Invalidation happens after the commit of
+ * the mutating transaction, so a snapshot computed afterwards always sees the change.
+ * @since 1.0
+ */
+@Component
+public class DashboardCache {
+
+    private final Duration maxStaleness;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile CachedSnapshot cached;
+
+    public DashboardCache(@Value("${dashboard.cache.max-staleness:PT30S}") Duration maxStaleness,
+                          ObjectMapper objectMapper) {
+        this.maxStaleness = maxStaleness;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the cached snapshot, computing it with the given loader when it is missing, invalidated or too old.
+     * @param loader computes the dashboard data
+     * @return the dashboard snapshot
+     */
+    DashboardSnapshot get(Supplier<DashboardComputation> loader) {
+        CachedSnapshot current = cached;
+        if (isFresh(current)) {
+            return current.snapshot();
+        }
+        loadLock.lock();
+        try {
+            current = cached;
+            if (isFresh(current)) {
+                return current.snapshot();
+            }
+            // Read the generation first: an invalidation during the load leaves the result already stale
+            long loadedGeneration = generation.get();
+            DashboardComputation computation = loader.get();
+            DashboardSnapshot snapshot = new DashboardSnapshot(computation.dashboard(),
+                    etagOf(computation.dashboard()), Instant.now(), computation.branchTimings());
+            cached = new CachedSnapshot(snapshot, loadedGeneration);
+            return snapshot;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Drops the cached snapshot.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true, classes = {
+            ProductCreatedEvent.class, ProductUpdatedEvent.class, ProductDeletedEvent.class,
+            BatchCreatedEvent.class, BatchUpdatedEvent.class, BatchDeletedEvent.class,
+            SaleCreatedEvent.class
+    })
+    @Order(100)
+    public void onDashboardSourceChanged() {
+        invalidate();
+    }
+
+    private boolean isFresh(CachedSnapshot current) {
+        return current != null
+                && current.generation() == generation.get()
+                && current.snapshot().computedAt().plus(maxStaleness).isAfter(Instant.now());
+    }
+
+    private String etagOf(DashboardResource dashboard) {
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(dashboard)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize dashboard data", e);
+        }
+    }
+
+    private record CachedSnapshot(DashboardSnapshot snapshot, long generation) {}
+}
@@ -0,0 +1,14 @@
+package com.inventiapp.stocktrack.reports.application.internal;
+
+import com.inventiapp.stocktrack.reports.interfaces.rest.resources.DashboardResource;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Result of computing the dashboard.
+ * @param dashboard the dashboard data
+ * @param branchTimings elapsed time of each branch of the computation
+ */
+record DashboardComputation(DashboardResource dashboard, Map<String, Duration> branchTimings) {
+}
@@ -1,18 +1,31 @@
 package com.inventiapp.stocktrack.reports.application.internal;
 
 import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Batch;
-import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Product;
-import com.inventiapp.stocktrack.inventory.domain.model.queries.GetAllBatchesQuery;
-import com.inventiapp.stocktrack.inventory.domain.model.queries.GetAllProductsQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.CountLowStockAlertsQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetBatchesExpiringBetweenQuery;
+import com.inventiapp.stocktrack.inventory.domain.model.queries.GetLowStockAlertsQuery;
 import com.inventiapp.stocktrack.inventory.domain.services.BatchQueryService;
-import com.inventiapp.stocktrack.inventory.domain.services.ProductQueryService;
+import com.inventiapp.stocktrack.inventory.domain.services.LowStockAlertQueryService;
 import com.inventiapp.stocktrack.reports.application.DashboardService;
+import com.inventiapp.stocktrack.reports.application.DashboardSnapshot;
+import com.inventiapp.stocktrack.reports.domain.model.entities.DashboardMonthlySales;
+import com.inventiapp.stocktrack.reports.domain.model.entities.DashboardProductSummary;
+import com.inventiapp.stocktrack.reports.domain.model.queries.GetTopProductsQuery;
+import com.inventiapp.stocktrack.reports.domain.model.valueobjects.TopProductsRanking;
+import com.inventiapp.stocktrack.reports.infrastructure.persistence.jpa.repositories.DashboardMonthlySalesRepository;
+import com.inventiapp.stocktrack.reports.infrastructure.persistence.jpa.repositories.DashboardProductSummaryRepository;
 import com.inventiapp.stocktrack.reports.interfaces.rest.resources.*;
-import com.inventiapp.stocktrack.sales.domain.model.aggregates.Sale;
-import com.inventiapp.stocktrack.sales.domain.model.queries.GetAllSalesQuery;
-import com.inventiapp.stocktrack.sales.domain.services.SaleQueryService;
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetMonthlySalesTotalsQuery;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.ProductSalesTotal;
+import com.inventiapp.stocktrack.sales.domain.services.SalesDailyRollupQueryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.*;
@@ -20,102 +33,131 @@ import java.util.stream.Collectors;
 
 /**
  * Implementation of DashboardService that aggregates data from multiple bounded contexts.
+ * Figures are read from the dashboard read model, the daily sales rollups and the low stock alert set,
+ * which are maintained incrementally, so the cost of a dashboard request does not depend on the number
+ * of sales or batches.
+ * Cached snapshots are served without opening a transaction; a read-only one is only used to compute them.
+ * The independent loads run as concurrent branches on virtual threads unless dashboard.parallel.enabled
+ * is false, in which case they run one after another in a single transaction.
  */
 @Service
 public class DashboardServiceImpl implements DashboardService {
 
-    private final ProductQueryService productQueryService;
+    private static final Logger LOGGER = LoggerFactory.getLogger(DashboardServiceImpl.class);
+
+    private static final int TOP_PRODUCTS = 10;
+    private static final int MAX_NOTIFICATIONS_PER_TYPE = 5;
+    private static final int EXPIRING_WITHIN_DAYS = 30;
+
+    private final DashboardProductSummaryRepository productSummaryRepository;
+    private final DashboardMonthlySalesRepository monthlySalesRepository;
     private final BatchQueryService batchQueryService;
-    private final SaleQueryService saleQueryService;
+    private final LowStockAlertQueryService lowStockAlertQueryService;
+    private final SalesDailyRollupQueryService salesDailyRollupQueryService;
+    private final DashboardCache dashboardCache;
+    private final TopProductsEngine topProductsEngine;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean parallel;
+    private final Duration branchTimeout;
 
     public DashboardServiceImpl(
-            ProductQueryService productQueryService,
+            DashboardProductSummaryRepository productSummaryRepository,
+            DashboardMonthlySalesRepository monthlySalesRepository,
             BatchQueryService batchQueryService,
-            SaleQueryService saleQueryService) {
-        this.productQueryService = productQueryService;
+            LowStockAlertQueryService lowStockAlertQueryService,
+            SalesDailyRollupQueryService salesDailyRollupQueryService,
+            DashboardCache dashboardCache,
+            TopProductsEngine topProductsEngine,
+            PlatformTransactionManager transactionManager,
+            @Value("${dashboard.parallel.enabled:true}") boolean parallel,
+            @Value("${dashboard.parallel.branch-timeout:PT5S}") Duration branchTimeout) {
+        this.productSummaryRepository = productSummaryRepository;
+        this.monthlySalesRepository = monthlySalesRepository;
         this.batchQueryService = batchQueryService;
-        this.saleQueryService = saleQueryService;
+        this.lowStockAlertQueryService = lowStockAlertQueryService;
+        this.salesDailyRollupQueryService = salesDailyRollupQueryService;
+        this.dashboardCache = dashboardCache;
+        this.topProductsEngine = topProductsEngine;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.parallel = parallel;
+        this.branchTimeout = branchTimeout;
     }
 
     @Override
     public DashboardResource getDashboardData() {
-        List<Product> products = productQueryService.handle(new GetAllProductsQuery());
-        List<Batch> batches = batchQueryService.handle(new GetAllBatchesQuery());
-        List<Sale> sales = saleQueryService.handle(new GetAllSalesQuery());
+        return computeDashboard().dashboard();
+    }
 
-        DashboardStatsResource stats = calculateStats(products, batches, sales);
-        List<MonthlyIncomeResource> monthlyIncome = calculateMonthlyIncome(sales);
-        List<ProductSalesResource> productSales = calculateProductSales(sales, products);
-        List<NotificationResource> notifications = generateNotifications(products, batches);
+    @Override
+    public DashboardSnapshot getDashboardSnapshot() {
+        return dashboardCache.get(this::computeDashboard);
+    }
 
-        return new DashboardResource(stats, monthlyIncome, productSales, notifications);
+    private DashboardComputation computeDashboard() {
+        long start = System.nanoTime();
+        DashboardComputation computation;
+        if (parallel) {
+            try (DashboardBranches branches = DashboardBranches.parallel(readOnlyTransaction, branchTimeout)) {
+                computation = loadDashboardData(branches);
+            }
+        } else {
+            computation = readOnlyTransaction.execute(status -> {
+                try (DashboardBranches branches = DashboardBranches.sequential()) {
+                    return loadDashboardData(branches);
+                }
+            });
+        }
+        LOGGER.debug("Dashboard computed in {} ms, branches: {}",
+                Duration.ofNanos(System.nanoTime() - start).toMillis(), computation.branchTimings());
+        return computation;
     }
 
-    private DashboardStatsResource calculateStats(List<Product> products, List<Batch> batches, List<Sale> sales) {
-        int productsInInventory = (int) products.stream().filter(Product::getIsActive).count();
-        
-        // Calculate stock per product
-        Map<Long, Integer> stockByProduct = batches.stream()
-                .collect(Collectors.groupingBy(
-                        Batch::getProductId,
-                        Collectors.summingInt(Batch::getQuantity)
-                ));
-
-        // Products with alerts (stock < minStock)
-        int productsWithAlerts = (int) products.stream()
-                .filter(Product::getIsActive)
-                .filter(p -> {
-                    int currentStock = stockByProduct.getOrDefault(p.getId(), 0);
-                    return currentStock < p.getMinStock();
-                })
-                .count();
-
-        // Sales and income this month
+    private DashboardComputation loadDashboardData(DashboardBranches branches) {
         LocalDate now = LocalDate.now();
-        int currentMonth = now.getMonthValue();
-        int currentYear = now.getYear();
-
-        List<Sale> salesThisMonth = sales.stream()
-                .filter(s -> {
-                    LocalDate saleDate = s.getCreatedAt().toInstant()
-                            .atZone(ZoneId.systemDefault())
-                            .toLocalDate();
-                    return saleDate.getMonthValue() == currentMonth && saleDate.getYear() == currentYear;
-                })
-                .toList();
 
-        double monthlyIncome = salesThisMonth.stream()
-                .mapToDouble(Sale::getTotalAmount)
-                .sum();
-
-        return new DashboardStatsResource(
-                productsInInventory,
-                monthlyIncome,
-                salesThisMonth.size(),
-                productsWithAlerts
+        var activeProducts = branches.fork("activeProducts", productSummaryRepository::countByIsActiveTrue);
+        var productsWithAlerts = branches.fork("lowStockCount",
+                () -> lowStockAlertQueryService.handle(new CountLowStockAlertsQuery()));
+        var salesThisMonth = branches.fork("salesThisMonth", () -> countSalesOfMonth(now));
+        var incomeByMonth = branches.fork("monthlyIncome", () -> loadIncomeByMonth(now.getYear()));
+        var productSales = branches.fork("productSales", this::calculateProductSales);
+        var lowStockNotifications = branches.fork("lowStockNotifications", this::generateLowStockNotifications);
+        var expiringNotifications = branches.fork("expiringNotifications", () -> generateExpiringNotifications(now));
+
+        DashboardStatsResource stats = new DashboardStatsResource(
+                activeProducts.join().intValue(),
+                incomeByMonth.join()[now.getMonthValue() - 1],
+                salesThisMonth.join(),
+                productsWithAlerts.join().intValue()
         );
+        List<MonthlyIncomeResource> monthlyIncome = calculateMonthlyIncome(incomeByMonth.join());
+        List<NotificationResource> notifications = new ArrayList<>(lowStockNotifications.join());
+        notifications.addAll(expiringNotifications.join());
+
+        return new DashboardComputation(
+                new DashboardResource(stats, monthlyIncome, productSales.join(), notifications),
+                branches.timings());
     }
 
-    private List<MonthlyIncomeResource> calculateMonthlyIncome(List<Sale> sales) {
-        LocalDate now = LocalDate.now();
-        int currentYear = now.getYear();
-
-        // Group sales by month for the current year
-        Map<Integer, Double> incomeByMonth = sales.stream()
-                .filter(s -> {
-                    LocalDate saleDate = s.getCreatedAt().toInstant()
-                            .atZone(ZoneId.systemDefault())
-                            .toLocalDate();
-                    return saleDate.getYear() == currentYear;
-                })
-                .collect(Collectors.groupingBy(
-                        s -> s.getCreatedAt().toInstant()
-                                .atZone(ZoneId.systemDefault())
-                                .toLocalDate()
-                                .getMonthValue(),
-                        Collectors.summingDouble(Sale::getTotalAmount)
-                ));
+    /**
+     * Loads the income of each month of a year; the grouping runs in the database.
+     */
+    private double[] loadIncomeByMonth(int year) {
+        double[] incomeByMonth = new double[12];
+        salesDailyRollupQueryService.handle(new GetMonthlySalesTotalsQuery(year))
+                .forEach(month -> incomeByMonth[month.salesMonth() - 1] = month.revenue());
+        return incomeByMonth;
+    }
+
+    private int countSalesOfMonth(LocalDate now) {
+        return monthlySalesRepository
+                .findBySalesYearAndSalesMonth(now.getYear(), now.getMonthValue())
+                .map(DashboardMonthlySales::getSalesCount)
+                .orElse(0);
+    }
 
+    private List<MonthlyIncomeResource> calculateMonthlyIncome(double[] incomeByMonth) {
         // Generate all 12 months
         List<MonthlyIncomeResource> result = new ArrayList<>();
         String[] months = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", 
@@ -124,107 +166,84 @@ public class DashboardServiceImpl implements DashboardService {
         for (int i = 1; i <= 12; i++) {
             result.add(new MonthlyIncomeResource(
                     months[i - 1],
-                    incomeByMonth.getOrDefault(i, 0.0)
+                    incomeByMonth[i - 1]
             ));
         }
 
         return result;
     }
 
-    private List<ProductSalesResource> calculateProductSales(List<Sale> sales, List<Product> products) {
-        // Calculate total revenue per product from sale details
-        Map<Long, Double> revenueByProduct = new HashMap<>();
-        double totalRevenue = 0;
-
-        for (Sale sale : sales) {
-            for (var detail : sale.getDetails()) {
-                Long productId = detail.getProductId().id();
-                double detailTotal = detail.getTotalPrice();
-                revenueByProduct.merge(productId, detailTotal, Double::sum);
-                totalRevenue += detailTotal;
-            }
-        }
+    private List<ProductSalesResource> calculateProductSales() {
+        LocalDate from = GetTopProductsQuery.ALL_TIME_FROM;
+        LocalDate to = GetTopProductsQuery.ALL_TIME_TO;
+        double totalRevenue = topProductsEngine.revenue(from, to);
 
         if (totalRevenue == 0) {
             return Collections.emptyList();
         }
 
-        // Create product name map
-        Map<Long, String> productNames = products.stream()
-                .collect(Collectors.toMap(Product::getId, Product::getName));
+        List<ProductSalesTotal> topProducts = topProductsEngine.top(from, to, TOP_PRODUCTS, TopProductsRanking.REVENUE);
+        Map<Long, DashboardProductSummary> summariesByProduct = productSummaryRepository
+                .findByProductIdIn(topProducts.stream().map(ProductSalesTotal::productId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(DashboardProductSummary::getProductId, s -> s));
+
+        // Calculate percentages of the top products, already sorted by revenue descending
+        return topProducts.stream()
+                .map(total -> new ProductSalesResource(
+                        productNameOf(summariesByProduct.get(total.productId())),
+                        Math.round((total.revenue() / totalRevenue) * 1000.0) / 10.0 // Round to 1 decimal
+                ))
+                .toList();
+    }
 
-        // Calculate percentages and sort by percentage descending
-        final double finalTotalRevenue = totalRevenue;
-        return revenueByProduct.entrySet().stream()
-                .map(entry -> new ProductSalesResource(
-                        productNames.getOrDefault(entry.getKey(), "Unknown Product"),
-                        Math.round((entry.getValue() / finalTotalRevenue) * 1000.0) / 10.0 // Round to 1 decimal
+    private List<NotificationResource> generateLowStockNotifications() {
+        return lowStockAlertQueryService.handle(new GetLowStockAlertsQuery(MAX_NOTIFICATIONS_PER_TYPE)).stream()
+                .map(alert -> new NotificationResource(
+                        "low-stock-" + alert.productId(),
+                        "alert",
+                        "lowStock",
+                        "",
+                        Map.of("product", alert.productName() != null ? alert.productName() : "Unknown Product",
+                                "quantity", alert.onHand())
                 ))
-                .sorted((a, b) -> Double.compare(b.percentage(), a.percentage()))
-                .limit(10) // Top 10 products
                 .toList();
     }
 
-    private List<NotificationResource> generateNotifications(List<Product> products, List<Batch> batches) {
+    private List<NotificationResource> generateExpiringNotifications(LocalDate now) {
         List<NotificationResource> notifications = new ArrayList<>();
 
-        // Create product map for quick lookup
-        Map<Long, Product> productMap = products.stream()
-                .collect(Collectors.toMap(Product::getId, p -> p));
-
-        // Calculate stock per product
-        Map<Long, Integer> stockByProduct = batches.stream()
-                .collect(Collectors.groupingBy(
-                        Batch::getProductId,
-                        Collectors.summingInt(Batch::getQuantity)
-                ));
-
-        // Low stock notifications
-        products.stream()
-                .filter(Product::getIsActive)
-                .filter(p -> {
-                    int currentStock = stockByProduct.getOrDefault(p.getId(), 0);
-                    return currentStock < p.getMinStock();
-                })
-                .limit(5)
-                .forEach(p -> {
-                    int currentStock = stockByProduct.getOrDefault(p.getId(), 0);
-                    notifications.add(new NotificationResource(
-                            "low-stock-" + p.getId(),
-                            "alert",
-                            "lowStock",
-                            "",
-                            Map.of("product", p.getName(), "quantity", currentStock)
-                    ));
-                });
-
-        // Expiring products notifications (next 30 days)
-        LocalDate thirtyDaysFromNow = LocalDate.now().plusDays(30);
-        batches.stream()
-                .filter(b -> b.getExpirationDate() != null)
-                .filter(b -> {
-                    LocalDate expDate = b.getExpirationDate().toInstant()
-                            .atZone(ZoneId.systemDefault())
-                            .toLocalDate();
-                    return expDate.isBefore(thirtyDaysFromNow) && expDate.isAfter(LocalDate.now());
-                })
-                .limit(5)
-                .forEach(b -> {
-                    LocalDate expDate = b.getExpirationDate().toInstant()
-                            .atZone(ZoneId.systemDefault())
-                            .toLocalDate();
-                    Product product = productMap.get(b.getProductId());
-                    String productName = product != null ? product.getName() : "Unknown Product";
-                    notifications.add(new NotificationResource(
-                            "expiring-" + b.getId(),
-                            "warning",
-                            "expiringProduct",
-                            "",
-                            Map.of("product", productName, "date", expDate.toString())
-                    ));
-                });
+        // Expiring products notifications (after today and before 30 days from now)
+        ZoneId zone = ZoneId.systemDefault();
+        List<Batch> expiringBatches = batchQueryService.handle(new GetBatchesExpiringBetweenQuery(
+                Date.from(now.plusDays(1).atStartOfDay(zone).toInstant()),
+                Date.from(now.plusDays(EXPIRING_WITHIN_DAYS).atStartOfDay(zone).toInstant()),
+                MAX_NOTIFICATIONS_PER_TYPE
+        ));
+
+        Map<Long, DashboardProductSummary> summariesByProduct = productSummaryRepository
+                .findByProductIdIn(expiringBatches.stream().map(Batch::getProductId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(DashboardProductSummary::getProductId, s -> s));
+
+        expiringBatches.forEach(b -> {
+            LocalDate expDate = b.getExpirationDate().toInstant()
+                    .atZone(zone)
+                    .toLocalDate();
+            DashboardProductSummary summary = summariesByProduct.get(b.getProductId());
+            notifications.add(new NotificationResource(
+                    "expiring-" + b.getId(),
+                    "warning",
+                    "expiringProduct",
+                    "",
+                    Map.of("product", productNameOf(summary), "date", expDate.toString())
+            ));
+        });
 
         return notifications;
     }
-}
 
+    private String productNameOf(DashboardProductSummary summary) {
+        return summary != null && summary.getProductName() != null ? summary.getProductName() : "Unknown Product";
+    }
+}
@@ -0,0 +1,78 @@
+package com.inventiapp.stocktrack.reports.application.internal;
+
+import com.inventiapp.stocktrack.reports.application.SalesReportService;
+import com.inventiapp.stocktrack.reports.domain.model.queries.GetSalesReportQuery;
+import com.inventiapp.stocktrack.reports.domain.model.queries.GetTopProductsQuery;
+import com.inventiapp.stocktrack.reports.interfaces.rest.resources.DailySalesResource;
+import com.inventiapp.stocktrack.reports.interfaces.rest.resources.SalesReportResource;
+import com.inventiapp.stocktrack.reports.interfaces.rest.resources.TopProductResource;
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetDailySalesTotalsQuery;
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetSalesSummaryQuery;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SalesSummary;
+import com.inventiapp.stocktrack.sales.domain.services.SaleQueryService;
+import com.inventiapp.stocktrack.sales.domain.services.SalesDailyRollupQueryService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of SalesReportService.
+ * Totals are read from the sales tables through their range indexes, so the sale count is exact;
+ * the daily series is read from the daily sales rollups. Top products are ranked by the in-memory
+ * top products engine.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SalesReportServiceImpl implements SalesReportService {
+
+    private final SaleQueryService saleQueryService;
+    private final SalesDailyRollupQueryService salesDailyRollupQueryService;
+    private final TopProductsEngine topProductsEngine;
+
+    public SalesReportServiceImpl(SaleQueryService saleQueryService,
+                                  SalesDailyRollupQueryService salesDailyRollupQueryService,
+                                  TopProductsEngine topProductsEngine) {
+        this.saleQueryService = saleQueryService;
+        this.salesDailyRollupQueryService = salesDailyRollupQueryService;
+        this.topProductsEngine = topProductsEngine;
+    }
+
+    @Override
+    public SalesReportResource handle(GetSalesReportQuery query) {
+        SalesSummary summary = saleQueryService.handle(new GetSalesSummaryQuery(
+                query.from(), query.to(), query.staffUserId(), query.productId()));
+
+        List<DailySalesResource> dailySales = salesDailyRollupQueryService.handle(new GetDailySalesTotalsQuery(
+                        query.from(), query.to(), query.staffUserId(), query.productId()))
+                .stream()
+                .map(day -> new DailySalesResource(day.saleDate(), day.unitsSold(), day.revenue()))
+                .toList();
+
+        return new SalesReportResource(
+                query.from(),
+                query.to(),
+                query.staffUserId(),
+                query.productId(),
+                summary.saleCount(),
+                summary.unitsSold(),
+                summary.revenue(),
+                dailySales
+        );
+    }
+
+    /**
+     * Served from memory when the window is cached, so no transaction is opened.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TopProductResource> handle(GetTopProductsQuery query) {
+        var top = topProductsEngine.top(query.from(), query.to(), query.k(), query.ranking());
+        return IntStream.range(0, top.size())
+                .mapToObj(i -> new TopProductResource(
+                        i + 1, top.get(i).productId(), top.get(i).unitsSold(), top.get(i).revenue()))
+                .toList();
+    }
+}
@@ -0,0 +1,256 @@
+package com.inventiapp.stocktrack.reports.application.internal;
+
+import com.inventiapp.stocktrack.reports.domain.model.valueobjects.TopProductsRanking;
+import com.inventiapp.stocktrack.sales.domain.model.events.SaleCreatedEvent;
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetProductSalesTotalsQuery;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.ProductSalesTotal;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.ProductSalesTotals;
+import com.inventiapp.stocktrack.sales.domain.services.SalesDailyRollupQueryService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Ranks products by sales over date windows.
+ * @summary
+ * The per-product totals of a window are loaded once from the daily sales rollups and kept in
+ * memory; committed sales are then added to every cached window they fall in, so a cached window
+ * is always current and a ranking is a bounded-heap selection over its products, O(n log k).
+ * A window is reloaded once older than the configured time to live, and only the most recently
+ * used windows are kept.
+ * <p>
+ * Loads run without blocking new sales: a load reads the totals and the latest sale id in one
+ * snapshot, and recent sales with a higher id are replayed into the window when it is installed.
+ * A window only takes sales with an id above that latest sale id, so a sale already in its totals
+ * whose event arrives late is never counted twice. Sale ids are assigned at insert rather than at
+ * commit, so a sale with a lower id that commits after the load is left out instead; the cached
+ * windows are reloaded on a schedule to pick such sales up.
+ * @since 1.0
+ */
+@Component
+public class TopProductsEngine {
+
+    private static final int RECENT_SALES_CAPACITY = 1_024;
+
+    private final SalesDailyRollupQueryService salesDailyRollupQueryService;
+    private final Duration windowTimeToLive;
+    private final Map<SalesWindow, WindowTotals> windows;
+    private final Deque<SaleDelta> recentSales = new ArrayDeque<>();
+
+    public TopProductsEngine(SalesDailyRollupQueryService salesDailyRollupQueryService,
+                             @Value("${reports.top-products.max-windows:32}") int maxWindows,
+                             @Value("${reports.top-products.window-ttl:PT10M}") Duration windowTimeToLive) {
+        this.salesDailyRollupQueryService = salesDailyRollupQueryService;
+        this.windowTimeToLive = windowTimeToLive;
+        this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SalesWindow, WindowTotals> eldest) {
+                return size() > maxWindows;
+            }
+        };
+    }
+
+    /**
+     * Gets the k best selling products of a window.
+     * @param from first day (inclusive)
+     * @param to last day (exclusive)
+     * @param k number of products
+     * @param ranking measure to rank by
+     * @return at most k products, best first
+     */
+    public List<ProductSalesTotal> top(LocalDate from, LocalDate to, int k, TopProductsRanking ranking) {
+        return window(new SalesWindow(from, to)).top(k, ranking);
+    }
+
+    /**
+     * Gets the revenue of all the sales of a window.
+     * @param from first day (inclusive)
+     * @param to last day (exclusive)
+     * @return revenue of the window
+     */
+    public double revenue(LocalDate from, LocalDate to) {
+        return window(new SalesWindow(from, to)).revenue();
+    }
+
+    /**
+     * Adds a committed sale to the cached windows. Ordered before the dashboard cache invalidation,
+     * so a dashboard recomputed after the sale already sees it here.
+     * @param event The sale created event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void on(SaleCreatedEvent event) {
+        SaleDelta sale = new SaleDelta(event.getSaleId(),
+                event.getCreatedAt().toInstant().atZone(ZoneId.systemDefault()).toLocalDate(),
+                event.getLines());
+        synchronized (this) {
+            if (recentSales.size() == RECENT_SALES_CAPACITY) {
+                recentSales.removeFirst();
+            }
+            recentSales.addLast(sale);
+            windows.values().forEach(window -> window.add(sale));
+        }
+    }
+
+    /**
+     * Reloads every cached window, so sales a window left out because they committed after its
+     * load with a lower id than its latest sale are counted again.
+     */
+    @Scheduled(fixedDelayString = "${reports.top-products.reconcile-interval:PT1M}",
+            initialDelayString = "${reports.top-products.reconcile-interval:PT1M}")
+    public void reconcile() {
+        List<SalesWindow> cached;
+        synchronized (this) {
+            cached = new ArrayList<>(windows.keySet());
+        }
+        cached.forEach(key -> load(key, true));
+    }
+
+    private WindowTotals window(SalesWindow key) {
+        synchronized (this) {
+            WindowTotals cached = windows.get(key);
+            if (cached != null && cached.loadedAt().plus(windowTimeToLive).isAfter(Instant.now())) {
+                return cached;
+            }
+        }
+        return load(key, false);
+    }
+
+    /**
+     * Loads a window and installs it, replaying the recent sales the load did not see.
+     * @param onlyIfCached whether to drop the load if the window was evicted meanwhile
+     */
+    private WindowTotals load(SalesWindow key, boolean onlyIfCached) {
+        ProductSalesTotals totals = salesDailyRollupQueryService.handle(
+                new GetProductSalesTotalsQuery(key.from(), key.to()));
+        WindowTotals loaded = new WindowTotals(key, totals.products(), totals.latestSaleId(), Instant.now());
+        synchronized (this) {
+            recentSales.forEach(loaded::add);
+            if (!onlyIfCached || windows.containsKey(key)) {
+                windows.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private record SalesWindow(LocalDate from, LocalDate to) {
+        boolean contains(LocalDate day) {
+            return !day.isBefore(from) && day.isBefore(to);
+        }
+    }
+
+    private record SaleDelta(Long saleId, LocalDate saleDate, List<SaleCreatedEvent.SaleLine> lines) {}
+
+    /**
+     * Per-product totals of one window, including every sale up to its latest sale id that had
+     * committed when it was loaded.
+     */
+    private static final class WindowTotals {
+        private final SalesWindow window;
+        private final Instant loadedAt;
+        /** Latest sale included in the loaded totals; only sales with a higher id are added. */
+        private final long latestSaleId;
+        private final Map<Long, ProductTotals> products = new HashMap<>();
+        private double revenue;
+
+        private WindowTotals(SalesWindow window, List<ProductSalesTotal> totals, Long latestSaleId, Instant loadedAt) {
+            this.window = window;
+            this.latestSaleId = latestSaleId != null ? latestSaleId : 0;
+            this.loadedAt = loadedAt;
+            totals.forEach(total -> {
+                products.put(total.productId(), new ProductTotals(total.productId(), total.unitsSold(), total.revenue()));
+                revenue += total.revenue();
+            });
+        }
+
+        private Instant loadedAt() {
+            return loadedAt;
+        }
+
+        private synchronized void add(SaleDelta sale) {
+            if (sale.saleId() == null || sale.saleId() <= latestSaleId || !window.contains(sale.saleDate())) {
+                return;
+            }
+            sale.lines().forEach(line -> {
+                products.computeIfAbsent(line.productId(), id -> new ProductTotals(id, 0, 0))
+                        .add(line.quantity(), line.totalPrice());
+                revenue += line.totalPrice();
+            });
+        }
+
+        private synchronized double revenue() {
+            return revenue;
+        }
+
+        private synchronized List<ProductSalesTotal> top(int k, TopProductsRanking ranking) {
+            Comparator<ProductTotals> byRanking = ranking == TopProductsRanking.UNITS
+                    ? Comparator.comparingLong(ProductTotals::unitsSold)
+                    : Comparator.comparingDouble(ProductTotals::revenue);
+            // Ties go to the lower product id so rankings are stable
+            Comparator<ProductTotals> order = byRanking.thenComparing(ProductTotals::productId, Comparator.reverseOrder());
+
+            // Min-heap of the best k seen so far; its head is the weakest of them
+            PriorityQueue<ProductTotals> best = new PriorityQueue<>(k + 1, order);
+            for (ProductTotals product : products.values()) {
+                if (best.size() < k) {
+                    best.add(product);
+                } else if (order.compare(product, best.peek()) > 0) {
+                    best.poll();
+                    best.add(product);
+                }
+            }
+
+            List<ProductSalesTotal> result = new ArrayList<>(best.size());
+            best.stream()
+                    .sorted(order.reversed())
+                    .forEach(product -> result.add(new ProductSalesTotal(
+                            product.productId(), product.unitsSold(), product.revenue())));
+            return result;
+        }
+    }
+
+    private static final class ProductTotals {
+        private final Long productId;
+        private long unitsSold;
+        private double revenue;
+
+        private ProductTotals(Long productId, long unitsSold, double revenue) {
+            this.productId = productId;
+            this.unitsSold = unitsSold;
+            this.revenue = revenue;
+        }
+
+        private void add(int quantity, double totalPrice) {
+            unitsSold += quantity;
+            revenue += totalPrice;
+        }
+
+        private Long productId() {
+            return productId;
+        }
+
+        private long unitsSold() {
+            return unitsSold;
+        }
+
+        private double revenue() {
+            return revenue;
+        }
+    }
+}
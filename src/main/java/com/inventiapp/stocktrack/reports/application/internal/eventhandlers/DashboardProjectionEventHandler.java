@@ -0,0 +1,151 @@
+package com.inventiapp.stocktrack.reports.application.internal.eventhandlers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductCreatedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductDeletedEvent;
+import com.inventiapp.stocktrack.inventory.domain.model.events.ProductUpdatedEvent;
+import com.inventiapp.stocktrack.reports.domain.model.commands.RebuildDashboardReadModelCommand;
+import com.inventiapp.stocktrack.reports.domain.services.DashboardReadModelCommandService;
+import com.inventiapp.stocktrack.reports.infrastructure.persistence.jpa.repositories.DashboardAppliedOutboxMessageRepository;
+import com.inventiapp.stocktrack.reports.infrastructure.persistence.jpa.repositories.DashboardMonthlySalesRepository;
+import com.inventiapp.stocktrack.reports.infrastructure.persistence.jpa.repositories.DashboardProductSummaryRepository;
+import com.inventiapp.stocktrack.sales.domain.model.events.SaleCreatedEvent;
+import com.inventiapp.stocktrack.shared.domain.model.valueobjects.OutboxMessage;
+import com.inventiapp.stocktrack.shared.domain.services.OutboxMessageHandler;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * Event handler that keeps the dashboard read model up to date.
+ * @summary
+ * Consumes the domain events registered by the inventory and sales aggregates from the outbox and
+ * applies them to the dashboard read model, in the order they were recorded. Catalogue events
+ * carry the product values and are applied as upserts, so applying one twice changes nothing.
+ * A sale is applied as an increment, recorded as applied in the same transaction, so a sale
+ * message the dispatcher delivers again is skipped instead of counted twice.
+ * @since 1.0
+ */
+@Service
+public class DashboardProjectionEventHandler implements OutboxMessageHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DashboardProjectionEventHandler.class);
+    private static final String PRODUCT_CREATED = ProductCreatedEvent.class.getSimpleName();
+    private static final String PRODUCT_UPDATED = ProductUpdatedEvent.class.getSimpleName();
+    private static final String PRODUCT_DELETED = ProductDeletedEvent.class.getSimpleName();
+    private static final String SALE_CREATED = SaleCreatedEvent.class.getSimpleName();
+
+    private final DashboardProductSummaryRepository productSummaryRepository;
+    private final DashboardMonthlySalesRepository monthlySalesRepository;
+    private final DashboardAppliedOutboxMessageRepository appliedMessageRepository;
+    private final DashboardReadModelCommandService dashboardReadModelCommandService;
+    private final ObjectMapper objectMapper;
+    private final Duration retention;
+
+    public DashboardProjectionEventHandler(DashboardProductSummaryRepository productSummaryRepository,
+                                           DashboardMonthlySalesRepository monthlySalesRepository,
+                                           DashboardAppliedOutboxMessageRepository appliedMessageRepository,
+                                           DashboardReadModelCommandService dashboardReadModelCommandService,
+                                           ObjectMapper objectMapper,
+                                           @Value("${outbox.retention:P7D}") Duration retention) {
+        this.productSummaryRepository = productSummaryRepository;
+        this.monthlySalesRepository = monthlySalesRepository;
+        this.appliedMessageRepository = appliedMessageRepository;
+        this.dashboardReadModelCommandService = dashboardReadModelCommandService;
+        this.objectMapper = objectMapper;
+        this.retention = retention;
+    }
+
+    /**
+     * Drops the product stock column of earlier versions before any event is handled: stock is no
+     * longer projected, and inserts that leave the column out fail while it exists.
+     */
+    @PostConstruct
+    public void dropRetiredColumns() {
+        if (productSummaryRepository.countStockQuantityColumns() > 0) {
+            productSummaryRepository.dropStockQuantityColumn();
+            LOGGER.info("Dropped dashboard_product_summaries.stock_quantity, stock is no longer projected");
+        }
+    }
+
+    /**
+     * Builds the read model on startup when it has never been built.
+     * @param event The application ready event
+     */
+    @EventListener
+    public void on(ApplicationReadyEvent event) {
+        if (productSummaryRepository.count() == 0 && monthlySalesRepository.count() == 0) {
+            LOGGER.info("Dashboard read model is empty, building it from the source tables");
+            dashboardReadModelCommandService.handle(new RebuildDashboardReadModelCommand());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(PRODUCT_CREATED, PRODUCT_UPDATED, PRODUCT_DELETED, SALE_CREATED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional
+    public void handle(OutboxMessage message) {
+        JsonNode payload = message.payload();
+        if (PRODUCT_CREATED.equals(message.eventType()) || PRODUCT_UPDATED.equals(message.eventType())) {
+            productSummaryRepository.upsertCatalogue(payload.path("productId").asLong(),
+                    payload.path("name").asText(null), payload.path("minStock").asInt(),
+                    payload.path("isActive").asBoolean());
+        } else if (PRODUCT_DELETED.equals(message.eventType())) {
+            productSummaryRepository.markRemoved(payload.path("productId").asLong());
+        } else if (SALE_CREATED.equals(message.eventType())) {
+            if (appliedMessageRepository.markApplied(message.id()) == 0) {
+                LOGGER.debug("Sale of outbox message {} already counted, skipping it", message.id());
+                return;
+            }
+            LocalDate saleDate = saleDate(message).toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+            monthlySalesRepository.addSales(saleDate.getYear(), saleDate.getMonthValue(), 1);
+        }
+    }
+
+    /**
+     * Purges the applied messages older than the outbox retention period, which the outbox no
+     * longer holds and so can no longer deliver again.
+     */
+    @Scheduled(fixedDelayString = "${outbox.purge-interval:PT1H}", initialDelayString = "${outbox.purge-interval:PT1H}")
+    @Transactional
+    public void purgeAppliedMessages() {
+        appliedMessageRepository.deleteAllCreatedBefore(Date.from(Instant.now().minus(retention)));
+    }
+
+    private Date saleDate(OutboxMessage message) {
+        Date createdAt;
+        try {
+            createdAt = objectMapper.treeToValue(message.payload().path("createdAt"), Date.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Unreadable sale date in outbox message " + message.id(), ex);
+        }
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Outbox message " + message.id() + " has no sale date");
+        }
+        return createdAt;
+    }
+}
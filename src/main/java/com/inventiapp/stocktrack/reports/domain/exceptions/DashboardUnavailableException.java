@@ -0,0 +1,20 @@
+package com.inventiapp.stocktrack.reports.domain.exceptions;
+
+/**
+ * Exception thrown when the dashboard cannot be computed right now.
+ * @summary
+ * This exception is thrown when a branch of the dashboard computation fails, times out or is
+ * interrupted; the other branches have been cancelled and the request can be retried.
+ * @see RuntimeException
+ */
+public class DashboardUnavailableException extends RuntimeException {
+    /**
+     * Constructor for the exception.
+     * @param branch The name of the branch that did not complete.
+     * @param reason Why the branch did not complete.
+     * @param cause The failure of the branch, or null.
+     */
+    public DashboardUnavailableException(String branch, String reason, Throwable cause) {
+        super("Dashboard branch '%s' %s".formatted(branch, reason), cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.inventiapp.stocktrack.reports.domain.model.commands;
+
+/**
+ * Command to rebuild the dashboard read model from scratch using the inventory and sales tables.
+ */
+public record RebuildDashboardReadModelCommand() {
+}
@@ -0,0 +1,27 @@
+package com.inventiapp.stocktrack.reports.domain.model.entities;
+
+import com.inventiapp.stocktrack.shared.domain.model.entities.AuditableModel;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DashboardAppliedOutboxMessage Entity
+ *
+ * @summary
+ * Outbox message whose increment the dashboard projection has applied. The row is written in the
+ * same transaction as the increment, so a message delivered again is recognised and skipped.
+ * Rows are purged after the outbox retention period, once their message can no longer be redelivered.
+ * @since 1.0
+ */
+@Entity
+@Table(name = "dashboard_applied_outbox_messages")
+@Getter
+@NoArgsConstructor
+public class DashboardAppliedOutboxMessage extends AuditableModel {
+
+    @Column(nullable = false, unique = true)
+    private Long messageId;
+}
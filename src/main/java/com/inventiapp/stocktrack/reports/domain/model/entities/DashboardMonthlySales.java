@@ -0,0 +1,36 @@
+package com.inventiapp.stocktrack.reports.domain.model.entities;
+
+import com.inventiapp.stocktrack.shared.domain.model.entities.AuditableModel;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DashboardMonthlySales Entity
+ *
+ * @summary
+ * Dashboard read model row with the number of sales of one calendar month. Income is read from the
+ * daily sales rollups, which cannot count sales because a sale spans several rollup rows.
+ * Months are bucketed in the server time zone, as the dashboard always did.
+ * @since 1.0
+ */
+@Entity
+@Table(name = "dashboard_monthly_sales", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_dashboard_monthly_sales_period", columnNames = {"sales_year", "sales_month"})
+})
+@Getter
+@NoArgsConstructor
+public class DashboardMonthlySales extends AuditableModel {
+
+    @Column(nullable = false)
+    private Integer salesYear;
+
+    @Column(nullable = false)
+    private Integer salesMonth;
+
+    @Column(nullable = false)
+    private Integer salesCount;
+}
@@ -0,0 +1,35 @@
+package com.inventiapp.stocktrack.reports.domain.model.entities;
+
+import com.inventiapp.stocktrack.shared.domain.model.entities.AuditableModel;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DashboardProductSummary Entity
+ *
+ * @summary
+ * Dashboard read model row kept per product. It holds the catalogue values the dashboard shows;
+ * stock is read from the products and the low stock alerts, not copied here. Rows are maintained by the dashboard projection from inventory events; a null product name
+ * means the product has been deleted.
+ * @since 1.0
+ */
+@Entity
+@Table(name = "dashboard_product_summaries")
+@Getter
+@NoArgsConstructor
+public class DashboardProductSummary extends AuditableModel {
+
+    @Column(nullable = false, unique = true)
+    private Long productId;
+
+    private String productName;
+
+    @Column(nullable = false)
+    private Integer minStock;
+
+    @Column(nullable = false)
+    private Boolean isActive;
+}
@@ -0,0 +1,31 @@
+package com.inventiapp.stocktrack.reports.domain.model.queries;
+
+import java.time.LocalDate;
+
+/**
+ * Query to get the sales report of a date range.
+ * When no range is given the report covers the current month up to today.
+ * @param from first day (inclusive)
+ * @param to last day (exclusive)
+ * @param staffUserId only sales of this staff user, or null for all
+ * @param productId only lines of this product, or null for all
+ */
+public record GetSalesReportQuery(LocalDate from, LocalDate to, Long staffUserId, Long productId) {
+    public GetSalesReportQuery {
+        if (from == null) {
+            from = LocalDate.now().withDayOfMonth(1);
+        }
+        if (to == null) {
+            to = LocalDate.now().plusDays(1);
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (staffUserId != null && staffUserId <= 0) {
+            throw new IllegalArgumentException("staffUserId must be a positive number");
+        }
+        if (productId != null && productId <= 0) {
+            throw new IllegalArgumentException("productId must be a positive number");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.inventiapp.stocktrack.reports.domain.model.queries;
+
+import com.inventiapp.stocktrack.reports.domain.model.valueobjects.TopProductsRanking;
+
+import java.time.LocalDate;
+
+/**
+ * Query to get the best selling products of a date range.
+ * When no range is given every sale is considered.
+ * @param k number of products to return, between 1 and {@value #MAX_K}
+ * @param from first day (inclusive)
+ * @param to last day (exclusive)
+ * @param ranking measure the products are ranked by
+ */
+public record GetTopProductsQuery(int k, LocalDate from, LocalDate to, TopProductsRanking ranking) {
+    public static final int MAX_K = 100;
+    public static final LocalDate ALL_TIME_FROM = LocalDate.of(1970, 1, 1);
+    public static final LocalDate ALL_TIME_TO = LocalDate.of(9999, 1, 1);
+
+    public GetTopProductsQuery {
+        if (k <= 0 || k > MAX_K) {
+            throw new IllegalArgumentException("k must be between 1 and " + MAX_K);
+        }
+        if (from == null) {
+            from = ALL_TIME_FROM;
+        }
+        if (to == null) {
+            to = ALL_TIME_TO;
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (ranking == null) {
+            ranking = TopProductsRanking.REVENUE;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.inventiapp.stocktrack.reports.domain.model.valueobjects;
+
+/**
+ * Measure products are ranked by in the top products report.
+ */
+public enum TopProductsRanking {
+    REVENUE,
+    UNITS
+}
@@ -0,0 +1,15 @@
+package com.inventiapp.stocktrack.reports.domain.services;
+
+import com.inventiapp.stocktrack.reports.domain.model.commands.RebuildDashboardReadModelCommand;
+
+/**
+ * Command service for the dashboard read model.
+ */
+public interface DashboardReadModelCommandService {
+
+    /**
+     * Handle rebuilding the dashboard read model.
+     * @param command rebuild dashboard read model command
+     */
+    void handle(RebuildDashboardReadModelCommand command);
+}
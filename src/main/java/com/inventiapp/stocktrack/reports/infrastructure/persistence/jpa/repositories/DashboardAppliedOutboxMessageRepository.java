@@ -0,0 +1,47 @@
+package com.inventiapp.stocktrack.reports.infrastructure.persistence.jpa.repositories;
+
+import com.inventiapp.stocktrack.reports.domain.model.entities.DashboardAppliedOutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+
+/**
+ * Repository interface for the outbox messages applied to the dashboard read model.
+ */
+@Repository
+public interface DashboardAppliedOutboxMessageRepository extends JpaRepository<DashboardAppliedOutboxMessage, Long> {
+
+    /**
+     * Records that a message has been applied, unless it already was.
+     * @param messageId outbox message id
+     * @return 1 if the message is recorded now, 0 if it had already been applied
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO dashboard_applied_outbox_messages (message_id, created_at, updated_at)
+            VALUES (:messageId, NOW(), NOW())
+            """, nativeQuery = true)
+    int markApplied(@Param("messageId") Long messageId);
+
+    /**
+     * Records the pending outbox messages of an event type as applied, for a rebuild that has
+     * already counted their changes from the source tables.
+     * @param eventType simple class name of the event
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO dashboard_applied_outbox_messages (message_id, created_at, updated_at)
+            SELECT e.id, NOW(), NOW()
+            FROM outbox_events e
+            WHERE e.dispatched_at IS NULL AND e.event_type = :eventType
+            """, nativeQuery = true)
+    void markPendingApplied(@Param("eventType") String eventType);
+
+    @Modifying
+    @Query("DELETE FROM DashboardAppliedOutboxMessage m WHERE m.createdAt < :before")
+    int deleteAllCreatedBefore(@Param("before") Date before);
+}
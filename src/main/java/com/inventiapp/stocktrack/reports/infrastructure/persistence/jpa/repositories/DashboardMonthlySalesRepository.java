@@ -0,0 +1,99 @@
+package com.inventiapp.stocktrack.reports.infrastructure.persistence.jpa.repositories;
+
+import com.inventiapp.stocktrack.reports.domain.model.entities.DashboardMonthlySales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for the DashboardMonthlySales read model.
+ */
+@Repository
+public interface DashboardMonthlySalesRepository extends JpaRepository<DashboardMonthlySales, Long> {
+
+    /**
+     * Adds a number of sales to a month.
+     * @param salesYear year
+     * @param salesMonth month of the year (1-12)
+     * @param count number of sales to add
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO dashboard_monthly_sales
+                (sales_year, sales_month, sales_count, created_at, updated_at)
+            VALUES (:salesYear, :salesMonth, :count, NOW(), NOW())
+            ON DUPLICATE KEY UPDATE
+                sales_count = sales_count + VALUES(sales_count),
+                updated_at = NOW()
+            """, nativeQuery = true)
+    void addSales(@Param("salesYear") int salesYear,
+                  @Param("salesMonth") int salesMonth,
+                  @Param("count") int count);
+
+    /**
+     * Finds the row of a month.
+     * @param salesYear year
+     * @param salesMonth month of the year (1-12)
+     * @return the monthly row if the month has sales
+     */
+    Optional<DashboardMonthlySales> findBySalesYearAndSalesMonth(Integer salesYear, Integer salesMonth);
+
+    /**
+     * Counts the sales of each month, bucketing them in the database. Dates are stored in UTC, the
+     * connection time zone, and converted to the given time zone before they are grouped.
+     * @param timeZone time zone of the months, as CONVERT_TZ takes it
+     * @return one row per month with sales
+     */
+    @Query(value = """
+            SELECT YEAR(s.local_created_at) AS salesYear, MONTH(s.local_created_at) AS salesMonth,
+                   COUNT(*) AS salesCount
+            FROM (SELECT CONVERT_TZ(created_at, '+00:00', :timeZone) AS local_created_at FROM sales) s
+            GROUP BY YEAR(s.local_created_at), MONTH(s.local_created_at)
+            """, nativeQuery = true)
+    List<MonthlySalesCount> countSalesByMonth(@Param("timeZone") String timeZone);
+
+    /**
+     * @param timeZone time zone name or offset
+     * @return 1 if CONVERT_TZ knows the time zone, 0 if it does not, as named zones need the time zone tables
+     */
+    @Query(value = "SELECT CONVERT_TZ('2000-01-01 00:00:00', '+00:00', :timeZone) IS NOT NULL", nativeQuery = true)
+    int isKnownTimeZone(@Param("timeZone") String timeZone);
+
+    /**
+     * Gets the server time zone as CONVERT_TZ takes it: its name, so months follow its daylight
+     * saving changes, or its current offset when the database has no time zone tables loaded.
+     * @return the time zone name or offset
+     */
+    default String serverTimeZone() {
+        ZoneId zone = ZoneId.systemDefault();
+        if (zone.normalized() instanceof ZoneOffset offset) {
+            return toTimeZoneOffset(offset);
+        }
+        return isKnownTimeZone(zone.getId()) == 1
+                ? zone.getId()
+                : toTimeZoneOffset(zone.getRules().getOffset(Instant.now()));
+    }
+
+    private static String toTimeZoneOffset(ZoneOffset offset) {
+        return offset.getTotalSeconds() == 0 ? "+00:00" : offset.getId();
+    }
+
+    /**
+     * Projection of the number of sales of one month.
+     */
+    interface MonthlySalesCount {
+        int getSalesYear();
+
+        int getSalesMonth();
+
+        long getSalesCount();
+    }
+}
@@ -0,0 +1,95 @@
+package com.inventiapp.stocktrack.reports.infrastructure.persistence.jpa.repositories;
+
+import com.inventiapp.stocktrack.reports.domain.model.entities.DashboardProductSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for the DashboardProductSummary read model.
+ * Writes are single-statement upserts so concurrent events never lose an increment.
+ */
+@Repository
+public interface DashboardProductSummaryRepository extends JpaRepository<DashboardProductSummary, Long> {
+
+    /**
+     * Inserts or refreshes the catalogue values of a product.
+     * @param productId product id
+     * @param productName product name
+     * @param minStock minimum stock
+     * @param isActive active status
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO dashboard_product_summaries
+                (product_id, product_name, min_stock, is_active, created_at, updated_at)
+            VALUES (:productId, :productName, :minStock, :isActive, NOW(), NOW())
+            ON DUPLICATE KEY UPDATE
+                product_name = VALUES(product_name),
+                min_stock = VALUES(min_stock),
+                is_active = VALUES(is_active),
+                updated_at = NOW()
+            """, nativeQuery = true)
+    void upsertCatalogue(@Param("productId") Long productId,
+                         @Param("productName") String productName,
+                         @Param("minStock") Integer minStock,
+                         @Param("isActive") Boolean isActive);
+
+    /**
+     * Marks a product as removed from the catalogue. The row is kept so the product name is no longer shown.
+     * @param productId product id
+     */
+    @Modifying
+    @Query("UPDATE DashboardProductSummary s SET s.productName = NULL, s.isActive = FALSE WHERE s.productId = :productId")
+    void markRemoved(@Param("productId") Long productId);
+
+    /**
+     * Rebuilds one row per existing product from the products table.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO dashboard_product_summaries
+                (product_id, product_name, min_stock, is_active, created_at, updated_at)
+            SELECT p.id, p.name, p.min_stock, p.is_active, NOW(), NOW()
+            FROM products p
+            """, nativeQuery = true)
+    void rebuildFromCatalogue();
+
+    /**
+     * Counts the stock_quantity columns of the table, 1 while a database created by an earlier
+     * version still has it. Schema updates add columns but never drop them.
+     */
+    @Query(value = """
+            SELECT COUNT(*) FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = 'dashboard_product_summaries'
+              AND column_name = 'stock_quantity'
+            """, nativeQuery = true)
+    long countStockQuantityColumns();
+
+    /**
+     * Drops the stock_quantity column, which the upserts no longer fill and which has no default.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "ALTER TABLE dashboard_product_summaries DROP COLUMN stock_quantity", nativeQuery = true)
+    void dropStockQuantityColumn();
+
+    /**
+     * Counts the active products.
+     * @return number of active products
+     */
+    long countByIsActiveTrue();
+
+    /**
+     * Finds the summaries of the given products.
+     * @param productIds product ids
+     * @return matching summaries
+     */
+    List<DashboardProductSummary> findByProductIdIn(Collection<Long> productIds);
+}
@@ -1,17 +1,28 @@
 package com.inventiapp.stocktrack.reports.interfaces.rest;
 
 import com.inventiapp.stocktrack.reports.application.DashboardService;
+import com.inventiapp.stocktrack.reports.application.DashboardSnapshot;
+import com.inventiapp.stocktrack.reports.domain.exceptions.DashboardUnavailableException;
+import com.inventiapp.stocktrack.reports.domain.model.commands.RebuildDashboardReadModelCommand;
+import com.inventiapp.stocktrack.reports.domain.services.DashboardReadModelCommandService;
 import com.inventiapp.stocktrack.reports.interfaces.rest.resources.DashboardResource;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Locale;
+import java.util.stream.Collectors;
 
 /**
  * REST Controller for dashboard endpoints.
@@ -23,14 +34,23 @@ import org.springframework.web.bind.annotation.RestController;
 @SecurityRequirement(name = "bearerAuth")
 public class DashboardController {
 
+    private static final String SERVER_TIMING = "Server-Timing";
+
     private final DashboardService dashboardService;
+    private final DashboardReadModelCommandService dashboardReadModelCommandService;
 
-    public DashboardController(DashboardService dashboardService) {
+    public DashboardController(DashboardService dashboardService,
+                               DashboardReadModelCommandService dashboardReadModelCommandService) {
         this.dashboardService = dashboardService;
+        this.dashboardReadModelCommandService = dashboardReadModelCommandService;
     }
 
     /**
      * Gets complete dashboard data including statistics, charts, and notifications.
+     * The data is served from the dashboard cache and tagged with an ETag; when the client sends
+     * a matching If-None-Match header the response is 304 without a body. The Server-Timing header
+     * reports how long each branch of the computation that produced the data took.
+     * @param request The current request, used to evaluate If-None-Match
      * @return Dashboard resource with all aggregated data
      */
     @GetMapping
@@ -41,11 +61,52 @@ public class DashboardController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Dashboard data retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Dashboard data not modified since the given ETag"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - valid token required"),
+            @ApiResponse(responseCode = "503", description = "A dashboard branch failed or timed out")
+    })
+    public ResponseEntity<DashboardResource> getDashboard(WebRequest request) {
+        DashboardSnapshot snapshot;
+        try {
+            snapshot = dashboardService.getDashboardSnapshot();
+        } catch (DashboardUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        if (request.checkNotModified(snapshot.etag())) {
+            // Status 304 and the ETag header have already been set
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header(SERVER_TIMING, serverTimingOf(snapshot))
+                .body(snapshot.dashboard());
+    }
+
+    /**
+     * Rebuilds the dashboard read model from the inventory and sales tables.
+     * Useful after importing data directly into the database or to repair the read model.
+     * @return No content once the read model has been rebuilt
+     */
+    @PostMapping("/read-model/rebuild")
+    @Operation(
+            summary = "Rebuild dashboard read model",
+            description = "Recomputes the precomputed dashboard figures from scratch using the products, " +
+                    "batches and sales tables"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Dashboard read model rebuilt"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - valid token required")
     })
-    public ResponseEntity<DashboardResource> getDashboard() {
-        DashboardResource dashboard = dashboardService.getDashboardData();
-        return ResponseEntity.ok(dashboard);
+    public ResponseEntity<Void> rebuildReadModel() {
+        dashboardReadModelCommandService.handle(new RebuildDashboardReadModelCommand());
+        return ResponseEntity.noContent().build();
     }
-}
 
+    private String serverTimingOf(DashboardSnapshot snapshot) {
+        return snapshot.branchTimings().entrySet().stream()
+                .map(timing -> String.format(Locale.ROOT, "%s;dur=%.1f",
+                        timing.getKey(), timing.getValue().toNanos() / 1_000_000.0))
+                .collect(Collectors.joining(", "));
+    }
+}
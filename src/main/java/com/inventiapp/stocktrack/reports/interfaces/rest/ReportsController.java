@@ -0,0 +1,108 @@
+package com.inventiapp.stocktrack.reports.interfaces.rest;
+
+import com.inventiapp.stocktrack.reports.application.SalesReportService;
+import com.inventiapp.stocktrack.reports.domain.model.queries.GetSalesReportQuery;
+import com.inventiapp.stocktrack.reports.domain.model.queries.GetTopProductsQuery;
+import com.inventiapp.stocktrack.reports.domain.model.valueobjects.TopProductsRanking;
+import com.inventiapp.stocktrack.reports.interfaces.rest.resources.SalesReportResource;
+import com.inventiapp.stocktrack.reports.interfaces.rest.resources.TopProductResource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * REST Controller for report endpoints.
+ * Unlike the dashboard, which always shows the current period, reports cover any date range
+ * and can be restricted to a staff user or a product.
+ */
+@RestController
+@RequestMapping(value = "/api/v1/reports", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Reports", description = "Report endpoints over arbitrary date ranges")
+@SecurityRequirement(name = "bearerAuth")
+public class ReportsController {
+
+    private final SalesReportService salesReportService;
+
+    public ReportsController(SalesReportService salesReportService) {
+        this.salesReportService = salesReportService;
+    }
+
+    /**
+     * Gets the sales report of a date range.
+     * @param from First day (inclusive), defaults to the first day of the current month
+     * @param to Last day (exclusive), defaults to tomorrow
+     * @param staffUserId Optional staff user filter
+     * @param productId Optional product filter
+     * @return Sales report resource, or bad request when the filters are invalid
+     */
+    @GetMapping("/sales")
+    @Operation(
+            summary = "Get sales report",
+            description = "Retrieves the number of sales, units sold, revenue and daily series of a date range " +
+                    "(from inclusive, to exclusive), optionally restricted to a staff user and a product"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sales report retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range or filters"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - valid token required")
+    })
+    public ResponseEntity<SalesReportResource> getSalesReport(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long staffUserId,
+            @RequestParam(required = false) Long productId) {
+        GetSalesReportQuery query;
+        try {
+            query = new GetSalesReportQuery(from, to, staffUserId, productId);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(salesReportService.handle(query));
+    }
+
+    /**
+     * Gets the best selling products of a date range.
+     * @param k Number of products, 10 by default
+     * @param from First day (inclusive), all sales when omitted
+     * @param to Last day (exclusive), all sales when omitted
+     * @param by Ranking measure, revenue or units
+     * @return Products ranked best first, or bad request when the parameters are invalid
+     */
+    @GetMapping("/top-products")
+    @Operation(
+            summary = "Get top products",
+            description = "Retrieves the k best selling products of a date range (from inclusive, to exclusive) " +
+                    "ranked by revenue or by units sold"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Top products retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid k, date range or ranking"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - valid token required")
+    })
+    public ResponseEntity<List<TopProductResource>> getTopProducts(
+            @RequestParam(defaultValue = "10") int k,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "revenue") String by) {
+        GetTopProductsQuery query;
+        try {
+            query = new GetTopProductsQuery(k, from, to, TopProductsRanking.valueOf(by.toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(salesReportService.handle(query));
+    }
+}
@@ -0,0 +1,15 @@
+package com.inventiapp.stocktrack.reports.interfaces.rest.resources;
+
+import java.time.LocalDate;
+
+/**
+ * Resource for the sales of one day.
+ * @param date Day
+ * @param unitsSold Units sold that day
+ * @param revenue Revenue of that day
+ */
+public record DailySalesResource(
+        LocalDate date,
+        long unitsSold,
+        double revenue
+) {}
@@ -0,0 +1,26 @@
+package com.inventiapp.stocktrack.reports.interfaces.rest.resources;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Resource for the sales report of a date range.
+ * @param from First day of the report (inclusive)
+ * @param to Last day of the report (exclusive)
+ * @param staffUserId Staff user the report is restricted to, or null
+ * @param productId Product the report is restricted to, or null
+ * @param saleCount Number of sales
+ * @param unitsSold Units sold
+ * @param revenue Revenue of the sold units
+ * @param dailySales Sales of each day with sales
+ */
+public record SalesReportResource(
+        LocalDate from,
+        LocalDate to,
+        Long staffUserId,
+        Long productId,
+        long saleCount,
+        long unitsSold,
+        double revenue,
+        List<DailySalesResource> dailySales
+) {}
@@ -0,0 +1,15 @@
+package com.inventiapp.stocktrack.reports.interfaces.rest.resources;
+
+/**
+ * Resource for a product in the top products report.
+ * @param rank Position in the ranking, starting at 1
+ * @param productId Product id
+ * @param unitsSold Units sold in the range
+ * @param revenue Revenue in the range
+ */
+public record TopProductResource(
+        int rank,
+        Long productId,
+        long unitsSold,
+        double revenue
+) {}
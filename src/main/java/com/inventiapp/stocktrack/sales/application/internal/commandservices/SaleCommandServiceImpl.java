@@ -1,41 +1,446 @@
 package com.inventiapp.stocktrack.sales.application.internal.commandservices;
 
+import com.inventiapp.stocktrack.inventory.interfaces.acl.KitSnapshot;
+import com.inventiapp.stocktrack.inventory.interfaces.acl.ProductSnapshot;
 import com.inventiapp.stocktrack.sales.application.outboundservices.acl.ExternalInventoryService;
+import com.inventiapp.stocktrack.sales.domain.exceptions.IdempotencyKeyReusedException;
 import com.inventiapp.stocktrack.sales.domain.model.aggregates.Sale;
+import com.inventiapp.stocktrack.sales.domain.model.commands.CreateIdempotentSaleCommand;
 import com.inventiapp.stocktrack.sales.domain.model.commands.CreateSaleCommand;
+import com.inventiapp.stocktrack.sales.domain.model.commands.IngestSalesCommand;
+import com.inventiapp.stocktrack.sales.domain.model.commands.IngestedSale;
 import com.inventiapp.stocktrack.sales.domain.model.commands.SaleDetailItem;
+import com.inventiapp.stocktrack.sales.domain.model.entities.SaleDetail;
+import com.inventiapp.stocktrack.sales.domain.model.entities.SaleIdempotencyKey;
+import com.inventiapp.stocktrack.sales.domain.model.events.SaleCreatedEvent;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.IdempotentSaleResult;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleIngestionResult;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleLineView;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleView;
 import com.inventiapp.stocktrack.sales.domain.services.SaleCommandService;
+import com.inventiapp.stocktrack.sales.domain.services.SaleLineProjectionCommandService;
+import com.inventiapp.stocktrack.sales.domain.services.SalesDailyRollupCommandService;
+import com.inventiapp.stocktrack.sales.infrastructure.persistence.jdbc.SaleBatchJdbcRepository;
+import com.inventiapp.stocktrack.sales.infrastructure.persistence.jpa.repositories.SaleIdempotencyKeyRepository;
 import com.inventiapp.stocktrack.sales.infrastructure.persistence.jpa.repositories.SaleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 @Service
 public class SaleCommandServiceImpl implements SaleCommandService {
 
+    /**
+     * How far ahead of the server clock an ingested sale may be dated, for terminals whose clock runs fast.
+     */
+    private static final Duration MAX_CLOCK_SKEW = Duration.ofMinutes(5);
+    private static final String IDEMPOTENCY_KEY_REUSED = "La clave de idempotencia ya se usó con otra venta.";
+
     private final SaleRepository saleRepository;
     private final ExternalInventoryService externalInventoryService;
+    private final SalesDailyRollupCommandService salesDailyRollupCommandService;
+    private final SaleLineProjectionCommandService saleLineProjectionCommandService;
+    private final SaleIdempotencyKeyRepository saleIdempotencyKeyRepository;
+    private final SaleBatchJdbcRepository saleBatchJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration idempotencyTtl;
+
+    /**
+     * Idempotent sales being processed by this instance, keyed by idempotency key,
+     * so concurrent duplicates wait for the first request instead of racing it.
+     */
+    private final ConcurrentMap<String, InFlightSale> inFlightSales = new ConcurrentHashMap<>();
 
-    public SaleCommandServiceImpl(SaleRepository saleRepository, ExternalInventoryService externalInventoryService) {
+    public SaleCommandServiceImpl(SaleRepository saleRepository,
+                                  ExternalInventoryService externalInventoryService,
+                                  SalesDailyRollupCommandService salesDailyRollupCommandService,
+                                  SaleLineProjectionCommandService saleLineProjectionCommandService,
+                                  SaleIdempotencyKeyRepository saleIdempotencyKeyRepository,
+                                  SaleBatchJdbcRepository saleBatchJdbcRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${sales.idempotency.ttl:PT24H}") Duration idempotencyTtl) {
         this.saleRepository = saleRepository;
         this.externalInventoryService = externalInventoryService;
+        this.salesDailyRollupCommandService = salesDailyRollupCommandService;
+        this.saleLineProjectionCommandService = saleLineProjectionCommandService;
+        this.saleIdempotencyKeyRepository = saleIdempotencyKeyRepository;
+        this.saleBatchJdbcRepository = saleBatchJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.idempotencyTtl = idempotencyTtl;
     }
 
     @Override
     @Transactional
     public Long handle(CreateSaleCommand command) {
-        // Validate all products exist (kits are already validated when creating details)
+        // Validate all products exist with a single query (kits are already validated when creating details)
+        Map<Long, ProductSnapshot> products = externalInventoryService.getProductSnapshots(
+                command.details().stream().map(SaleDetailItem::productId).toList());
         for (SaleDetailItem item : command.details()) {
-            if (!externalInventoryService.checkProductExists(item.productId())) {
+            if (!products.containsKey(item.productId())) {
                 throw new IllegalArgumentException("El producto con ID " + item.productId() + " no existe.");
             }
         }
 
         Sale sale = new Sale(command);
 
+        sale.addDomainEvent(new SaleCreatedEvent(
+                sale,
+                sale.getStaffUserId().id(),
+                sale.getTotalAmount(),
+                sale.getDetails().stream()
+                        .map(detail -> new SaleCreatedEvent.SaleLine(
+                                detail.getProductId().id(),
+                                detail.getQuantity(),
+                                detail.getTotalPrice()))
+                        .toList()
+        ));
+
         saleRepository.save(sale);
 
-        externalInventoryService.decreaseStockForSale(sale);
+        salesDailyRollupCommandService.recordSale(sale);
+
+        saleLineProjectionCommandService.recordSale(sale, products.values().stream()
+                .filter(product -> product.name() != null)
+                .collect(Collectors.toMap(ProductSnapshot::productId, ProductSnapshot::name)));
+
+        if (command.reservationId() != null) {
+            externalInventoryService.consumeReservationForSale(command.reservationId(), sale);
+        } else {
+            externalInventoryService.decreaseStockForSale(sale);
+        }
 
         return sale.getId();
     }
+
+    @Override
+    @Transactional
+    public List<SaleIngestionResult> handle(IngestSalesCommand command) {
+        List<IngestedSale> ingested = command.sales();
+        SaleIngestionResult[] results = new SaleIngestionResult[ingested.size()];
+        Date ingestedAt = new Date();
+        Date latestCreatedAt = Date.from(ingestedAt.toInstant().plus(MAX_CLOCK_SKEW));
+
+        // One snapshot of every product of the batch validates the sales and names their lines
+        Map<Long, ProductSnapshot> products = externalInventoryService.getProductSnapshots(ingested.stream()
+                .flatMap(sale -> sale.sale().details().stream())
+                .map(SaleDetailItem::productId)
+                .distinct()
+                .toList());
+
+        // Keys that already produced a sale are replayed; a key repeated in the batch follows its first line
+        Map<String, SaleIdempotencyKey> storedKeys = findLiveKeys(ingested);
+        Map<String, Integer> firstPositionByKey = new HashMap<>();
+        Map<Integer, Integer> repeatedPositions = new HashMap<>();
+
+        List<Sale> sales = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < ingested.size(); i++) {
+            IngestedSale ingestedSale = ingested.get(i);
+            String idempotencyKey = ingestedSale.idempotencyKey();
+            if (idempotencyKey != null) {
+                SaleIdempotencyKey stored = storedKeys.get(idempotencyKey);
+                if (stored != null) {
+                    results[i] = stored.matches(ingestedSale.requestFingerprint())
+                            ? SaleIngestionResult.replayed(stored.getSaleId())
+                            : SaleIngestionResult.rejected(IDEMPOTENCY_KEY_REUSED);
+                    continue;
+                }
+                Integer first = firstPositionByKey.putIfAbsent(idempotencyKey, i);
+                if (first != null) {
+                    repeatedPositions.put(i, first);
+                    continue;
+                }
+            }
+            CreateSaleCommand sale = ingestedSale.sale();
+            if (sale.reservationId() != null) {
+                results[i] = SaleIngestionResult.rejected("Las reservas no se admiten en la carga masiva.");
+                continue;
+            }
+            if (ingestedSale.createdAt() != null && ingestedSale.createdAt().after(latestCreatedAt)) {
+                results[i] = SaleIngestionResult.rejected("La fecha de la venta no puede ser futura.");
+                continue;
+            }
+            var missing = sale.details().stream()
+                    .map(SaleDetailItem::productId)
+                    .filter(productId -> !products.containsKey(productId))
+                    .findFirst();
+            if (missing.isPresent()) {
+                results[i] = SaleIngestionResult.rejected("El producto con ID " + missing.get() + " no existe.");
+                continue;
+            }
+            try {
+                sales.add(new Sale(sale));
+                positions.add(i);
+            } catch (IllegalArgumentException ex) {
+                results[i] = SaleIngestionResult.rejected(ex.getMessage());
+            }
+        }
+
+        // As for single sales, the keys are inserted and flushed before anything is sold: a retry of the
+        // batch on another instance blocks on the unique key until this transaction ends, then fails
+        Map<Integer, SaleIdempotencyKey> claimedKeys = claimKeys(ingested, positions);
+
+        // Stock for the whole batch is taken in one allocation; sales lacking it are rejected
+        List<Boolean> stocked = externalInventoryService.decreaseStockForSales(sales);
+        List<Sale> accepted = new ArrayList<>(sales.size());
+        List<Integer> acceptedPositions = new ArrayList<>(sales.size());
+        List<Date> createdAts = new ArrayList<>(sales.size());
+        List<SaleIdempotencyKey> releasedKeys = new ArrayList<>();
+        for (int i = 0; i < sales.size(); i++) {
+            int position = positions.get(i);
+            if (stocked.get(i)) {
+                accepted.add(sales.get(i));
+                acceptedPositions.add(position);
+                createdAts.add(ingested.get(position).createdAt() != null ? ingested.get(position).createdAt() : ingestedAt);
+            } else {
+                results[position] = SaleIngestionResult.rejected("Stock insuficiente para la venta.");
+                if (claimedKeys.containsKey(position)) {
+                    releasedKeys.add(claimedKeys.remove(position));
+                }
+            }
+        }
+        // A rejected sale leaves its key free, so the line can be sent again once stock arrives
+        saleIdempotencyKeyRepository.deleteAllInBatch(releasedKeys);
+
+        if (!accepted.isEmpty()) {
+            List<Long> saleIds = saleBatchJdbcRepository.insertSales(accepted, createdAts);
+            List<Long> saleDetailIds = saleBatchJdbcRepository.insertSaleDetails(accepted, saleIds, createdAts);
+            List<SaleView> views = toViews(accepted, saleIds, saleDetailIds, createdAts, products);
+
+            salesDailyRollupCommandService.recordSales(views);
+            saleLineProjectionCommandService.recordSales(views);
+
+            for (int i = 0; i < views.size(); i++) {
+                SaleView view = views.get(i);
+                eventPublisher.publishEvent(new SaleCreatedEvent(
+                        this,
+                        view.saleId(),
+                        view.createdAt(),
+                        view.staffUserId(),
+                        view.totalAmount(),
+                        view.lines().stream()
+                                .map(line -> new SaleCreatedEvent.SaleLine(
+                                        line.productId(),
+                                        line.quantity(),
+                                        line.totalPrice()))
+                                .toList()
+                ));
+                int position = acceptedPositions.get(i);
+                results[position] = SaleIngestionResult.created(view.saleId());
+                if (claimedKeys.containsKey(position)) {
+                    claimedKeys.get(position).assignSale(view.saleId());
+                }
+            }
+        }
+
+        repeatedPositions.forEach((position, first) -> {
+            var firstResult = results[first];
+            if (!ingested.get(position).requestFingerprint().equals(ingested.get(first).requestFingerprint())) {
+                results[position] = SaleIngestionResult.rejected(IDEMPOTENCY_KEY_REUSED);
+            } else {
+                results[position] = firstResult.isCreated()
+                        ? SaleIngestionResult.replayed(firstResult.saleId())
+                        : firstResult;
+            }
+        });
+        return List.of(results);
+    }
+
+    @Override
+    public IdempotentSaleResult handle(CreateIdempotentSaleCommand command) {
+        var claim = new InFlightSale(command.requestFingerprint());
+        var running = inFlightSales.putIfAbsent(command.idempotencyKey(), claim);
+        if (running != null) {
+            return new IdempotentSaleResult(running.await(command), true);
+        }
+        try {
+            var result = createOnce(command);
+            claim.outcome.complete(result.saleId());
+            return result;
+        } catch (RuntimeException ex) {
+            claim.outcome.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlightSales.remove(command.idempotencyKey(), claim);
+        }
+    }
+
+    /**
+     * Purges the idempotency keys older than the TTL.
+     */
+    @Scheduled(fixedDelayString = "${sales.idempotency.purge-interval:PT1H}",
+            initialDelayString = "${sales.idempotency.purge-interval:PT1H}")
+    public void purgeExpiredIdempotencyKeys() {
+        transaction.executeWithoutResult(status ->
+                saleIdempotencyKeyRepository.deleteAllCreatedBefore(expiredBefore()));
+    }
+
+    private IdempotentSaleResult createOnce(CreateIdempotentSaleCommand command) {
+        var stored = findLiveKey(command.idempotencyKey());
+        if (stored.isPresent()) {
+            return replay(stored.get(), command);
+        }
+        try {
+            return transaction.execute(status -> {
+                // The key is inserted and flushed before anything is sold: a duplicate on another
+                // instance blocks on the unique key until this transaction ends, then fails
+                saleIdempotencyKeyRepository.deleteExpired(command.idempotencyKey(), expiredBefore());
+                var idempotencyKey = saleIdempotencyKeyRepository.saveAndFlush(
+                        new SaleIdempotencyKey(command.idempotencyKey(), command.requestFingerprint()));
+                Long saleId = handle(command.sale());
+                idempotencyKey.assignSale(saleId);
+                return new IdempotentSaleResult(saleId, false);
+            });
+        } catch (DataIntegrityViolationException ex) {
+            // Another instance committed a sale with the same key first
+            var winner = findLiveKey(command.idempotencyKey()).orElseThrow(() -> ex);
+            return replay(winner, command);
+        }
+    }
+
+    /**
+     * Finds the live keys of a bulk ingestion, i.e. those that already produced a sale.
+     */
+    private Map<String, SaleIdempotencyKey> findLiveKeys(List<IngestedSale> ingested) {
+        List<String> idempotencyKeys = ingested.stream()
+                .map(IngestedSale::idempotencyKey)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (idempotencyKeys.isEmpty()) {
+            return Map.of();
+        }
+        Date expiredBefore = expiredBefore();
+        return saleIdempotencyKeyRepository.findAllByIdempotencyKeyIn(idempotencyKeys).stream()
+                .filter(key -> !key.getCreatedAt().before(expiredBefore))
+                .collect(Collectors.toMap(SaleIdempotencyKey::getIdempotencyKey, key -> key));
+    }
+
+    /**
+     * Inserts the keys of the sales about to be sold, replacing expired ones.
+     * @return the inserted keys, by position of their sale in the ingestion
+     */
+    private Map<Integer, SaleIdempotencyKey> claimKeys(List<IngestedSale> ingested, List<Integer> positions) {
+        Map<Integer, SaleIdempotencyKey> claimedKeys = new HashMap<>();
+        for (int position : positions) {
+            IngestedSale ingestedSale = ingested.get(position);
+            if (ingestedSale.idempotencyKey() != null) {
+                claimedKeys.put(position, new SaleIdempotencyKey(
+                        ingestedSale.idempotencyKey(), ingestedSale.requestFingerprint()));
+            }
+        }
+        if (!claimedKeys.isEmpty()) {
+            saleIdempotencyKeyRepository.deleteAllExpired(claimedKeys.values().stream()
+                    .map(SaleIdempotencyKey::getIdempotencyKey)
+                    .toList(), expiredBefore());
+            saleIdempotencyKeyRepository.saveAllAndFlush(claimedKeys.values());
+        }
+        return claimedKeys;
+    }
+
+    /**
+     * Builds the views of sales written in bulk, with the names their products and kits had when sold.
+     */
+    private List<SaleView> toViews(List<Sale> sales, List<Long> saleIds, List<Long> saleDetailIds,
+                                   List<Date> createdAts, Map<Long, ProductSnapshot> products) {
+        // Kits are cached by inventory, so resolving their names costs no query in the usual case
+        Map<Long, String> kitNames = new HashMap<>();
+        List<SaleView> views = new ArrayList<>(sales.size());
+        int detailIndex = 0;
+        for (int i = 0; i < sales.size(); i++) {
+            Sale sale = sales.get(i);
+            List<SaleLineView> lines = new ArrayList<>(sale.getDetails().size());
+            for (SaleDetail detail : sale.getDetails()) {
+                Long kitId = detail.getKitId();
+                lines.add(new SaleLineView(
+                        saleIds.get(i),
+                        saleDetailIds.get(detailIndex++),
+                        createdAts.get(i),
+                        sale.getStaffUserId().id(),
+                        sale.getTotalAmount(),
+                        detail.getProductId().id(),
+                        products.get(detail.getProductId().id()).name(),
+                        kitId,
+                        kitId != null
+                                ? kitNames.computeIfAbsent(kitId, id -> externalInventoryService
+                                        .getKitSnapshot(id).map(KitSnapshot::name).orElse(null))
+                                : null,
+                        detail.getQuantity(),
+                        detail.getUnitPrice(),
+                        detail.getTotalPrice()));
+            }
+            views.add(SaleView.of(lines));
+        }
+        return views;
+    }
+
+    private Optional<SaleIdempotencyKey> findLiveKey(String idempotencyKey) {
+        Date expiredBefore = expiredBefore();
+        return readOnlyTransaction.execute(status ->
+                saleIdempotencyKeyRepository.findByIdempotencyKey(idempotencyKey)
+                        .filter(key -> !key.getCreatedAt().before(expiredBefore)));
+    }
+
+    private IdempotentSaleResult replay(SaleIdempotencyKey stored, CreateIdempotentSaleCommand command) {
+        if (!stored.matches(command.requestFingerprint())) {
+            throw new IdempotencyKeyReusedException(command.idempotencyKey());
+        }
+        return new IdempotentSaleResult(stored.getSaleId(), true);
+    }
+
+    private Date expiredBefore() {
+        return Date.from(Instant.now().minus(idempotencyTtl));
+    }
+
+    private static final class InFlightSale {
+        private final String requestFingerprint;
+        private final CompletableFuture<Long> outcome = new CompletableFuture<>();
+
+        private InFlightSale(String requestFingerprint) {
+            this.requestFingerprint = requestFingerprint;
+        }
+
+        /**
+         * Waits for the request being processed and shares its outcome, failure included.
+         */
+        private Long await(CreateIdempotentSaleCommand duplicate) {
+            if (!requestFingerprint.equals(duplicate.requestFingerprint())) {
+                throw new IdempotencyKeyReusedException(duplicate.idempotencyKey());
+            }
+            try {
+                return outcome.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package com.inventiapp.stocktrack.sales.application.internal.commandservices;
+
+import com.inventiapp.stocktrack.inventory.interfaces.acl.KitSnapshot;
+import com.inventiapp.stocktrack.sales.application.outboundservices.acl.ExternalInventoryService;
+import com.inventiapp.stocktrack.sales.domain.model.aggregates.Sale;
+import com.inventiapp.stocktrack.sales.domain.model.commands.BackfillSaleLineProjectionCommand;
+import com.inventiapp.stocktrack.sales.domain.model.entities.SaleLineProjection;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleView;
+import com.inventiapp.stocktrack.sales.domain.services.SaleLineProjectionCommandService;
+import com.inventiapp.stocktrack.sales.infrastructure.persistence.jdbc.SaleBatchJdbcRepository;
+import com.inventiapp.stocktrack.sales.infrastructure.persistence.jpa.repositories.SaleLineProjectionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the sale line read model.
+ * <p>
+ * New sales are projected in the sale transaction with the product and kit names they were sold
+ * under; sales ingested in bulk are projected with one batched insert. The backfill projects, with one set-based statement, the sales registered after the last
+ * projected one, taking the names from the catalogue as it is at that time.
+ */
+@Service
+public class SaleLineProjectionCommandServiceImpl implements SaleLineProjectionCommandService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaleLineProjectionCommandServiceImpl.class);
+
+    private final SaleLineProjectionRepository saleLineProjectionRepository;
+    private final ExternalInventoryService externalInventoryService;
+    private final SaleBatchJdbcRepository saleBatchJdbcRepository;
+
+    public SaleLineProjectionCommandServiceImpl(SaleLineProjectionRepository saleLineProjectionRepository,
+                                                ExternalInventoryService externalInventoryService,
+                                                SaleBatchJdbcRepository saleBatchJdbcRepository) {
+        this.saleLineProjectionRepository = saleLineProjectionRepository;
+        this.externalInventoryService = externalInventoryService;
+        this.saleBatchJdbcRepository = saleBatchJdbcRepository;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSale(Sale sale, Map<Long, String> productNames) {
+        // Kits are cached by inventory, so resolving their names costs no query in the usual case
+        Map<Long, String> kitNames = new HashMap<>();
+        var lines = sale.getDetails().stream()
+                .map(detail -> new SaleLineProjection(
+                        sale.getId(),
+                        detail.getId(),
+                        sale.getCreatedAt(),
+                        sale.getStaffUserId().id(),
+                        sale.getTotalAmount(),
+                        detail.getProductId().id(),
+                        productNames.get(detail.getProductId().id()),
+                        detail.getKitId(),
+                        detail.getKitId() != null
+                                ? kitNames.computeIfAbsent(detail.getKitId(), kitId -> externalInventoryService
+                                        .getKitSnapshot(kitId).map(KitSnapshot::name).orElse(null))
+                                : null,
+                        detail.getQuantity(),
+                        detail.getUnitPrice(),
+                        detail.getTotalPrice()))
+                .toList();
+        saleLineProjectionRepository.saveAll(lines);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSales(List<SaleView> sales) {
+        saleBatchJdbcRepository.insertSaleLineProjections(
+                sales.stream().flatMap(sale -> sale.lines().stream()).toList(), new Date());
+    }
+
+    @Override
+    @Transactional
+    public long handle(BackfillSaleLineProjectionCommand command) {
+        long afterSaleId = saleLineProjectionRepository.findLatestSaleId();
+        int projected = saleLineProjectionRepository.projectSalesAfter(afterSaleId);
+        LOGGER.info("Sale line read model backfilled: {} lines of sales after {}", projected, afterSaleId);
+        return projected;
+    }
+}
@@ -0,0 +1,142 @@
+package com.inventiapp.stocktrack.sales.application.internal.commandservices;
+
+import com.inventiapp.stocktrack.sales.domain.model.aggregates.Sale;
+import com.inventiapp.stocktrack.sales.domain.model.commands.BackfillSalesDailyRollupsCommand;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleView;
+import com.inventiapp.stocktrack.sales.domain.services.SalesDailyRollupCommandService;
+import com.inventiapp.stocktrack.sales.infrastructure.persistence.jpa.repositories.SalesDailyRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maintains the daily sales rollups.
+ * <p>
+ * New sales are added incrementally in the sale transaction; sales ingested in bulk are added
+ * together, with one upsert per rollup row of the batch. The backfill deletes the rollups of
+ * the requested range and re-adds every sale line of that range, streamed from the database in
+ * sale order, so running it twice yields the same rows. The lines are added up in memory, one entry
+ * per rollup row, and written once the stream is closed: MySQL allows no other statement on the
+ * connection while a streaming result set is open. Sales registered while a backfill runs over
+ * the current day may be missed by it; run it again to repair.
+ */
+@Service
+public class SalesDailyRollupCommandServiceImpl implements SalesDailyRollupCommandService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SalesDailyRollupCommandServiceImpl.class);
+    private static final LocalDate FIRST_DAY = LocalDate.of(1970, 1, 1);
+
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
+
+    public SalesDailyRollupCommandServiceImpl(SalesDailyRollupRepository salesDailyRollupRepository) {
+        this.salesDailyRollupRepository = salesDailyRollupRepository;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSale(Sale sale) {
+        LocalDate saleDate = toLocalDate(sale.getCreatedAt());
+        Map<RollupKey, RollupTotals> totals = new HashMap<>();
+        for (var detail : sale.getDetails()) {
+            var key = new RollupKey(saleDate, detail.getProductId().id(), sale.getStaffUserId().id());
+            var rollupTotals = totals.computeIfAbsent(key, k -> new RollupTotals());
+            rollupTotals.add(detail.getQuantity(), detail.getTotalPrice());
+            rollupTotals.saleCount = 1;
+        }
+        flush(totals);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSales(List<SaleView> sales) {
+        Map<RollupKey, RollupTotals> totals = new HashMap<>();
+        Set<RollupKey> keysOfSale = new HashSet<>();
+        for (var sale : sales) {
+            LocalDate saleDate = toLocalDate(sale.createdAt());
+            keysOfSale.clear();
+            for (var line : sale.lines()) {
+                var key = new RollupKey(saleDate, line.productId(), sale.staffUserId());
+                var rollupTotals = totals.computeIfAbsent(key, k -> new RollupTotals());
+                rollupTotals.add(line.quantity(), line.totalPrice());
+                if (keysOfSale.add(key)) {
+                    rollupTotals.saleCount++;
+                }
+            }
+        }
+        flush(totals);
+    }
+
+    @Override
+    @Transactional
+    public long handle(BackfillSalesDailyRollupsCommand command) {
+        LocalDate from = command.from() != null ? command.from() : FIRST_DAY;
+        LocalDate to = command.to() != null ? command.to() : LocalDate.now().plusDays(1);
+        ZoneId zone = ZoneId.systemDefault();
+
+        int deleted = salesDailyRollupRepository.deleteBySaleDateRange(from, to);
+        LOGGER.info("Backfilling daily sales rollups from {} to {} ({} previous rows removed)", from, to, deleted);
+
+        Map<RollupKey, RollupTotals> totals = new HashMap<>();
+        Set<RollupKey> keysOfCurrentSale = new HashSet<>();
+        Long currentSaleId = null;
+        long lines = 0;
+
+        try (var saleLines = salesDailyRollupRepository.streamSaleLines(
+                Date.from(from.atStartOfDay(zone).toInstant()),
+                Date.from(to.atStartOfDay(zone).toInstant()))) {
+            for (var line : (Iterable<SalesDailyRollupRepository.SaleLineRow>) saleLines::iterator) {
+                if (!line.getSaleId().equals(currentSaleId)) {
+                    currentSaleId = line.getSaleId();
+                    keysOfCurrentSale.clear();
+                }
+                var key = new RollupKey(toLocalDate(line.getCreatedAt()), line.getProductId(), line.getStaffUserId());
+                var rollupTotals = totals.computeIfAbsent(key, k -> new RollupTotals());
+                rollupTotals.add(line.getQuantity(), line.getTotalPrice());
+                if (keysOfCurrentSale.add(key)) {
+                    rollupTotals.saleCount++;
+                }
+                lines++;
+            }
+        }
+        // Written after the stream is closed, since its connection cannot run other statements before
+        int rollupRows = totals.size();
+        flush(totals);
+
+        LOGGER.info("Daily sales rollups backfilled from {} sale lines into {} rows", lines, rollupRows);
+        return lines;
+    }
+
+    private void flush(Map<RollupKey, RollupTotals> totals) {
+        totals.forEach((key, value) -> salesDailyRollupRepository.addToRollup(
+                key.saleDate(), key.productId(), key.staffUserId(), value.unitsSold, value.revenue, value.saleCount));
+        totals.clear();
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    private record RollupKey(LocalDate saleDate, Long productId, Long staffUserId) {}
+
+    private static final class RollupTotals {
+        private int unitsSold;
+        private double revenue;
+        private int saleCount;
+
+        private void add(int quantity, double totalPrice) {
+            unitsSold += quantity;
+            revenue += totalPrice;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.inventiapp.stocktrack.sales.application.internal.eventhandlers;
+
+import com.inventiapp.stocktrack.sales.domain.model.commands.BackfillSaleLineProjectionCommand;
+import com.inventiapp.stocktrack.sales.domain.services.SaleLineProjectionCommandService;
+import com.inventiapp.stocktrack.sales.infrastructure.persistence.jpa.repositories.SaleLineProjectionRepository;
+import com.inventiapp.stocktrack.sales.infrastructure.persistence.jpa.repositories.SaleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Event handler that projects into the sale line read model, on startup, the sales it is missing.
+ */
+@Service
+public class SaleLineProjectionBackfillEventHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SaleLineProjectionBackfillEventHandler.class);
+
+    private final SaleLineProjectionCommandService saleLineProjectionCommandService;
+    private final SaleLineProjectionRepository saleLineProjectionRepository;
+    private final SaleRepository saleRepository;
+
+    public SaleLineProjectionBackfillEventHandler(SaleLineProjectionCommandService saleLineProjectionCommandService,
+                                                  SaleLineProjectionRepository saleLineProjectionRepository,
+                                                  SaleRepository saleRepository) {
+        this.saleLineProjectionCommandService = saleLineProjectionCommandService;
+        this.saleLineProjectionRepository = saleLineProjectionRepository;
+        this.saleRepository = saleRepository;
+    }
+
+    /**
+     * Handle ApplicationReadyEvent to backfill the read model if sales are missing from it
+     * @param event The application ready event
+     */
+    @EventListener
+    public void on(ApplicationReadyEvent event) {
+        if (saleLineProjectionRepository.findLatestSaleId() < saleRepository.findLatestId()) {
+            LOGGER.info("Sale line read model is behind the sales table, backfilling it");
+            saleLineProjectionCommandService.handle(new BackfillSaleLineProjectionCommand());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.inventiapp.stocktrack.sales.application.internal.eventhandlers;
+
+import com.inventiapp.stocktrack.sales.domain.model.commands.BackfillSalesDailyRollupsCommand;
+import com.inventiapp.stocktrack.sales.domain.services.SalesDailyRollupCommandService;
+import com.inventiapp.stocktrack.sales.infrastructure.persistence.jpa.repositories.SaleRepository;
+import com.inventiapp.stocktrack.sales.infrastructure.persistence.jpa.repositories.SalesDailyRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Event handler that backfills the daily sales rollups on startup when they have never been built.
+ */
+@Service
+public class SalesDailyRollupBackfillEventHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SalesDailyRollupBackfillEventHandler.class);
+
+    private final SalesDailyRollupCommandService salesDailyRollupCommandService;
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
+    private final SaleRepository saleRepository;
+
+    public SalesDailyRollupBackfillEventHandler(SalesDailyRollupCommandService salesDailyRollupCommandService,
+                                                SalesDailyRollupRepository salesDailyRollupRepository,
+                                                SaleRepository saleRepository) {
+        this.salesDailyRollupCommandService = salesDailyRollupCommandService;
+        this.salesDailyRollupRepository = salesDailyRollupRepository;
+        this.saleRepository = saleRepository;
+    }
+
+    /**
+     * Handle ApplicationReadyEvent to backfill the rollups if they are empty
+     * @param event The application ready event
+     */
+    @EventListener
+    public void on(ApplicationReadyEvent event) {
+        if (salesDailyRollupRepository.count() == 0 && saleRepository.count() > 0) {
+            LOGGER.info("Daily sales rollups are empty, backfilling them from existing sales");
+            salesDailyRollupCommandService.handle(new BackfillSalesDailyRollupsCommand());
+        }
+    }
+}
@@ -1,31 +1,116 @@
 package com.inventiapp.stocktrack.sales.application.internal.queryservices;
 
-import com.inventiapp.stocktrack.sales.domain.model.aggregates.Sale;
-import com.inventiapp.stocktrack.sales.domain.model.queries.GetAllSalesQuery;
+import com.inventiapp.stocktrack.sales.domain.model.queries.ExportSalesQuery;
 import com.inventiapp.stocktrack.sales.domain.model.queries.GetSaleByIdQuery;
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetSalesPageQuery;
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetSalesSummaryQuery;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleCursor;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleExportLine;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleLineView;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleView;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SalesPage;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SalesSummary;
 import com.inventiapp.stocktrack.sales.domain.services.SaleQueryService;
+import com.inventiapp.stocktrack.sales.infrastructure.persistence.jpa.repositories.SaleLineProjectionRepository;
 import com.inventiapp.stocktrack.sales.infrastructure.persistence.jpa.repositories.SaleRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+/**
+ * Sales reads are served by the sale line read model with constructor projections, so no sale
+ * or sale detail entity is hydrated. Only the keyset of the sales listing is read from the sales
+ * table, whose indexes cover it.
+ */
 @Service
 public class SaleQueryServiceImpl implements SaleQueryService {
 
+    private static final LocalDate FIRST_DAY = LocalDate.of(1970, 1, 1);
+    private static final LocalDate LAST_DAY = LocalDate.of(9999, 1, 1);
+
     private final SaleRepository saleRepository;
+    private final SaleLineProjectionRepository saleLineProjectionRepository;
 
-    public SaleQueryServiceImpl(SaleRepository saleRepository) {
+    public SaleQueryServiceImpl(SaleRepository saleRepository,
+                                SaleLineProjectionRepository saleLineProjectionRepository) {
         this.saleRepository = saleRepository;
+        this.saleLineProjectionRepository = saleLineProjectionRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<SaleView> handle(GetSaleByIdQuery query) {
+        var lines = saleLineProjectionRepository.findLinesBySaleIds(List.of(query.saleId()));
+        return lines.isEmpty() ? Optional.empty() : Optional.of(SaleView.of(lines));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SalesPage handle(GetSalesPageQuery query) {
+        Date to = startOf(Objects.requireNonNullElse(query.to(), LAST_DAY));
+        // The cursor keeps the database precision, which java.util.Date would truncate to milliseconds
+        Date afterCreatedAt = query.after() != null ? Timestamp.from(query.after().createdAt()) : to;
+        Long afterId = query.after() != null ? query.after().saleId() : Long.MAX_VALUE;
+
+        // One row more than the limit tells whether there is a next page
+        List<SaleRepository.SaleKey> keys = saleRepository.findPageKeys(
+                startOf(Objects.requireNonNullElse(query.from(), FIRST_DAY)), to,
+                afterCreatedAt, afterId, query.staffUserId(), query.minTotal(),
+                PageRequest.of(0, query.limit() + 1));
+        boolean hasNext = keys.size() > query.limit();
+        List<SaleRepository.SaleKey> pageKeys = hasNext ? keys.subList(0, query.limit()) : keys;
+        if (pageKeys.isEmpty()) {
+            return new SalesPage(List.of(), null);
+        }
+
+        Map<Long, List<SaleLineView>> linesBySale = saleLineProjectionRepository
+                .findLinesBySaleIds(pageKeys.stream().map(SaleRepository.SaleKey::getId).toList()).stream()
+                .collect(Collectors.groupingBy(SaleLineView::saleId, LinkedHashMap::new, Collectors.toList()));
+        List<SaleView> sales = pageKeys.stream()
+                .map(key -> linesBySale.get(key.getId()))
+                .filter(Objects::nonNull)
+                .map(SaleView::of)
+                .toList();
+
+        var last = pageKeys.get(pageKeys.size() - 1);
+        SaleCursor nextCursor = hasNext ? new SaleCursor(last.getCreatedAt().toInstant(), last.getId()) : null;
+        return new SalesPage(sales, nextCursor);
     }
 
     @Override
-    public Optional<Sale> handle(GetSaleByIdQuery query) {
-        return saleRepository.findById(query.saleId());
+    @Transactional(readOnly = true)
+    public long handle(ExportSalesQuery query, Consumer<SaleExportLine> consumer) {
+        try (var lines = saleLineProjectionRepository.streamExportLines(
+                startOf(Objects.requireNonNullElse(query.from(), FIRST_DAY)),
+                startOf(Objects.requireNonNullElse(query.to(), LAST_DAY)))) {
+            long count = 0;
+            for (var line : (Iterable<SaleExportLine>) lines::iterator) {
+                consumer.accept(line);
+                count++;
+            }
+            return count;
+        }
     }
 
     @Override
-    public List<Sale> handle(GetAllSalesQuery query) {
-        return saleRepository.findAll();
+    public SalesSummary handle(GetSalesSummaryQuery query) {
+        return saleLineProjectionRepository.summarize(startOf(query.from()), startOf(query.to()),
+                query.staffUserId(), query.productId());
+    }
+
+    private static Date startOf(LocalDate day) {
+        return Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant());
     }
 }
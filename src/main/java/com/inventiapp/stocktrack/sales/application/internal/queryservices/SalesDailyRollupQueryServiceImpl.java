@@ -0,0 +1,49 @@
+package com.inventiapp.stocktrack.sales.application.internal.queryservices;
+
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetDailySalesTotalsQuery;
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetMonthlySalesTotalsQuery;
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetProductSalesTotalsQuery;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.DailySalesTotal;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.MonthlySalesTotal;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.ProductSalesTotals;
+import com.inventiapp.stocktrack.sales.domain.services.SalesDailyRollupQueryService;
+import com.inventiapp.stocktrack.sales.infrastructure.persistence.jpa.repositories.SalesDailyRollupRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class SalesDailyRollupQueryServiceImpl implements SalesDailyRollupQueryService {
+
+    private final SalesDailyRollupRepository salesDailyRollupRepository;
+
+    public SalesDailyRollupQueryServiceImpl(SalesDailyRollupRepository salesDailyRollupRepository) {
+        this.salesDailyRollupRepository = salesDailyRollupRepository;
+    }
+
+    @Override
+    public List<DailySalesTotal> handle(GetDailySalesTotalsQuery query) {
+        return salesDailyRollupRepository.findDailyTotals(
+                query.from(), query.to(), query.staffUserId(), query.productId());
+    }
+
+    @Override
+    public List<MonthlySalesTotal> handle(GetMonthlySalesTotalsQuery query) {
+        return salesDailyRollupRepository.findMonthlyTotals(
+                LocalDate.of(query.year(), 1, 1), LocalDate.of(query.year() + 1, 1, 1));
+    }
+
+    /**
+     * Both reads share the snapshot of the read-only transaction, and rollups are written in the
+     * transaction of their sale, so the totals include exactly the visible sales.
+     */
+    @Override
+    public ProductSalesTotals handle(GetProductSalesTotalsQuery query) {
+        long latestSaleId = salesDailyRollupRepository.findLatestSaleId();
+        return new ProductSalesTotals(latestSaleId,
+                salesDailyRollupRepository.findProductTotals(query.from(), query.to()));
+    }
+}
@@ -1,10 +1,16 @@
 package com.inventiapp.stocktrack.sales.application.outboundservices.acl;
 
 import com.inventiapp.stocktrack.inventory.interfaces.acl.InventoryContextFacade;
+import com.inventiapp.stocktrack.inventory.interfaces.acl.KitSnapshot;
+import com.inventiapp.stocktrack.inventory.interfaces.acl.ProductSnapshot;
 import com.inventiapp.stocktrack.sales.domain.model.aggregates.Sale;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 public class ExternalInventoryService {
@@ -16,11 +22,36 @@ public class ExternalInventoryService {
 
 
     public void decreaseStockForSale(Sale sale) {
-        sale.getDetails().forEach(detail -> {
-            Long productId = detail.getProductId().id();
-            int quantity = detail.getQuantity();
-            inventoryContextFacade.decreaseStock(productId, quantity);
-        });
+        inventoryContextFacade.decreaseStock(quantitiesByProduct(sale));
+    }
+
+    /**
+     * Decreases the stock of several sales in one allocation, each sale all or nothing.
+     * @param sales The sales, in the order their stock is taken
+     * @return For each sale, whether its stock was decreased; a sale lacking stock is skipped
+     */
+    public List<Boolean> decreaseStockForSales(List<Sale> sales) {
+        return inventoryContextFacade.decreaseStockEach(sales.stream()
+                .map(ExternalInventoryService::quantitiesByProduct)
+                .toList());
+    }
+
+    /**
+     * Sells the units held by a stock reservation instead of allocating them again; only the
+     * difference between the sale and the reservation touches the batches.
+     * @param reservationId The reservation holding the units
+     * @param sale The sale
+     */
+    public void consumeReservationForSale(Long reservationId, Sale sale) {
+        inventoryContextFacade.consumeReservation(reservationId, quantitiesByProduct(sale));
+    }
+
+    private static Map<Long, Integer> quantitiesByProduct(Sale sale) {
+        // A product can appear in several lines, e.g. on its own and inside a kit
+        Map<Long, Integer> quantitiesByProduct = new HashMap<>();
+        sale.getDetails().forEach(detail ->
+                quantitiesByProduct.merge(detail.getProductId().id(), detail.getQuantity(), Integer::sum));
+        return quantitiesByProduct;
     }
 
     public boolean checkStockForSale(Sale sale) {
@@ -43,17 +74,22 @@ public class ExternalInventoryService {
         return inventoryContextFacade.getProductUnitPrice(productId);
     }
 
-    public boolean checkKitExists(Long kitId) {
-        Long result = inventoryContextFacade.getKitById(kitId);
-        return result != null;
-    }
-
-    public Double getKitTotalPrice(Long kitId) {
-        return inventoryContextFacade.getKitTotalPrice(kitId);
+    /**
+     * Loads the existence, price and active flag of several products in one round-trip.
+     * @param productIds The product ids
+     * @return The snapshots of the existing products, keyed by product id
+     */
+    public Map<Long, ProductSnapshot> getProductSnapshots(Collection<Long> productIds) {
+        return inventoryContextFacade.getProductSnapshots(productIds);
     }
 
-    public List<Object[]> getKitProductIdsQuantitiesAndPrices(Long kitId) {
-        return inventoryContextFacade.getKitProductIdsQuantitiesAndPrices(kitId);
+    /**
+     * Loads a kit with its items; kits are cached by inventory, so repeated kits cost no extra query.
+     * @param kitId The kit id
+     * @return The kit snapshot, empty if the kit doesn't exist
+     */
+    public Optional<KitSnapshot> getKitSnapshot(Long kitId) {
+        return inventoryContextFacade.getKitSnapshot(kitId);
     }
 
 }
@@ -0,0 +1,8 @@
+package com.inventiapp.stocktrack.sales.domain.exceptions;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String idempotencyKey) {
+        super("Idempotency key %s was already used with a different request".formatted(idempotencyKey));
+    }
+}
@@ -12,6 +12,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_sales_created_at_staff_user_id", columnList = "created_at, staff_user_id"),
+        @Index(name = "idx_sales_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_sales_staff_user_id_created_at_id", columnList = "staff_user_id, created_at, id")
+})
 @Getter
 public class Sale extends AuditableAbstractAggregateRoot<Sale> {
 
@@ -36,7 +41,7 @@ public class Sale extends AuditableAbstractAggregateRoot<Sale> {
         this.details = new ArrayList<>();
 
         for (var item : command.details()) {
-            this.addDetail(new ProductId(item.productId()), item.quantity(), item.unitPrice());
+            this.addDetail(new ProductId(item.productId()), item.quantity(), item.unitPrice(), item.kitId());
         }
 
         if (Math.abs(this.totalAmount - command.totalAmount()) > 0.01) {
@@ -46,7 +51,11 @@ public class Sale extends AuditableAbstractAggregateRoot<Sale> {
     }
 
     public void addDetail(ProductId productId, int quantity, double unitPrice) {
-        SaleDetail detail = new SaleDetail(this, productId, quantity, unitPrice);
+        addDetail(productId, quantity, unitPrice, null);
+    }
+
+    public void addDetail(ProductId productId, int quantity, double unitPrice, Long kitId) {
+        SaleDetail detail = new SaleDetail(this, productId, quantity, unitPrice, kitId);
         this.details.add(detail);
         this.totalAmount += detail.getTotalPrice();
     }
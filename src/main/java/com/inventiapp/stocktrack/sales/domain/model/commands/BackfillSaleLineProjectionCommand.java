@@ -0,0 +1,8 @@
+package com.inventiapp.stocktrack.sales.domain.model.commands;
+
+/**
+ * Command to project into the sale line read model every sale registered after the last projected one.
+ * Running it again projects nothing new.
+ */
+public record BackfillSaleLineProjectionCommand() {
+}
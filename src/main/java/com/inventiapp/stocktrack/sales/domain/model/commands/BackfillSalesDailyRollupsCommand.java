@@ -0,0 +1,25 @@
+package com.inventiapp.stocktrack.sales.domain.model.commands;
+
+import java.time.LocalDate;
+
+/**
+ * Command to rebuild the daily sales rollups of a date range from the sales tables.
+ * Running it again over the same range produces the same rollups.
+ *
+ * @param from first day to rebuild (inclusive); null to start from the first sale
+ * @param to   last day to rebuild (exclusive); null to include every sale up to now
+ */
+public record BackfillSalesDailyRollupsCommand(LocalDate from, LocalDate to) {
+    public BackfillSalesDailyRollupsCommand {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+    }
+
+    /**
+     * Creates a command that rebuilds the rollups of every sale.
+     */
+    public BackfillSalesDailyRollupsCommand() {
+        this(null, null);
+    }
+}
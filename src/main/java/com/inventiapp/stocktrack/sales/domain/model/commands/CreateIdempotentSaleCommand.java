@@ -0,0 +1,27 @@
+package com.inventiapp.stocktrack.sales.domain.model.commands;
+
+/**
+ * Command to create a sale at most once per idempotency key.
+ *
+ * @param idempotencyKey     key chosen by the client, the same on every retry of the request
+ * @param requestFingerprint SHA-256 of the request body, in hex; a key is only replayed for the same body
+ * @param sale               the sale to create
+ */
+public record CreateIdempotentSaleCommand(String idempotencyKey, String requestFingerprint, CreateSaleCommand sale) {
+    public static final int MAX_KEY_LENGTH = 255;
+
+    public CreateIdempotentSaleCommand {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            throw new IllegalArgumentException("Idempotency key cannot be blank");
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency key cannot be longer than " + MAX_KEY_LENGTH + " characters");
+        }
+        if (requestFingerprint == null || requestFingerprint.isBlank()) {
+            throw new IllegalArgumentException("Request fingerprint cannot be blank");
+        }
+        if (sale == null) {
+            throw new IllegalArgumentException("Sale cannot be null");
+        }
+    }
+}
@@ -3,7 +3,14 @@ package com.inventiapp.stocktrack.sales.domain.model.commands;
 
 import java.util.List;
 
-public record CreateSaleCommand(long staffUserId, double totalAmount, List<SaleDetailItem> details) {
+/**
+ * Command to record a sale.
+ * @param staffUserId The staff user making the sale
+ * @param totalAmount The total of the sale
+ * @param details The lines of the sale
+ * @param reservationId The stock reservation holding the units sold, or null to take them from stock
+ */
+public record CreateSaleCommand(long staffUserId, double totalAmount, List<SaleDetailItem> details, Long reservationId) {
     public CreateSaleCommand {
 
         if (staffUserId <= 0) {
@@ -16,6 +23,14 @@ public record CreateSaleCommand(long staffUserId, double totalAmount, List<SaleD
         if (details == null || details.isEmpty()) {
             throw new IllegalArgumentException("Sale details cannot be null or empty");
         }
+
+        if (reservationId != null && reservationId <= 0) {
+            throw new IllegalArgumentException("Reservation ID must be positive");
+        }
+    }
+
+    public CreateSaleCommand(long staffUserId, double totalAmount, List<SaleDetailItem> details) {
+        this(staffUserId, totalAmount, details, null);
     }
 }
 
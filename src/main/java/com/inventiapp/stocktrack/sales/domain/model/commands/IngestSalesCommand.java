@@ -0,0 +1,21 @@
+package com.inventiapp.stocktrack.sales.domain.model.commands;
+
+import java.util.List;
+
+/**
+ * Command to create a batch of sales in one transaction, e.g. replayed by a terminal that was offline.
+ * Each sale is accepted or rejected on its own; a rejected sale does not fail the others.
+ *
+ * @param sales the sales to create, in the order they were registered
+ */
+public record IngestSalesCommand(List<IngestedSale> sales) {
+    public IngestSalesCommand {
+        if (sales == null || sales.isEmpty()) {
+            throw new IllegalArgumentException("Sales cannot be null or empty");
+        }
+        if (sales.contains(null)) {
+            throw new IllegalArgumentException("Sales cannot contain null");
+        }
+        sales = List.copyOf(sales);
+    }
+}
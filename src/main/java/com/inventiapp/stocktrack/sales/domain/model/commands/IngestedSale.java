@@ -0,0 +1,32 @@
+package com.inventiapp.stocktrack.sales.domain.model.commands;
+
+import java.util.Date;
+
+/**
+ * One sale of a bulk ingestion, as registered by the point of sale.
+ *
+ * @param sale               the sale to create
+ * @param createdAt          when the point of sale registered the sale, or null to use the ingestion time
+ * @param idempotencyKey     key chosen by the client for this sale, the same on every retry, or null
+ * @param requestFingerprint SHA-256 of the sale as sent, in hex; required with an idempotency key,
+ *                           which is only replayed for the same sale
+ */
+public record IngestedSale(CreateSaleCommand sale, Date createdAt, String idempotencyKey, String requestFingerprint) {
+    public IngestedSale {
+        if (sale == null) {
+            throw new IllegalArgumentException("Sale cannot be null");
+        }
+        if (idempotencyKey != null) {
+            if (idempotencyKey.isBlank()) {
+                throw new IllegalArgumentException("Idempotency key cannot be blank");
+            }
+            if (idempotencyKey.length() > CreateIdempotentSaleCommand.MAX_KEY_LENGTH) {
+                throw new IllegalArgumentException("Idempotency key cannot be longer than "
+                        + CreateIdempotentSaleCommand.MAX_KEY_LENGTH + " characters");
+            }
+            if (requestFingerprint == null || requestFingerprint.isBlank()) {
+                throw new IllegalArgumentException("Request fingerprint cannot be blank");
+            }
+        }
+    }
+}
@@ -1,3 +1,15 @@
 package com.inventiapp.stocktrack.sales.domain.model.commands;
 
-public record SaleDetailItem(Long productId, int quantity, double unitPrice) {}
+/**
+ * A product line of a sale.
+ *
+ * @param productId the product sold
+ * @param quantity  units sold
+ * @param unitPrice price of one unit
+ * @param kitId     the kit the line was sold as part of, or null when the product was sold on its own
+ */
+public record SaleDetailItem(Long productId, int quantity, double unitPrice, Long kitId) {
+    public SaleDetailItem(Long productId, int quantity, double unitPrice) {
+        this(productId, quantity, unitPrice, null);
+    }
+}
@@ -8,6 +8,7 @@ import lombok.Getter;
 
 
 @Entity
+@Table(indexes = @Index(name = "idx_sale_details_product_id_sale_id", columnList = "product_id, sale_id"))
 @Getter
 public class SaleDetail extends AuditableModel {
 
@@ -28,12 +29,22 @@ public class SaleDetail extends AuditableModel {
     @Column(nullable = false)
     private double totalPrice;
 
+    /**
+     * The kit this line was sold as part of, or null when the product was sold on its own.
+     */
+    private Long kitId;
+
     public SaleDetail(Sale sale, ProductId productId, int quantity, double unitPrice) {
+        this(sale, productId, quantity, unitPrice, null);
+    }
+
+    public SaleDetail(Sale sale, ProductId productId, int quantity, double unitPrice, Long kitId) {
         this.sale = sale;
         this.productId = productId;
         this.quantity = quantity;
         this.unitPrice = unitPrice;
         this.totalPrice = unitPrice * quantity;
+        this.kitId = kitId;
     }
 
     protected SaleDetail() {
@@ -0,0 +1,50 @@
+package com.inventiapp.stocktrack.sales.domain.model.entities;
+
+import com.inventiapp.stocktrack.shared.domain.model.entities.AuditableModel;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Idempotency key of a sale request.
+ * <p>
+ * Records which sale a client supplied Idempotency-Key produced, together with a fingerprint of
+ * the request body, so a retry can be answered with the original sale instead of selling twice.
+ * The row is inserted before the sale is processed and committed in the same transaction, so the
+ * unique key also serializes duplicates sent to different instances. Rows expire after the
+ * configured TTL and are purged periodically.
+ */
+@Entity
+@Table(name = "sale_idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_sale_idempotency_keys_idempotency_key",
+                columnNames = "idempotency_key"),
+        indexes = @Index(name = "idx_sale_idempotency_keys_created_at", columnList = "created_at"))
+@Getter
+@NoArgsConstructor
+public class SaleIdempotencyKey extends AuditableModel {
+
+    @Column(nullable = false, length = 255)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    private String requestFingerprint;
+
+    /**
+     * Id of the sale the key produced; only null while the sale is being processed.
+     */
+    private Long saleId;
+
+    public SaleIdempotencyKey(String idempotencyKey, String requestFingerprint) {
+        this.idempotencyKey = idempotencyKey;
+        this.requestFingerprint = requestFingerprint;
+    }
+
+    public void assignSale(Long saleId) {
+        this.saleId = saleId;
+    }
+
+    public boolean matches(String requestFingerprint) {
+        return this.requestFingerprint.equals(requestFingerprint);
+    }
+}
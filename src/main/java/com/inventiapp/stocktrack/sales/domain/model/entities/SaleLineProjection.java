@@ -0,0 +1,84 @@
+package com.inventiapp.stocktrack.sales.domain.model.entities;
+
+import com.inventiapp.stocktrack.shared.domain.model.entities.AuditableModel;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Sale line read model.
+ * <p>
+ * One row per sale line carrying everything the sales listing and reports show: the sale
+ * header, the product with its name at the time of the sale, and the kit the line was sold
+ * as part of. Rows are written in the same transaction as the sale, are never updated, and are
+ * read with constructor projections, so reads neither join nor hydrate sales and details.
+ * Sales registered before the projection existed are backfilled on startup.
+ */
+@Entity
+@Table(name = "sale_line_projections",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_sale_line_projections_sale_detail_id",
+                columnNames = "sale_detail_id"),
+        indexes = {
+                @Index(name = "idx_sale_line_projections_sale_id", columnList = "sale_id"),
+                @Index(name = "idx_sale_line_projections_sale_created_at_staff_user_id",
+                        columnList = "sale_created_at, staff_user_id"),
+                @Index(name = "idx_sale_line_projections_product_id_sale_created_at",
+                        columnList = "product_id, sale_created_at")
+        })
+@Getter
+@NoArgsConstructor
+public class SaleLineProjection extends AuditableModel {
+
+    @Column(nullable = false)
+    private Long saleId;
+
+    @Column(nullable = false)
+    private Long saleDetailId;
+
+    @Column(nullable = false)
+    private Date saleCreatedAt;
+
+    @Column(nullable = false)
+    private Long staffUserId;
+
+    @Column(nullable = false)
+    private Double saleTotalAmount;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    private String productName;
+
+    private Long kitId;
+
+    private String kitName;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false)
+    private Double unitPrice;
+
+    @Column(nullable = false)
+    private Double totalPrice;
+
+    public SaleLineProjection(Long saleId, Long saleDetailId, Date saleCreatedAt, Long staffUserId,
+                              Double saleTotalAmount, Long productId, String productName,
+                              Long kitId, String kitName, Integer quantity, Double unitPrice, Double totalPrice) {
+        this.saleId = saleId;
+        this.saleDetailId = saleDetailId;
+        this.saleCreatedAt = saleCreatedAt;
+        this.staffUserId = staffUserId;
+        this.saleTotalAmount = saleTotalAmount;
+        this.productId = productId;
+        this.productName = productName;
+        this.kitId = kitId;
+        this.kitName = kitName;
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+        this.totalPrice = totalPrice;
+    }
+}
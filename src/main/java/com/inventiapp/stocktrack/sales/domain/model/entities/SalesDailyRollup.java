@@ -0,0 +1,44 @@
+package com.inventiapp.stocktrack.sales.domain.model.entities;
+
+import com.inventiapp.stocktrack.shared.domain.model.entities.AuditableModel;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Daily sales rollup row.
+ * <p>
+ * Accumulates, for one day, product and staff user, the units sold, the revenue and the number
+ * of sales that included the product. Days are bucketed in the server time zone. Rows are written
+ * in the same transaction as the sale and can be rebuilt at any time with the backfill command.
+ */
+@Entity
+@Table(name = "sales_daily_rollups",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_sales_daily_rollups_day_product_staff",
+                columnNames = {"sale_date", "product_id", "staff_user_id"}),
+        indexes = @Index(name = "idx_sales_daily_rollups_product", columnList = "product_id"))
+@Getter
+@NoArgsConstructor
+public class SalesDailyRollup extends AuditableModel {
+
+    @Column(nullable = false)
+    private LocalDate saleDate;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Long staffUserId;
+
+    @Column(nullable = false)
+    private Integer unitsSold;
+
+    @Column(nullable = false)
+    private Double revenue;
+
+    @Column(nullable = false)
+    private Integer saleCount;
+}
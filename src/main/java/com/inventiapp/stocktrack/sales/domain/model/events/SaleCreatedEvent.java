@@ -0,0 +1,97 @@
+package com.inventiapp.stocktrack.sales.domain.model.events;
+
+import com.inventiapp.stocktrack.sales.domain.model.aggregates.Sale;
+import com.inventiapp.stocktrack.shared.domain.model.events.DomainEvent;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Event fired when a sale is created.
+ * @summary
+ * This event is published when a sale aggregate is saved.
+ * It contains the staff user, the sale total and one line per sale detail,
+ * which is everything reporting needs without loading the sale again.
+ * @since 1.0
+ */
+@Getter
+public class SaleCreatedEvent extends ApplicationEvent implements DomainEvent {
+    private final Long saleId;
+    private final Date createdAt;
+    private final Long staffUserId;
+    private final double totalAmount;
+    private final List<SaleLine> lines;
+
+    /**
+     * Constructor.
+     *
+     * @param source      the sale aggregate
+     * @param staffUserId the staff user that registered the sale
+     * @param totalAmount the sale total
+     * @param lines       the sale lines
+     */
+    public SaleCreatedEvent(Object source, Long staffUserId, double totalAmount, List<SaleLine> lines) {
+        this(source, null, null, staffUserId, totalAmount, lines);
+    }
+
+    /**
+     * Constructor for sales written without their aggregate, e.g. by bulk ingestion.
+     *
+     * @param source      the event source
+     * @param saleId      the id of the created sale
+     * @param createdAt   the sale creation date
+     * @param staffUserId the staff user that registered the sale
+     * @param totalAmount the sale total
+     * @param lines       the sale lines
+     */
+    public SaleCreatedEvent(Object source, Long saleId, Date createdAt, Long staffUserId, double totalAmount,
+                            List<SaleLine> lines) {
+        super(source);
+        this.saleId = saleId;
+        this.createdAt = createdAt;
+        this.staffUserId = staffUserId;
+        this.totalAmount = totalAmount;
+        this.lines = List.copyOf(lines);
+    }
+
+    /**
+     * Gets the id of the created sale. When no id was captured it is resolved from the source
+     * aggregate once it has been saved.
+     *
+     * @return the sale id, or null if the sale has not been saved yet
+     */
+    public Long getSaleId() {
+        if (saleId == null && getSource() instanceof Sale sale) {
+            return sale.getId();
+        }
+        return saleId;
+    }
+
+    /**
+     * Gets the creation date of the sale. When no date was captured it is resolved from the source
+     * aggregate once it has been saved, falling back to the event timestamp when the audit date is
+     * not available.
+     *
+     * @return the sale creation date
+     */
+    public Date getCreatedAt() {
+        if (createdAt != null) {
+            return createdAt;
+        }
+        if (getSource() instanceof Sale sale && sale.getCreatedAt() != null) {
+            return sale.getCreatedAt();
+        }
+        return new Date(getTimestamp());
+    }
+
+    /**
+     * A sold product line.
+     *
+     * @param productId  the product id
+     * @param quantity   the quantity sold
+     * @param totalPrice the line total
+     */
+    public record SaleLine(Long productId, int quantity, double totalPrice) {}
+}
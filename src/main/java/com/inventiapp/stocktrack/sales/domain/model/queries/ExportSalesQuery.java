@@ -0,0 +1,17 @@
+package com.inventiapp.stocktrack.sales.domain.model.queries;
+
+import java.time.LocalDate;
+
+/**
+ * Query to export the sale lines created in a date range.
+ *
+ * @param from first day (inclusive), or null for no lower bound
+ * @param to   last day (exclusive), or null for no upper bound
+ */
+public record ExportSalesQuery(LocalDate from, LocalDate to) {
+    public ExportSalesQuery {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+    }
+}
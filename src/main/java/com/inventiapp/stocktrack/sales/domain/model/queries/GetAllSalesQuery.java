@@ -1,4 +0,0 @@
-package com.inventiapp.stocktrack.sales.domain.model.queries;
-
-public record GetAllSalesQuery() {
-}
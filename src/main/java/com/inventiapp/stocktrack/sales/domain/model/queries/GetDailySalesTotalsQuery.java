@@ -0,0 +1,27 @@
+package com.inventiapp.stocktrack.sales.domain.model.queries;
+
+import java.time.LocalDate;
+
+/**
+ * Query to get the sales totals of each day in a date range, optionally restricted to a staff
+ * user and to a product.
+ *
+ * @param from        first day (inclusive)
+ * @param to          last day (exclusive)
+ * @param staffUserId staff user filter, or null
+ * @param productId   product filter, or null
+ */
+public record GetDailySalesTotalsQuery(LocalDate from, LocalDate to, Long staffUserId, Long productId) {
+    public GetDailySalesTotalsQuery {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("from and to are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+    }
+
+    public GetDailySalesTotalsQuery(LocalDate from, LocalDate to) {
+        this(from, to, null, null);
+    }
+}
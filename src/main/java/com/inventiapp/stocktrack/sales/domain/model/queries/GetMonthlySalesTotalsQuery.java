@@ -0,0 +1,14 @@
+package com.inventiapp.stocktrack.sales.domain.model.queries;
+
+/**
+ * Query to get the sales totals of each month of a year.
+ *
+ * @param year the year
+ */
+public record GetMonthlySalesTotalsQuery(int year) {
+    public GetMonthlySalesTotalsQuery {
+        if (year < 1970) {
+            throw new IllegalArgumentException("year must be 1970 or later");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.inventiapp.stocktrack.sales.domain.model.queries;
+
+import java.time.LocalDate;
+
+/**
+ * Query to get the sales totals of every product sold in a date range.
+ *
+ * @param from first day (inclusive)
+ * @param to   last day (exclusive)
+ */
+public record GetProductSalesTotalsQuery(LocalDate from, LocalDate to) {
+    public GetProductSalesTotalsQuery {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("from and to are required");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+    }
+}
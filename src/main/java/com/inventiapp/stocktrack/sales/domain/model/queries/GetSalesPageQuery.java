@@ -0,0 +1,37 @@
+package com.inventiapp.stocktrack.sales.domain.model.queries;
+
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleCursor;
+
+import java.time.LocalDate;
+
+/**
+ * Query to get a page of sales, newest first, optionally filtered by date range, staff user and
+ * minimum total.
+ *
+ * @param from        first day (inclusive), or null for no lower bound
+ * @param to          last day (exclusive), or null for no upper bound
+ * @param staffUserId staff user filter, or null
+ * @param minTotal    minimum sale total (inclusive), or null
+ * @param after       cursor returned with the previous page, or null for the first page
+ * @param limit       maximum number of sales in the page
+ */
+public record GetSalesPageQuery(LocalDate from, LocalDate to, Long staffUserId, Double minTotal,
+                                SaleCursor after, int limit) {
+
+    public static final int MAX_LIMIT = 100;
+
+    public GetSalesPageQuery {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (staffUserId != null && staffUserId <= 0) {
+            throw new IllegalArgumentException("staffUserId must be positive");
+        }
+        if (minTotal != null && (minTotal.isNaN() || minTotal < 0)) {
+            throw new IllegalArgumentException("minTotal cannot be negative");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.inventiapp.stocktrack.sales.domain.model.queries;
+
+import java.time.LocalDate;
+
+/**
+ * Query to get the totals of the sales created in a date range, optionally restricted to a staff
+ * user and to the lines of a product.
+ *
+ * @param from        first day (inclusive)
+ * @param to          last day (exclusive)
+ * @param staffUserId staff user filter, or null
+ * @param productId   product filter, or null
+ */
+public record GetSalesSummaryQuery(LocalDate from, LocalDate to, Long staffUserId, Long productId) {
+    public GetSalesSummaryQuery {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("from and to are required");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+    }
+}
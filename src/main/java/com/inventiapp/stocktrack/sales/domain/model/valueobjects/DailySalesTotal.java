@@ -0,0 +1,13 @@
+package com.inventiapp.stocktrack.sales.domain.model.valueobjects;
+
+import java.time.LocalDate;
+
+/**
+ * Sales totals of one day, read from the daily rollups.
+ *
+ * @param saleDate  the day
+ * @param unitsSold units sold that day
+ * @param revenue   revenue of that day
+ */
+public record DailySalesTotal(LocalDate saleDate, Long unitsSold, Double revenue) {
+}
@@ -0,0 +1,11 @@
+package com.inventiapp.stocktrack.sales.domain.model.valueobjects;
+
+/**
+ * Outcome of an idempotent sale request.
+ *
+ * @param saleId   id of the sale the idempotency key produced
+ * @param replayed true when the sale had already been created by an earlier or concurrent request
+ *                 with the same key, so nothing was sold this time
+ */
+public record IdempotentSaleResult(Long saleId, boolean replayed) {
+}
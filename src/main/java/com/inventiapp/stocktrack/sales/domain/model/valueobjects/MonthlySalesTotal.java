@@ -0,0 +1,12 @@
+package com.inventiapp.stocktrack.sales.domain.model.valueobjects;
+
+/**
+ * Sales totals of one calendar month, grouped in the database from the daily rollups.
+ *
+ * @param salesYear  the year
+ * @param salesMonth the month of the year (1-12)
+ * @param unitsSold  units sold that month
+ * @param revenue    revenue of that month
+ */
+public record MonthlySalesTotal(Integer salesYear, Integer salesMonth, Long unitsSold, Double revenue) {
+}
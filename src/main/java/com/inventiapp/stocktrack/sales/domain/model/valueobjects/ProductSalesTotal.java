@@ -0,0 +1,11 @@
+package com.inventiapp.stocktrack.sales.domain.model.valueobjects;
+
+/**
+ * Sales totals of one product, read from the daily rollups.
+ *
+ * @param productId the product id
+ * @param unitsSold units sold of the product
+ * @param revenue   revenue of the product
+ */
+public record ProductSalesTotal(Long productId, Long unitsSold, Double revenue) {
+}
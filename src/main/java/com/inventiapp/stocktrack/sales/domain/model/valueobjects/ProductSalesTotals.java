@@ -0,0 +1,13 @@
+package com.inventiapp.stocktrack.sales.domain.model.valueobjects;
+
+import java.util.List;
+
+/**
+ * Sales totals of every product sold in a date range, read in a single snapshot.
+ *
+ * @param latestSaleId highest sale id visible in the snapshot, 0 when there are no sales;
+ *                     sales with a higher id are not included in the totals
+ * @param products     totals per product, in no particular order
+ */
+public record ProductSalesTotals(Long latestSaleId, List<ProductSalesTotal> products) {
+}
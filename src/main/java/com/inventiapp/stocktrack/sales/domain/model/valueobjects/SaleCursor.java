@@ -0,0 +1,51 @@
+package com.inventiapp.stocktrack.sales.domain.model.valueobjects;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the sales listing, newest first: the creation instant and id of the last sale returned.
+ * The next page starts right after it, so paging costs the same however deep the client goes.
+ *
+ * @param createdAt creation instant of the last sale returned, with the database precision
+ * @param saleId    id of the last sale returned, breaking ties between sales created at the same instant
+ */
+public record SaleCursor(Instant createdAt, Long saleId) {
+    private static final char SEPARATOR = '|';
+
+    public SaleCursor {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("createdAt cannot be null");
+        }
+        if (saleId == null || saleId <= 0) {
+            throw new IllegalArgumentException("saleId must be positive");
+        }
+    }
+
+    /**
+     * Encodes the cursor as an opaque URL-safe token.
+     */
+    public String encode() {
+        var raw = createdAt.toString() + SEPARATOR + saleId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static SaleCursor decode(String token) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new SaleCursor(Instant.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+}
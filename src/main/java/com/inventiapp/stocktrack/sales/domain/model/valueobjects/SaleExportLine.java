@@ -0,0 +1,22 @@
+package com.inventiapp.stocktrack.sales.domain.model.valueobjects;
+
+import java.util.Date;
+
+/**
+ * One sale line together with the sale it belongs to, as read by the sales export.
+ */
+public record SaleExportLine(
+        Long saleId,
+        Date createdAt,
+        Long staffUserId,
+        double saleTotalAmount,
+        Long saleDetailId,
+        Long productId,
+        int quantity,
+        double unitPrice,
+        double totalPrice,
+        String productName,
+        Long kitId,
+        String kitName
+) {
+}
@@ -0,0 +1,27 @@
+package com.inventiapp.stocktrack.sales.domain.model.valueobjects;
+
+/**
+ * Outcome of one sale of a bulk ingestion.
+ *
+ * @param saleId   id of the created sale, or null if it was rejected
+ * @param error    why the sale was rejected, or null if it was created
+ * @param replayed true when the idempotency key of the sale had already produced it, so nothing was sold this time
+ */
+public record SaleIngestionResult(Long saleId, String error, boolean replayed) {
+
+    public static SaleIngestionResult created(Long saleId) {
+        return new SaleIngestionResult(saleId, null, false);
+    }
+
+    public static SaleIngestionResult replayed(Long saleId) {
+        return new SaleIngestionResult(saleId, null, true);
+    }
+
+    public static SaleIngestionResult rejected(String error) {
+        return new SaleIngestionResult(null, error, false);
+    }
+
+    public boolean isCreated() {
+        return saleId != null;
+    }
+}
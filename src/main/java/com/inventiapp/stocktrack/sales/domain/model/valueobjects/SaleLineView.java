@@ -0,0 +1,35 @@
+package com.inventiapp.stocktrack.sales.domain.model.valueobjects;
+
+import java.util.Date;
+
+/**
+ * A sale line as read from the sale line read model.
+ *
+ * @param saleId          sale id
+ * @param saleDetailId    sale detail id
+ * @param saleCreatedAt   when the sale was created
+ * @param staffUserId     staff user that registered the sale
+ * @param saleTotalAmount total of the whole sale
+ * @param productId       product sold
+ * @param productName     name of the product when it was sold, or null if unknown
+ * @param kitId           kit the line was sold as part of, or null
+ * @param kitName         name of that kit when it was sold, or null
+ * @param quantity        units sold
+ * @param unitPrice       price of one unit
+ * @param totalPrice      line total
+ */
+public record SaleLineView(
+        Long saleId,
+        Long saleDetailId,
+        Date saleCreatedAt,
+        Long staffUserId,
+        double saleTotalAmount,
+        Long productId,
+        String productName,
+        Long kitId,
+        String kitName,
+        int quantity,
+        double unitPrice,
+        double totalPrice
+) {
+}
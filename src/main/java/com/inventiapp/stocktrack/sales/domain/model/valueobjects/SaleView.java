@@ -0,0 +1,26 @@
+package com.inventiapp.stocktrack.sales.domain.model.valueobjects;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A sale with its lines, as read from the sale line read model.
+ *
+ * @param saleId      sale id
+ * @param createdAt   when the sale was created
+ * @param staffUserId staff user that registered the sale
+ * @param totalAmount sale total
+ * @param lines       the sale lines, in detail order
+ */
+public record SaleView(Long saleId, Date createdAt, Long staffUserId, double totalAmount, List<SaleLineView> lines) {
+
+    /**
+     * Groups lines of one sale into a view.
+     * @param lines the lines of the sale, not empty
+     */
+    public static SaleView of(List<SaleLineView> lines) {
+        var first = lines.get(0);
+        return new SaleView(first.saleId(), first.saleCreatedAt(), first.staffUserId(), first.saleTotalAmount(),
+                List.copyOf(lines));
+    }
+}
@@ -0,0 +1,12 @@
+package com.inventiapp.stocktrack.sales.domain.model.valueobjects;
+
+import java.util.List;
+
+/**
+ * One page of the sales listing, newest first, with the lines of every sale.
+ *
+ * @param sales      the sales of the page
+ * @param nextCursor where the next page starts, or null if this is the last page
+ */
+public record SalesPage(List<SaleView> sales, SaleCursor nextCursor) {
+}
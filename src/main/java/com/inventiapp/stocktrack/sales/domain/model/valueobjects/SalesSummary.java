@@ -0,0 +1,17 @@
+package com.inventiapp.stocktrack.sales.domain.model.valueobjects;
+
+/**
+ * Totals of a set of sales.
+ *
+ * @param saleCount number of sales
+ * @param unitsSold units sold
+ * @param revenue   revenue of the sold units
+ */
+public record SalesSummary(Long saleCount, Long unitsSold, Double revenue) {
+    public SalesSummary {
+        // Sums over no rows are null
+        saleCount = saleCount != null ? saleCount : 0L;
+        unitsSold = unitsSold != null ? unitsSold : 0L;
+        revenue = revenue != null ? revenue : 0.0;
+    }
+}
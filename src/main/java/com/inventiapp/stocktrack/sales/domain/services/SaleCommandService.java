@@ -1,7 +1,31 @@
 package com.inventiapp.stocktrack.sales.domain.services;
 
+import com.inventiapp.stocktrack.sales.domain.model.commands.CreateIdempotentSaleCommand;
 import com.inventiapp.stocktrack.sales.domain.model.commands.CreateSaleCommand;
+import com.inventiapp.stocktrack.sales.domain.model.commands.IngestSalesCommand;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.IdempotentSaleResult;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleIngestionResult;
+
+import java.util.List;
 
 public interface SaleCommandService {
     Long handle(CreateSaleCommand command);
+
+    /**
+     * Creates the sale unless its idempotency key already produced one, in which case that sale is
+     * returned and inventory is left untouched. Concurrent requests with the same key are coalesced.
+     * @throws com.inventiapp.stocktrack.sales.domain.exceptions.IdempotencyKeyReusedException when the
+     *         key was used with a different request body
+     */
+    IdempotentSaleResult handle(CreateIdempotentSaleCommand command);
+
+    /**
+     * Creates a batch of sales in one transaction. Products are validated against one snapshot of
+     * the catalogue, stock is taken in one allocation, and sales and their details are written with
+     * batched inserts. Sales that reference a missing product or lack stock are rejected without
+     * failing the rest. A sale whose idempotency key already produced one is replayed instead of
+     * sold again, and is rejected if the key was used with a different sale.
+     * @return one result per sale of the command, in the same order
+     */
+    List<SaleIngestionResult> handle(IngestSalesCommand command);
 }
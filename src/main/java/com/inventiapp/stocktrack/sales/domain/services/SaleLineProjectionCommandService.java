@@ -0,0 +1,30 @@
+package com.inventiapp.stocktrack.sales.domain.services;
+
+import com.inventiapp.stocktrack.sales.domain.model.aggregates.Sale;
+import com.inventiapp.stocktrack.sales.domain.model.commands.BackfillSaleLineProjectionCommand;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleView;
+
+import java.util.List;
+import java.util.Map;
+
+public interface SaleLineProjectionCommandService {
+
+    /**
+     * Adds the lines of a newly saved sale to the read model. Must run in the sale transaction.
+     * @param sale         the saved sale
+     * @param productNames names of the products of the sale, keyed by product id
+     */
+    void recordSale(Sale sale, Map<Long, String> productNames);
+
+    /**
+     * Adds the lines of several newly saved sales to the read model with one batched insert.
+     * Must run in the sales transaction.
+     * @param sales the saved sales, with the product and kit names they were sold under
+     */
+    void recordSales(List<SaleView> sales);
+
+    /**
+     * @return number of lines projected
+     */
+    long handle(BackfillSaleLineProjectionCommand command);
+}
@@ -1,15 +1,32 @@
 package com.inventiapp.stocktrack.sales.domain.services;
 
-import com.inventiapp.stocktrack.sales.domain.model.aggregates.Sale;
-import com.inventiapp.stocktrack.sales.domain.model.queries.GetAllSalesQuery;
+import com.inventiapp.stocktrack.sales.domain.model.queries.ExportSalesQuery;
 import com.inventiapp.stocktrack.sales.domain.model.queries.GetSaleByIdQuery;
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetSalesPageQuery;
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetSalesSummaryQuery;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleExportLine;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleView;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SalesPage;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SalesSummary;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface SaleQueryService {
 
-    Optional<Sale> handle(GetSaleByIdQuery getSaleByIdQuery);
+    Optional<SaleView> handle(GetSaleByIdQuery getSaleByIdQuery);
 
-    List<Sale> handle(GetAllSalesQuery getAllSalesQuery);
+    /**
+     * Gets a page of sales, newest first, with their lines loaded in one batched query.
+     */
+    SalesPage handle(GetSalesPageQuery getSalesPageQuery);
+
+    /**
+     * Passes every exported sale line to the consumer, in sale order, while the lines are streamed
+     * from the database.
+     * @return number of lines exported
+     */
+    long handle(ExportSalesQuery exportSalesQuery, Consumer<SaleExportLine> consumer);
+
+    SalesSummary handle(GetSalesSummaryQuery getSalesSummaryQuery);
 }
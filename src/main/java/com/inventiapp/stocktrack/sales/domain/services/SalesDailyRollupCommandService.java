@@ -0,0 +1,30 @@
+package com.inventiapp.stocktrack.sales.domain.services;
+
+import com.inventiapp.stocktrack.sales.domain.model.aggregates.Sale;
+import com.inventiapp.stocktrack.sales.domain.model.commands.BackfillSalesDailyRollupsCommand;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleView;
+
+import java.util.List;
+
+public interface SalesDailyRollupCommandService {
+
+    /**
+     * Adds a newly created sale to the daily rollups. Must run in the transaction that saves the sale.
+     * @param sale the saved sale
+     */
+    void recordSale(Sale sale);
+
+    /**
+     * Adds several newly created sales to the daily rollups with one upsert per rollup row.
+     * Must run in the transaction that saves the sales.
+     * @param sales the saved sales
+     */
+    void recordSales(List<SaleView> sales);
+
+    /**
+     * Rebuilds the daily rollups of a date range.
+     * @param command backfill command
+     * @return number of sale lines processed
+     */
+    long handle(BackfillSalesDailyRollupsCommand command);
+}
@@ -0,0 +1,28 @@
+package com.inventiapp.stocktrack.sales.domain.services;
+
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetDailySalesTotalsQuery;
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetMonthlySalesTotalsQuery;
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetProductSalesTotalsQuery;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.DailySalesTotal;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.MonthlySalesTotal;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.ProductSalesTotals;
+
+import java.util.List;
+
+public interface SalesDailyRollupQueryService {
+
+    /**
+     * @return one row per day with sales in the range, ordered by day
+     */
+    List<DailySalesTotal> handle(GetDailySalesTotalsQuery query);
+
+    /**
+     * @return one row per month of the year with sales, ordered by month
+     */
+    List<MonthlySalesTotal> handle(GetMonthlySalesTotalsQuery query);
+
+    /**
+     * @return the totals of every product sold in the range, together with the latest sale they include
+     */
+    ProductSalesTotals handle(GetProductSalesTotalsQuery query);
+}
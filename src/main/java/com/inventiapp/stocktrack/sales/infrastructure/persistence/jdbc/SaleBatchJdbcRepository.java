@@ -0,0 +1,175 @@
+package com.inventiapp.stocktrack.sales.infrastructure.persistence.jdbc;
+
+import com.inventiapp.stocktrack.sales.domain.model.aggregates.Sale;
+import com.inventiapp.stocktrack.sales.domain.model.entities.SaleDetail;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleLineView;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Writes many sales with JDBC batch inserts.
+ * <p>
+ * Sales, sale details and sale line projections use identity ids, which keeps Hibernate from
+ * batching their inserts; here each table is written with one batched statement per call and the
+ * generated ids are read back in insert order. The rows are the same the entities would write,
+ * audit dates included, so the JPA model reads them unchanged. Callers provide the transaction.
+ */
+@Repository
+public class SaleBatchJdbcRepository {
+
+    private static final String INSERT_SALE = """
+            INSERT INTO sales (created_at, updated_at, staff_user_id, total_amount)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_SALE_DETAIL = """
+            INSERT INTO sale_details (created_at, updated_at, sale_id, product_id, kit_id, quantity, unit_price, total_price)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_SALE_LINE_PROJECTION = """
+            INSERT INTO sale_line_projections (created_at, updated_at, sale_id, sale_detail_id, sale_created_at,
+                staff_user_id, sale_total_amount, product_id, product_name, kit_id, kit_name, quantity, unit_price, total_price)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SaleBatchJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the sales headers.
+     * @param sales sales to insert
+     * @param createdAts creation date of each sale, in the same order
+     * @return the generated sale ids, in sale order
+     */
+    public List<Long> insertSales(List<Sale> sales, List<Date> createdAts) {
+        return insert(INSERT_SALE, sales.size(), (ps, i) -> {
+            Sale sale = sales.get(i);
+            Timestamp createdAt = new Timestamp(createdAts.get(i).getTime());
+            ps.setTimestamp(1, createdAt);
+            ps.setTimestamp(2, createdAt);
+            ps.setLong(3, sale.getStaffUserId().id());
+            ps.setDouble(4, sale.getTotalAmount());
+        });
+    }
+
+    /**
+     * Inserts the details of the sales.
+     * @param sales sales whose details are inserted
+     * @param saleIds ids of the sales, in the same order
+     * @param createdAts creation date of each sale, in the same order; its details share it
+     * @return the generated detail ids, sale after sale in detail order
+     */
+    public List<Long> insertSaleDetails(List<Sale> sales, List<Long> saleIds, List<Date> createdAts) {
+        List<Long> detailSaleIds = new ArrayList<>();
+        List<Timestamp> detailCreatedAts = new ArrayList<>();
+        List<SaleDetail> details = new ArrayList<>();
+        for (int i = 0; i < sales.size(); i++) {
+            Timestamp createdAt = new Timestamp(createdAts.get(i).getTime());
+            for (SaleDetail detail : sales.get(i).getDetails()) {
+                detailSaleIds.add(saleIds.get(i));
+                detailCreatedAts.add(createdAt);
+                details.add(detail);
+            }
+        }
+        return insert(INSERT_SALE_DETAIL, details.size(), (ps, i) -> {
+            SaleDetail detail = details.get(i);
+            ps.setTimestamp(1, detailCreatedAts.get(i));
+            ps.setTimestamp(2, detailCreatedAts.get(i));
+            ps.setLong(3, detailSaleIds.get(i));
+            ps.setLong(4, detail.getProductId().id());
+            setNullableLong(ps, 5, detail.getKitId());
+            ps.setInt(6, detail.getQuantity());
+            ps.setDouble(7, detail.getUnitPrice());
+            ps.setDouble(8, detail.getTotalPrice());
+        });
+    }
+
+    /**
+     * Inserts sale lines into the sale line read model.
+     * @param lines lines to insert
+     * @param createdAt creation date of every row
+     */
+    public void insertSaleLineProjections(List<SaleLineView> lines, Date createdAt) {
+        Timestamp now = new Timestamp(createdAt.getTime());
+        jdbcTemplate.batchUpdate(INSERT_SALE_LINE_PROJECTION, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                SaleLineView line = lines.get(i);
+                ps.setTimestamp(1, now);
+                ps.setTimestamp(2, now);
+                ps.setLong(3, line.saleId());
+                ps.setLong(4, line.saleDetailId());
+                ps.setTimestamp(5, new Timestamp(line.saleCreatedAt().getTime()));
+                ps.setLong(6, line.staffUserId());
+                ps.setDouble(7, line.saleTotalAmount());
+                ps.setLong(8, line.productId());
+                ps.setString(9, line.productName());
+                setNullableLong(ps, 10, line.kitId());
+                ps.setString(11, line.kitName());
+                ps.setInt(12, line.quantity());
+                ps.setDouble(13, line.unitPrice());
+                ps.setDouble(14, line.totalPrice());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return lines.size();
+            }
+        });
+    }
+
+    private List<Long> insert(String sql, int rows, RowSetter setter) {
+        if (rows == 0) {
+            return List.of();
+        }
+        var keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(sql, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        setter.set(ps, i);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows;
+                    }
+                },
+                keyHolder);
+        List<Long> ids = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+        if (ids.size() != rows) {
+            throw new IllegalStateException("Expected " + rows + " generated ids, got " + ids.size());
+        }
+        return ids;
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowSetter {
+        void set(PreparedStatement ps, int i) throws SQLException;
+    }
+}
@@ -0,0 +1,37 @@
+package com.inventiapp.stocktrack.sales.infrastructure.persistence.jpa.repositories;
+
+import com.inventiapp.stocktrack.sales.domain.model.entities.SaleIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+public interface SaleIdempotencyKeyRepository extends JpaRepository<SaleIdempotencyKey, Long> {
+
+    Optional<SaleIdempotencyKey> findByIdempotencyKey(String idempotencyKey);
+
+    List<SaleIdempotencyKey> findAllByIdempotencyKeyIn(Collection<String> idempotencyKeys);
+
+    /**
+     * Deletes a key if it was created before the given instant, so an expired key can be used again.
+     */
+    @Modifying
+    @Query("DELETE FROM SaleIdempotencyKey k WHERE k.idempotencyKey = :idempotencyKey AND k.createdAt < :before")
+    int deleteExpired(@Param("idempotencyKey") String idempotencyKey, @Param("before") Date before);
+
+    /**
+     * Deletes the keys among the given ones that were created before the given instant.
+     */
+    @Modifying
+    @Query("DELETE FROM SaleIdempotencyKey k WHERE k.idempotencyKey IN :idempotencyKeys AND k.createdAt < :before")
+    int deleteAllExpired(@Param("idempotencyKeys") Collection<String> idempotencyKeys, @Param("before") Date before);
+
+    @Modifying
+    @Query("DELETE FROM SaleIdempotencyKey k WHERE k.createdAt < :before")
+    int deleteAllCreatedBefore(@Param("before") Date before);
+}
@@ -0,0 +1,95 @@
+package com.inventiapp.stocktrack.sales.infrastructure.persistence.jpa.repositories;
+
+import com.inventiapp.stocktrack.sales.domain.model.entities.SaleLineProjection;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleExportLine;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleLineView;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SalesSummary;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+public interface SaleLineProjectionRepository extends JpaRepository<SaleLineProjection, Long> {
+
+    /**
+     * Reads the lines of several sales with one single-table query, ordered by sale and detail.
+     */
+    @Query("""
+            SELECT new com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleLineView(
+                       l.saleId, l.saleDetailId, l.saleCreatedAt, l.staffUserId, l.saleTotalAmount,
+                       l.productId, l.productName, l.kitId, l.kitName, l.quantity, l.unitPrice, l.totalPrice)
+            FROM SaleLineProjection l
+            WHERE l.saleId IN :saleIds
+            ORDER BY l.saleId, l.saleDetailId
+            """)
+    List<SaleLineView> findLinesBySaleIds(@Param("saleIds") Collection<Long> saleIds);
+
+    /**
+     * Streams the lines of the sales created in [from, to), grouped by sale, through a forward-only
+     * cursor. Rows are not managed entities, so memory use does not grow with the number of rows.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+            SELECT new com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleExportLine(
+                       l.saleId, l.saleCreatedAt, l.staffUserId, l.saleTotalAmount,
+                       l.saleDetailId, l.productId, l.quantity, l.unitPrice, l.totalPrice,
+                       l.productName, l.kitId, l.kitName)
+            FROM SaleLineProjection l
+            WHERE l.saleCreatedAt >= :from AND l.saleCreatedAt < :to
+            ORDER BY l.saleId, l.saleDetailId
+            """)
+    Stream<SaleExportLine> streamExportLines(@Param("from") Date from, @Param("to") Date to);
+
+    /**
+     * Sums the sales created in [from, to), optionally of one staff user and counting only the lines
+     * of one product. The range and staff filters use the (sale_created_at, staff_user_id) index;
+     * the product filter uses the (product_id, sale_created_at) index.
+     */
+    @Query("""
+            SELECT new com.inventiapp.stocktrack.sales.domain.model.valueobjects.SalesSummary(
+                       COUNT(DISTINCT l.saleId), SUM(l.quantity), SUM(l.totalPrice))
+            FROM SaleLineProjection l
+            WHERE l.saleCreatedAt >= :from AND l.saleCreatedAt < :to
+              AND (:staffUserId IS NULL OR l.staffUserId = :staffUserId)
+              AND (:productId IS NULL OR l.productId = :productId)
+            """)
+    SalesSummary summarize(@Param("from") Date from,
+                           @Param("to") Date to,
+                           @Param("staffUserId") Long staffUserId,
+                           @Param("productId") Long productId);
+
+    @Query("SELECT COALESCE(MAX(l.saleId), 0) FROM SaleLineProjection l")
+    long findLatestSaleId();
+
+    /**
+     * Projects the lines of every sale with an id greater than the given one from the sales tables,
+     * taking the product and kit names from the catalogue as they are now.
+     * @return number of lines projected
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO sale_line_projections
+                (sale_id, sale_detail_id, sale_created_at, staff_user_id, sale_total_amount,
+                 product_id, product_name, kit_id, kit_name, quantity, unit_price, total_price,
+                 created_at, updated_at)
+            SELECT s.id, d.id, s.created_at, s.staff_user_id, s.total_amount,
+                   d.product_id, p.name, d.kit_id, k.name, d.quantity, d.unit_price, d.total_price,
+                   NOW(), NOW()
+            FROM sale_details d
+            JOIN sales s ON s.id = d.sale_id
+            LEFT JOIN products p ON p.id = d.product_id
+            LEFT JOIN kits k ON k.id = d.kit_id
+            WHERE s.id > :afterSaleId
+            """, nativeQuery = true)
+    int projectSalesAfter(@Param("afterSaleId") long afterSaleId);
+}
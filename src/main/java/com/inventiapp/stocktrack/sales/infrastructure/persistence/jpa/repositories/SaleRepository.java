@@ -1,8 +1,47 @@
 package com.inventiapp.stocktrack.sales.infrastructure.persistence.jpa.repositories;
 
 import com.inventiapp.stocktrack.sales.domain.model.aggregates.Sale;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
 
 public interface SaleRepository extends JpaRepository<Sale, Long> {
 
+    /**
+     * Keys of the sales created in [from, to) strictly before the (afterCreatedAt, afterId) position,
+     * newest first. The position is a keyset over the (created_at, id) index, so a page costs the
+     * same at any depth; pass (to, Long.MAX_VALUE) for the first page.
+     */
+    @Query("""
+            SELECT s.id AS id, s.createdAt AS createdAt FROM Sale s
+            WHERE s.createdAt >= :from AND s.createdAt < :to
+              AND s.createdAt <= :afterCreatedAt
+              AND (s.createdAt < :afterCreatedAt OR s.id < :afterId)
+              AND (:staffUserId IS NULL OR s.staffUserId.id = :staffUserId)
+              AND (:minTotal IS NULL OR s.totalAmount >= :minTotal)
+            ORDER BY s.createdAt DESC, s.id DESC
+            """)
+    List<SaleKey> findPageKeys(@Param("from") Date from,
+                               @Param("to") Date to,
+                               @Param("afterCreatedAt") Date afterCreatedAt,
+                               @Param("afterId") Long afterId,
+                               @Param("staffUserId") Long staffUserId,
+                               @Param("minTotal") Double minTotal,
+                               Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM Sale s")
+    long findLatestId();
+
+    /**
+     * Position of a sale in the sales listing.
+     */
+    interface SaleKey {
+        Long getId();
+
+        Date getCreatedAt();
+    }
 }
@@ -0,0 +1,121 @@
+package com.inventiapp.stocktrack.sales.infrastructure.persistence.jpa.repositories;
+
+import com.inventiapp.stocktrack.sales.domain.model.entities.SalesDailyRollup;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.DailySalesTotal;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.MonthlySalesTotal;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.ProductSalesTotal;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+public interface SalesDailyRollupRepository extends JpaRepository<SalesDailyRollup, Long> {
+
+    /**
+     * Adds units, revenue and sales to the rollup row of a day, product and staff user,
+     * creating the row if needed. The single-statement upsert keeps concurrent sales consistent.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO sales_daily_rollups
+                (sale_date, product_id, staff_user_id, units_sold, revenue, sale_count, created_at, updated_at)
+            VALUES (:saleDate, :productId, :staffUserId, :unitsSold, :revenue, :saleCount, NOW(), NOW())
+            ON DUPLICATE KEY UPDATE
+                units_sold = units_sold + VALUES(units_sold),
+                revenue = revenue + VALUES(revenue),
+                sale_count = sale_count + VALUES(sale_count),
+                updated_at = NOW()
+            """, nativeQuery = true)
+    void addToRollup(@Param("saleDate") LocalDate saleDate,
+                     @Param("productId") Long productId,
+                     @Param("staffUserId") Long staffUserId,
+                     @Param("unitsSold") int unitsSold,
+                     @Param("revenue") double revenue,
+                     @Param("saleCount") int saleCount);
+
+    @Modifying
+    @Query("DELETE FROM SalesDailyRollup r WHERE r.saleDate >= :from AND r.saleDate < :to")
+    int deleteBySaleDateRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Streams every sale line created in [from, to), grouped by sale.
+     * Only the needed columns are read, so neither sales nor details are hydrated.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+            SELECT s.id AS saleId, s.createdAt AS createdAt, s.staffUserId.id AS staffUserId,
+                   d.productId.id AS productId, d.quantity AS quantity, d.totalPrice AS totalPrice
+            FROM SaleDetail d JOIN d.sale s
+            WHERE s.createdAt >= :from AND s.createdAt < :to
+            ORDER BY s.id, d.id
+            """)
+    Stream<SaleLineRow> streamSaleLines(@Param("from") Date from, @Param("to") Date to);
+
+    @Query("""
+            SELECT new com.inventiapp.stocktrack.sales.domain.model.valueobjects.DailySalesTotal(
+                       r.saleDate, SUM(r.unitsSold), SUM(r.revenue))
+            FROM SalesDailyRollup r
+            WHERE r.saleDate >= :from AND r.saleDate < :to
+              AND (:staffUserId IS NULL OR r.staffUserId = :staffUserId)
+              AND (:productId IS NULL OR r.productId = :productId)
+            GROUP BY r.saleDate
+            ORDER BY r.saleDate
+            """)
+    List<DailySalesTotal> findDailyTotals(@Param("from") LocalDate from,
+                                          @Param("to") LocalDate to,
+                                          @Param("staffUserId") Long staffUserId,
+                                          @Param("productId") Long productId);
+
+    /**
+     * Sums the rollups of [from, to) per calendar month in the database, so at most one row
+     * per month is transferred. Sale dates are already local days, so no time zone applies.
+     */
+    @Query("""
+            SELECT new com.inventiapp.stocktrack.sales.domain.model.valueobjects.MonthlySalesTotal(
+                       YEAR(r.saleDate), MONTH(r.saleDate), SUM(r.unitsSold), SUM(r.revenue))
+            FROM SalesDailyRollup r
+            WHERE r.saleDate >= :from AND r.saleDate < :to
+            GROUP BY YEAR(r.saleDate), MONTH(r.saleDate)
+            ORDER BY YEAR(r.saleDate), MONTH(r.saleDate)
+            """)
+    List<MonthlySalesTotal> findMonthlyTotals(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new com.inventiapp.stocktrack.sales.domain.model.valueobjects.ProductSalesTotal(
+                       r.productId, SUM(r.unitsSold), SUM(r.revenue))
+            FROM SalesDailyRollup r
+            WHERE r.saleDate >= :from AND r.saleDate < :to
+            GROUP BY r.productId
+            """)
+    List<ProductSalesTotal> findProductTotals(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT COALESCE(MAX(s.id), 0) FROM Sale s")
+    long findLatestSaleId();
+
+    /**
+     * Projection of a sale line as read by the backfill.
+     */
+    interface SaleLineRow {
+        Long getSaleId();
+
+        Date getCreatedAt();
+
+        Long getStaffUserId();
+
+        Long getProductId();
+
+        int getQuantity();
+
+        double getTotalPrice();
+    }
+}
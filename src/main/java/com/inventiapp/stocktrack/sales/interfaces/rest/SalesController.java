@@ -1,23 +1,60 @@
 package com.inventiapp.stocktrack.sales.interfaces.rest;
 
-import com.inventiapp.stocktrack.sales.domain.model.queries.GetAllSalesQuery;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventiapp.stocktrack.sales.domain.exceptions.IdempotencyKeyReusedException;
+import com.inventiapp.stocktrack.sales.domain.model.commands.BackfillSalesDailyRollupsCommand;
+import com.inventiapp.stocktrack.sales.domain.model.commands.CreateIdempotentSaleCommand;
+import com.inventiapp.stocktrack.sales.domain.model.commands.CreateSaleCommand;
+import com.inventiapp.stocktrack.sales.domain.model.commands.IngestSalesCommand;
+import com.inventiapp.stocktrack.sales.domain.model.commands.IngestedSale;
+import com.inventiapp.stocktrack.sales.domain.model.queries.ExportSalesQuery;
 import com.inventiapp.stocktrack.sales.domain.model.queries.GetSaleByIdQuery;
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetSalesPageQuery;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleCursor;
 import com.inventiapp.stocktrack.sales.domain.services.SaleCommandService;
 import com.inventiapp.stocktrack.sales.domain.services.SaleQueryService;
+import com.inventiapp.stocktrack.sales.domain.services.SalesDailyRollupCommandService;
 import com.inventiapp.stocktrack.sales.interfaces.rest.resources.CreateSaleResource;
 import com.inventiapp.stocktrack.sales.interfaces.rest.resources.ErrorResponse;
+import com.inventiapp.stocktrack.sales.interfaces.rest.resources.IngestedSaleResource;
+import com.inventiapp.stocktrack.sales.interfaces.rest.resources.SaleIngestionResultResource;
 import com.inventiapp.stocktrack.sales.interfaces.rest.resources.SaleResource;
+import com.inventiapp.stocktrack.sales.interfaces.rest.resources.SalesDailyRollupBackfillResource;
 import com.inventiapp.stocktrack.sales.interfaces.rest.transform.CreateSaleCommandFromResourceAssembler;
-import com.inventiapp.stocktrack.sales.interfaces.rest.transform.SaleResourceFromEntityAssembler;
+import com.inventiapp.stocktrack.sales.interfaces.rest.transform.SaleExportWriter;
+import com.inventiapp.stocktrack.sales.interfaces.rest.transform.SaleResourceFromViewAssembler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
@@ -27,26 +64,56 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @Tag(name = "Sales", description = "Sales management API")
 public class SalesController {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(SalesController.class);
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final MediaType APPLICATION_NDJSON = new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final SaleCommandService salesCommandService;
     private final SaleQueryService salesQueryService;
+    private final SalesDailyRollupCommandService salesDailyRollupCommandService;
+    private final ObjectMapper objectMapper;
+    private final int ingestionBatchSize;
 
-    public SalesController(SaleCommandService salesCommandService, SaleQueryService salesQueryService) {
+    public SalesController(SaleCommandService salesCommandService,
+                           SaleQueryService salesQueryService,
+                           SalesDailyRollupCommandService salesDailyRollupCommandService,
+                           ObjectMapper objectMapper,
+                           @Value("${sales.ingestion.batch-size:500}") int ingestionBatchSize) {
         this.salesCommandService = salesCommandService;
         this.salesQueryService = salesQueryService;
+        this.salesDailyRollupCommandService = salesDailyRollupCommandService;
+        this.objectMapper = objectMapper;
+        this.ingestionBatchSize = Math.max(1, ingestionBatchSize);
     }
 
     @PostMapping
-    @Operation(summary = "Create Sale", description = "Creates a new sale record")
+    @Operation(summary = "Create Sale", description = "Creates a new sale record. When an Idempotency-Key header " +
+            "is sent, retries with the same key and body return the sale created by the first request without " +
+            "selling again")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "201", description = "Sale created successfully"),
+            @ApiResponse(responseCode = "201", description = "Sale created successfully, or replayed for a repeated Idempotency-Key"),
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
             @ApiResponse(responseCode = "404", description = "Related sale not found"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key already used with a different request"),
     })
-    public ResponseEntity<?> createSale(@RequestBody CreateSaleResource resource) {
+    public ResponseEntity<?> createSale(@RequestBody CreateSaleResource resource,
+                                        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         try {
             var createSaleCommand = CreateSaleCommandFromResourceAssembler.toCommandFromResource(resource);
 
-            var saleId = salesCommandService.handle(createSaleCommand);
+            Long saleId;
+            boolean replayed = false;
+            if (idempotencyKey == null) {
+                saleId = salesCommandService.handle(createSaleCommand);
+            } else {
+                var result = salesCommandService.handle(new CreateIdempotentSaleCommand(
+                        idempotencyKey, fingerprint(resource), createSaleCommand));
+                saleId = result.saleId();
+                replayed = result.replayed();
+            }
             if (saleId == null || saleId == 0L) {
                 return ResponseEntity.badRequest()
                         .body(new ErrorResponse("Failed to create sale"));
@@ -57,23 +124,67 @@ public class SalesController {
                 return ResponseEntity.notFound().build();
             }
 
-            var saleResource = SaleResourceFromEntityAssembler.toResourceFromEntity(sale.get());
-            return new ResponseEntity<>(saleResource, HttpStatus.CREATED);
+            // Sales are immutable, so a replay renders the same response as the original request
+            var saleResource = SaleResourceFromViewAssembler.toResourceFromView(sale.get());
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .header(IDEMPOTENT_REPLAYED_HEADER, Boolean.toString(replayed))
+                    .body(saleResource);
+        } catch (IdempotencyKeyReusedException ex) {
+            return ResponseEntity.unprocessableEntity()
+                    .body(new ErrorResponse(ex.getMessage()));
         } catch (IllegalArgumentException ex) {
-            // Log the error for debugging
-            System.err.println("Error creating sale: " + ex.getMessage());
-            ex.printStackTrace();
+            LOGGER.warn("Error creating sale: {}", ex.getMessage(), ex);
             return ResponseEntity.badRequest()
                     .body(new ErrorResponse(ex.getMessage()));
         } catch (Exception ex) {
-            // Log unexpected errors
-            System.err.println("Unexpected error creating sale: " + ex.getMessage());
-            ex.printStackTrace();
+            LOGGER.error("Unexpected error creating sale", ex);
             return ResponseEntity.badRequest()
                     .body(new ErrorResponse("Unexpected error: " + ex.getMessage()));
         }
     }
 
+    @PostMapping(value = "/bulk", consumes = {"application/x-ndjson", APPLICATION_JSON_VALUE}, produces = MediaType.ALL_VALUE)
+    @Operation(summary = "Ingest sales in bulk",
+            description = "Creates the sales of an NDJSON body, one sale per line, as sent when an offline point of " +
+                    "sale syncs. Lines are committed in groups of sales.ingestion.batch-size; each line is created or " +
+                    "rejected on its own and the outcome of every line is streamed back as NDJSON. A line may carry " +
+                    "the createdAt the sale was registered at and an idempotencyKey; a retried line with the same " +
+                    "key and body is replayed instead of sold again. Reservations are not accepted in bulk")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-line results streamed"),
+    })
+    public ResponseEntity<StreamingResponseBody> ingestSales(InputStream requestBody) {
+        // Lines are read, created and answered group by group, so neither side is held in memory
+        StreamingResponseBody body = outputStream -> {
+            var reader = new BufferedReader(new InputStreamReader(requestBody, StandardCharsets.UTF_8));
+            var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+            List<Long> lineNumbers = new ArrayList<>(ingestionBatchSize);
+            List<String> lines = new ArrayList<>(ingestionBatchSize);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                lineNumbers.add(lineNumber);
+                lines.add(line);
+                if (lines.size() == ingestionBatchSize) {
+                    ingest(lineNumbers, lines, writer);
+                    lineNumbers.clear();
+                    lines.clear();
+                }
+            }
+            if (!lines.isEmpty()) {
+                ingest(lineNumbers, lines, writer);
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
+    }
+
     @GetMapping({"/{id}"})
     @Operation(summary = "Get a sale by id", description = "Retrieves a sale by its ID")
     @ApiResponses(value = {
@@ -86,25 +197,187 @@ public class SalesController {
         if (sale.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
-        var saleEntity = sale.get();
-        var saleResource = SaleResourceFromEntityAssembler.toResourceFromEntity(saleEntity);
+        var saleResource = SaleResourceFromViewAssembler.toResourceFromView(sale.get());
         return ResponseEntity.ok(saleResource);
     }
 
 
     @CrossOrigin(origins = "*")
     @GetMapping
-    @Operation(summary = "Get all sales", description = "Retrieves all sales")
+    @Operation(summary = "Get sales",
+            description = "Retrieves a page of sales, newest first, optionally filtered by date range (from inclusive, " +
+                    "to exclusive), staff user and minimum total. Pass the nextCursor of a page to get the next one")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Sale retrieved successfully"),
-            @ApiResponse(responseCode = "404", description = "Sale not found"),
+            @ApiResponse(responseCode = "200", description = "Sales retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid filters or cursor"),
+    })
+    public ResponseEntity<?> getSales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long staffUserId,
+            @RequestParam(required = false) Double minTotal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            var after = cursor != null && !cursor.isBlank() ? SaleCursor.decode(cursor) : null;
+            var query = new GetSalesPageQuery(from, to, staffUserId, minTotal, after, limit);
+            var page = salesQueryService.handle(query);
+            return ResponseEntity.ok(SaleResourceFromViewAssembler.toPageResource(page, limit));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(ex.getMessage()));
+        }
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.ALL_VALUE)
+    @Operation(summary = "Export sales",
+            description = "Streams the sales created in a date range (from inclusive, to exclusive) as CSV, " +
+                    "one row per sale line, or as NDJSON, one sale per line. Omit the dates to export everything")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sales export streamed"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range or format"),
     })
-    public ResponseEntity<List<SaleResource>> getAllSales() {
-        var sales = salesQueryService.handle(new GetAllSalesQuery());
-        var saleResources = sales.stream()
-                .map(SaleResourceFromEntityAssembler::toResourceFromEntity)
-                .toList();
-        return ResponseEntity.ok(saleResources);
+    public ResponseEntity<?> exportSales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportSalesQuery query;
+        try {
+            query = new ExportSalesQuery(from, to);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(ex.getMessage()));
+        }
+        String extension = format.toLowerCase(Locale.ROOT);
+        MediaType contentType = switch (extension) {
+            case "csv" -> TEXT_CSV;
+            case "ndjson" -> APPLICATION_NDJSON;
+            default -> null;
+        };
+        if (contentType == null) {
+            return ResponseEntity.badRequest().body(new ErrorResponse("format must be csv or ndjson"));
+        }
+
+        // Rows go from the database cursor to the response as they are read
+        StreamingResponseBody body = outputStream -> {
+            var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+            var exportWriter = contentType == TEXT_CSV
+                    ? SaleExportWriter.csv(writer)
+                    : SaleExportWriter.ndjson(writer, objectMapper);
+            salesQueryService.handle(query, exportWriter);
+            exportWriter.finish();
+        };
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("sales." + extension).build().toString())
+                .body(body);
     }
-}
 
+    @PostMapping("/daily-rollups/backfill")
+    @Operation(summary = "Backfill daily sales rollups",
+            description = "Rebuilds the daily sales rollups of a date range (from inclusive, to exclusive) " +
+                    "from the sales tables. Safe to run repeatedly; omit both dates to rebuild everything")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rollups rebuilt"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range"),
+    })
+    public ResponseEntity<?> backfillDailyRollups(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            var command = new BackfillSalesDailyRollupsCommand(from, to);
+            long processedSaleLines = salesDailyRollupCommandService.handle(command);
+            return ResponseEntity.ok(new SalesDailyRollupBackfillResource(from, to, processedSaleLines));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(new ErrorResponse(ex.getMessage()));
+        }
+    }
+
+    /**
+     * Creates one group of bulk lines in a single transaction and writes the outcome of each line.
+     * Lines that cannot be parsed or converted are rejected without reaching the command service;
+     * if the whole group fails, e.g. because a retry of it is running elsewhere, all its remaining
+     * lines are rejected and may be sent again.
+     */
+    private void ingest(List<Long> lineNumbers, List<String> lines, BufferedWriter writer) throws IOException {
+        var results = new SaleIngestionResultResource[lines.size()];
+        var ingestedResources = new ArrayList<IngestedSaleResource>(lines.size());
+        var resources = new ArrayList<CreateSaleResource>(lines.size());
+        var positions = new ArrayList<Integer>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            try {
+                var ingestedResource = objectMapper.readValue(lines.get(i), IngestedSaleResource.class);
+                resources.add(ingestedResource.toCreateSaleResource());
+                ingestedResources.add(ingestedResource);
+                positions.add(i);
+            } catch (JsonProcessingException ex) {
+                results[i] = SaleIngestionResultResource.rejected(lineNumbers.get(i),
+                        ex.getCause() instanceof IllegalArgumentException cause
+                                ? cause.getMessage()
+                                : "Invalid JSON: " + ex.getOriginalMessage());
+            } catch (IllegalArgumentException ex) {
+                results[i] = SaleIngestionResultResource.rejected(lineNumbers.get(i), ex.getMessage());
+            }
+        }
+
+        var sales = new ArrayList<IngestedSale>(resources.size());
+        var salePositions = new ArrayList<Integer>(resources.size());
+        try {
+            var products = CreateSaleCommandFromResourceAssembler.productSnapshotsOf(resources);
+            for (int i = 0; i < resources.size(); i++) {
+                int position = positions.get(i);
+                var ingestedResource = ingestedResources.get(i);
+                try {
+                    var command = CreateSaleCommandFromResourceAssembler.toCommandFromResource(resources.get(i), products);
+                    sales.add(new IngestedSale(command, ingestedResource.createdAt(), ingestedResource.idempotencyKey(),
+                            ingestedResource.idempotencyKey() != null ? fingerprint(ingestedResource) : null));
+                    salePositions.add(position);
+                } catch (IllegalArgumentException ex) {
+                    results[position] = SaleIngestionResultResource.rejected(lineNumbers.get(position), ex.getMessage());
+                }
+            }
+            if (!sales.isEmpty()) {
+                var outcomes = salesCommandService.handle(new IngestSalesCommand(sales));
+                for (int i = 0; i < outcomes.size(); i++) {
+                    int position = salePositions.get(i);
+                    var outcome = outcomes.get(i);
+                    long lineNumber = lineNumbers.get(position);
+                    results[position] = !outcome.isCreated()
+                            ? SaleIngestionResultResource.rejected(lineNumber, outcome.error())
+                            : outcome.replayed()
+                                    ? SaleIngestionResultResource.replayed(lineNumber, outcome.saleId())
+                                    : SaleIngestionResultResource.created(lineNumber, outcome.saleId());
+                }
+            }
+        } catch (RuntimeException ex) {
+            LOGGER.error("Error ingesting sales from line {} to {}",
+                    lineNumbers.get(0), lineNumbers.get(lineNumbers.size() - 1), ex);
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == null) {
+                    results[i] = SaleIngestionResultResource.rejected(lineNumbers.get(i),
+                            "The sale could not be processed; send it again");
+                }
+            }
+        }
+
+        for (var result : results) {
+            writer.write(objectMapper.writeValueAsString(result));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * SHA-256 of the request body as serialized by the object mapper, so equivalent JSON bodies
+     * with different spacing or field order share a fingerprint.
+     */
+    private String fingerprint(Object resource) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(resource)));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -7,7 +7,8 @@ import java.util.List;
 public record CreateSaleResource(
         @JsonProperty("staffUserId") long staffUserId,
         @JsonProperty("products") List<ProductSaleItemResource> products,
-        @JsonProperty("kits") List<KitSaleItemResource> kits) {
+        @JsonProperty("kits") List<KitSaleItemResource> kits,
+        @JsonProperty("reservationId") Long reservationId) {
     
     public CreateSaleResource {
         if (staffUserId <= 0) {
@@ -0,0 +1,26 @@
+package com.inventiapp.stocktrack.sales.interfaces.rest.resources;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * One line of a bulk sale ingestion: a sale as for a single sale request, plus the fields that let
+ * an offline point of sale replay it.
+ *
+ * @param idempotencyKey key chosen by the point of sale for this sale, the same on every retry (optional)
+ * @param createdAt      when the sale was registered; the ingestion time when omitted
+ */
+public record IngestedSaleResource(
+        @JsonProperty("staffUserId") long staffUserId,
+        @JsonProperty("products") List<ProductSaleItemResource> products,
+        @JsonProperty("kits") List<KitSaleItemResource> kits,
+        @JsonProperty("reservationId") Long reservationId,
+        @JsonProperty("idempotencyKey") String idempotencyKey,
+        @JsonProperty("createdAt") Date createdAt) {
+
+    public CreateSaleResource toCreateSaleResource() {
+        return new CreateSaleResource(staffUserId, products, kits, reservationId);
+    }
+}
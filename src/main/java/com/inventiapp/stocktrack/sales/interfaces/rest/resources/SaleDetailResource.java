@@ -5,5 +5,8 @@ public record SaleDetailResource(
     Long productId,
     int quantity,
     double unitPrice,
-    double totalPrice
-) {}
\ No newline at end of file
+    double totalPrice,
+    String productName,
+    Long kitId,
+    String kitName
+) {}
@@ -0,0 +1,24 @@
+package com.inventiapp.stocktrack.sales.interfaces.rest.resources;
+
+/**
+ * Outcome of one line of a bulk sale ingestion.
+ *
+ * @param line   the line number in the request body, starting at 1
+ * @param status CREATED, REPLAYED when its idempotency key had already created the sale, or REJECTED
+ * @param saleId id of the created or replayed sale, or null if the line was rejected
+ * @param error  why the line was rejected, or null if the sale was created
+ */
+public record SaleIngestionResultResource(long line, String status, Long saleId, String error) {
+
+    public static SaleIngestionResultResource created(long line, Long saleId) {
+        return new SaleIngestionResultResource(line, "CREATED", saleId, null);
+    }
+
+    public static SaleIngestionResultResource replayed(long line, Long saleId) {
+        return new SaleIngestionResultResource(line, "REPLAYED", saleId, null);
+    }
+
+    public static SaleIngestionResultResource rejected(long line, String error) {
+        return new SaleIngestionResultResource(line, "REJECTED", null, error);
+    }
+}
@@ -0,0 +1,13 @@
+package com.inventiapp.stocktrack.sales.interfaces.rest.resources;
+
+import java.util.List;
+
+/**
+ * One page of the sales listing, newest first.
+ *
+ * @param content    the sales of the page
+ * @param nextCursor cursor to pass to get the next page, or null if this is the last page
+ * @param limit      the requested page size
+ */
+public record SalePageResource(List<SaleResource> content, String nextCursor, int limit) {
+}
@@ -0,0 +1,6 @@
+package com.inventiapp.stocktrack.sales.interfaces.rest.resources;
+
+import java.time.LocalDate;
+
+public record SalesDailyRollupBackfillResource(LocalDate from, LocalDate to, long processedSaleLines) {
+}
@@ -1,12 +1,16 @@
 package com.inventiapp.stocktrack.sales.interfaces.rest.transform;
 
+import com.inventiapp.stocktrack.inventory.interfaces.acl.KitSnapshot;
+import com.inventiapp.stocktrack.inventory.interfaces.acl.ProductSnapshot;
 import com.inventiapp.stocktrack.sales.application.outboundservices.acl.ExternalInventoryService;
 import com.inventiapp.stocktrack.sales.domain.model.commands.CreateSaleCommand;
 import com.inventiapp.stocktrack.sales.domain.model.commands.SaleDetailItem;
 import com.inventiapp.stocktrack.sales.interfaces.rest.resources.CreateSaleResource;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 
 @Component
@@ -22,21 +26,48 @@ public class CreateSaleCommandFromResourceAssembler {
         if (resource == null) {
             throw new IllegalArgumentException("resource cannot be null");
         }
+        return toCommandFromResource(resource, productSnapshotsOf(List.of(resource)));
+    }
+
+    /**
+     * Loads, in a single query, the products sold on their own by several sales.
+     * @param resources The sales
+     * @return The snapshots of the existing products, keyed by product id
+     */
+    public static Map<Long, ProductSnapshot> productSnapshotsOf(Collection<CreateSaleResource> resources) {
+        return inventoryService.getProductSnapshots(resources.stream()
+                .filter(resource -> resource.products() != null)
+                .flatMap(resource -> resource.products().stream())
+                .map(productItem -> productItem.productId())
+                .distinct()
+                .toList());
+    }
+
+    /**
+     * Converts a sale whose products were already loaded, e.g. one of many loaded with productSnapshotsOf.
+     * @param resource The sale
+     * @param products The snapshots of its products, keyed by product id
+     */
+    public static CreateSaleCommand toCommandFromResource(CreateSaleResource resource, Map<Long, ProductSnapshot> products) {
+        if (resource == null) {
+            throw new IllegalArgumentException("resource cannot be null");
+        }
 
         List<SaleDetailItem> details = new java.util.ArrayList<>();
 
-        // Process products
+        // Process products from the loaded snapshots
         if (resource.products() != null) {
             for (var productItem : resource.products()) {
                 Long productId = productItem.productId();
+                ProductSnapshot product = products.get(productId);
                 
                 // Validate product exists
-                if (!inventoryService.checkProductExists(productId)) {
+                if (product == null) {
                     throw new IllegalArgumentException("Producto no encontrado: " + productId);
                 }
                 
                 // Get product unit price
-                Double unitPrice = inventoryService.getProductUnitPrice(productId);
+                Double unitPrice = product.unitPrice();
                 if (unitPrice == null) {
                     throw new IllegalArgumentException("Producto sin precio: " + productId);
                 }
@@ -45,51 +76,32 @@ public class CreateSaleCommandFromResourceAssembler {
             }
         }
 
-        // Process kits
+        // Process kits, each loaded once as a snapshot with its items
         if (resource.kits() != null) {
             for (var kitItem : resource.kits()) {
                 Long kitId = kitItem.kitId();
                 
                 // Validate kit exists
-                if (!inventoryService.checkKitExists(kitId)) {
-                    throw new IllegalArgumentException("Kit no encontrado: " + kitId);
-                }
-                
-                // Get kit total price
-                Double kitTotalPrice = inventoryService.getKitTotalPrice(kitId);
-                if (kitTotalPrice == null) {
-                    throw new IllegalArgumentException("Kit no encontrado o sin precio: " + kitId);
-                }
+                KitSnapshot kit = inventoryService.getKitSnapshot(kitId)
+                        .orElseThrow(() -> new IllegalArgumentException("Kit no encontrado: " + kitId));
                 
-                // Get all products, quantities and prices from the kit
-                List<Object[]> kitItems = inventoryService.getKitProductIdsQuantitiesAndPrices(kitId);
-                if (kitItems.isEmpty()) {
+                if (kit.items().isEmpty()) {
                     throw new IllegalArgumentException("Kit vacío: " + kitId);
                 }
                 
                 // For each product in the kit, create a SaleDetailItem
                 // The price in the kit is already the unit price per product
                 // The quantity for sale is: (item quantity in kit * kit quantity sold)
-                for (Object[] item : kitItems) {
-                    Long productId = (Long) item[0];
-                    Integer itemQuantity = (Integer) item[1];
-                    Double itemPrice = (Double) item[2];
-                    
+                for (KitSnapshot.Item item : kit.items()) {
                     // Validate itemQuantity
-                    if (itemQuantity == null || itemQuantity <= 0) {
-                        throw new IllegalArgumentException("Kit item con cantidad inválida para producto " + productId + " en kit " + kitId);
+                    if (item.quantity() <= 0) {
+                        throw new IllegalArgumentException("Kit item con cantidad inválida para producto " + item.productId() + " en kit " + kitId);
                     }
                     
-                    // The price in the kit is already the unit price (not total)
-                    // Example: if product 4 has quantity 2 and price 3, then:
-                    // - Unit price = 3 (already unitario)
-                    // - Total for 2 units = 2 * 3 = 6
-                    double unitPrice = itemPrice;
-                    
                     // Total quantity to sell: item quantity in kit * number of kits sold
-                    int totalQuantity = itemQuantity * kitItem.quantity();
+                    int totalQuantity = item.quantity() * kitItem.quantity();
                     
-                    details.add(new SaleDetailItem(productId, totalQuantity, unitPrice));
+                    details.add(new SaleDetailItem(item.productId(), totalQuantity, item.unitPrice(), kit.kitId()));
                 }
             }
         }
@@ -98,6 +110,6 @@ public class CreateSaleCommandFromResourceAssembler {
                 .mapToDouble(i -> i.unitPrice() * i.quantity())
                 .sum();
 
-        return new CreateSaleCommand(resource.staffUserId(), total, details);
+        return new CreateSaleCommand(resource.staffUserId(), total, details, resource.reservationId());
     }
 }
\ No newline at end of file
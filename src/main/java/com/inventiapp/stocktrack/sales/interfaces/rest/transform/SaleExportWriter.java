@@ -0,0 +1,138 @@
+package com.inventiapp.stocktrack.sales.interfaces.rest.transform;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleExportLine;
+import com.inventiapp.stocktrack.sales.interfaces.rest.resources.SaleDetailResource;
+import com.inventiapp.stocktrack.sales.interfaces.rest.resources.SaleResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Writes exported sale lines to a response as they are read, flushing every {@value #FLUSH_EVERY_LINES}
+ * lines so the client receives the export in chunks. At most the lines of one sale are held in memory.
+ */
+public abstract class SaleExportWriter implements Consumer<SaleExportLine> {
+
+    private static final int FLUSH_EVERY_LINES = 1_000;
+
+    protected final Writer writer;
+    private int unflushedLines;
+
+    protected SaleExportWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * CSV with a header and one row per sale line.
+     */
+    public static SaleExportWriter csv(Writer writer) {
+        return new CsvWriter(writer);
+    }
+
+    /**
+     * Newline-delimited JSON with one sale, including its details, per line.
+     */
+    public static SaleExportWriter ndjson(Writer writer, ObjectMapper objectMapper) {
+        return new NdjsonWriter(writer, objectMapper);
+    }
+
+    @Override
+    public void accept(SaleExportLine line) {
+        try {
+            write(line);
+            if (++unflushedLines >= FLUSH_EVERY_LINES) {
+                writer.flush();
+                unflushedLines = 0;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes whatever is pending and flushes the response.
+     */
+    public void finish() throws IOException {
+        writePending();
+        writer.flush();
+    }
+
+    protected abstract void write(SaleExportLine line) throws IOException;
+
+    protected void writePending() throws IOException {
+    }
+
+    private static final class CsvWriter extends SaleExportWriter {
+
+        private CsvWriter(Writer writer) {
+            super(writer);
+            try {
+                writer.write("sale_id,created_at,staff_user_id,sale_total_amount,"
+                        + "sale_detail_id,product_id,quantity,unit_price,total_price\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        protected void write(SaleExportLine line) throws IOException {
+            writer.write(line.saleId() + ","
+                    + line.createdAt().toInstant() + ","
+                    + line.staffUserId() + ","
+                    + decimal(line.saleTotalAmount()) + ","
+                    + line.saleDetailId() + ","
+                    + line.productId() + ","
+                    + line.quantity() + ","
+                    + decimal(line.unitPrice()) + ","
+                    + decimal(line.totalPrice()) + "\n");
+        }
+
+        private static String decimal(double value) {
+            return BigDecimal.valueOf(value).toPlainString();
+        }
+    }
+
+    private static final class NdjsonWriter extends SaleExportWriter {
+
+        private final ObjectWriter objectWriter;
+        private final List<SaleDetailResource> details = new ArrayList<>();
+        private SaleExportLine saleLine;
+
+        private NdjsonWriter(Writer writer, ObjectMapper objectMapper) {
+            super(writer);
+            this.objectWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        protected void write(SaleExportLine line) throws IOException {
+            if (saleLine != null && !saleLine.saleId().equals(line.saleId())) {
+                writePending();
+            }
+            saleLine = line;
+            details.add(new SaleDetailResource(
+                    line.saleDetailId(), line.productId(), line.quantity(), line.unitPrice(), line.totalPrice(),
+                    line.productName(), line.kitId(), line.kitName()));
+        }
+
+        @Override
+        protected void writePending() throws IOException {
+            if (saleLine == null) {
+                return;
+            }
+            objectWriter.writeValue(writer, new SaleResource(
+                    saleLine.saleId(), saleLine.saleTotalAmount(), saleLine.createdAt(), List.copyOf(details),
+                    saleLine.staffUserId()));
+            writer.write('\n');
+            details.clear();
+            saleLine = null;
+        }
+    }
+}
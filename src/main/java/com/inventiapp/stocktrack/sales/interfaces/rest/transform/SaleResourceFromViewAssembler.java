@@ -0,0 +1,40 @@
+package com.inventiapp.stocktrack.sales.interfaces.rest.transform;
+
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SaleView;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.SalesPage;
+import com.inventiapp.stocktrack.sales.interfaces.rest.resources.SaleDetailResource;
+import com.inventiapp.stocktrack.sales.interfaces.rest.resources.SalePageResource;
+import com.inventiapp.stocktrack.sales.interfaces.rest.resources.SaleResource;
+
+public class SaleResourceFromViewAssembler {
+
+    public static SaleResource toResourceFromView(SaleView view) {
+        var detailsResource = view.lines().stream()
+                .map(line -> new SaleDetailResource(
+                        line.saleDetailId(),
+                        line.productId(),
+                        line.quantity(),
+                        line.unitPrice(),
+                        line.totalPrice(),
+                        line.productName(),
+                        line.kitId(),
+                        line.kitName()
+                )).toList();
+
+        return new SaleResource(
+                view.saleId(),
+                view.totalAmount(),
+                view.createdAt(),
+                detailsResource,
+                view.staffUserId()
+        );
+    }
+
+    public static SalePageResource toPageResource(SalesPage page, int limit) {
+        return new SalePageResource(
+                page.sales().stream().map(SaleResourceFromViewAssembler::toResourceFromView).toList(),
+                page.nextCursor() != null ? page.nextCursor().encode() : null,
+                limit
+        );
+    }
+}
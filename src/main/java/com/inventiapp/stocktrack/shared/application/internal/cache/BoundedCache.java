@@ -0,0 +1,189 @@
+package com.inventiapp.stocktrack.shared.application.internal.cache;
+
+import com.inventiapp.stocktrack.shared.domain.model.valueobjects.CacheStatistics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Read-through cache with a maximum size and a time to live.
+ * @summary
+ * Entries are kept in access order and the least recently used one is evicted when the cache is
+ * full; an entry older than the time to live is dropped on its next read and loaded again. Values
+ * the loader does not find are not cached, so a key that does not exist yet is looked up every time.
+ * <p>
+ * Loads run outside the lock, so a slow load never blocks readers of other keys. A load that
+ * overlaps an invalidation is returned but not stored, so a value read before a change committed
+ * cannot be cached after the change evicted it. This holds only if the loader reads the latest
+ * committed data, e.g. in a transaction of its own: a loader running in a caller's older snapshot
+ * can read a value already changed and store it. A cache built with a maximum size of 0 is disabled:
+ * every read loads and only the misses are counted.
+ * @param <K> key type
+ * @param <V> value type; values must be immutable, since every reader gets the same instance
+ * @since 1.0
+ */
+public class BoundedCache<K, V> {
+
+    private final String name;
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    /** Incremented by every invalidation; a load only stores its values if it did not change meanwhile. */
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * @param name        name reported in the statistics
+     * @param maximumSize most entries to hold; 0 disables the cache
+     * @param ttl         how long an entry is served after it was loaded
+     */
+    public BoundedCache(String name, int maximumSize, Duration ttl) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize cannot be negative");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the value of a key, loading it on a miss.
+     * @param key    the key
+     * @param loader loads the value of the key; returns null if there is none
+     * @return the value, or null if the loader found none
+     */
+    public V get(K key, Function<K, V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            V cached = cached(key, System.nanoTime());
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            misses.increment();
+            loadGeneration = generation;
+        }
+        V loaded = loader.apply(key);
+        if (loaded != null && maximumSize > 0) {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    entries.put(key, new Entry<>(loaded, System.nanoTime() + ttlNanos));
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Gets the values of several keys, loading all the missing ones with a single call.
+     * @param keys   the keys
+     * @param loader loads the values of the given keys; keys without a value are left out
+     * @return the values found, keyed by key
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        Map<K, V> found = new HashMap<>();
+        Set<K> missing = new LinkedHashSet<>();
+        long loadGeneration;
+        synchronized (this) {
+            long now = System.nanoTime();
+            for (K key : keys) {
+                if (found.containsKey(key) || missing.contains(key)) continue;
+                V cached = cached(key, now);
+                if (cached != null) {
+                    found.put(key, cached);
+                } else {
+                    missing.add(key);
+                }
+            }
+            hits.add(found.size());
+            misses.add(missing.size());
+            loadGeneration = generation;
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+        Map<K, V> loaded = loader.apply(missing);
+        found.putAll(loaded);
+        if (!loaded.isEmpty() && maximumSize > 0) {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    long expiresAt = System.nanoTime() + ttlNanos;
+                    loaded.forEach((key, value) -> entries.put(key, new Entry<>(value, expiresAt)));
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Drops the value of a key, and keeps a load that started before from storing a stale value.
+     * @param key the key
+     */
+    public synchronized void invalidate(K key) {
+        generation++;
+        if (entries.remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * Drops every value.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations.add(entries.size());
+        entries.clear();
+    }
+
+    public CacheStatistics statistics() {
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return new CacheStatistics(name, maximumSize > 0, size, maximumSize, hits.sum(), misses.sum(),
+                evictions.sum(), expirations.sum(), invalidations.sum());
+    }
+
+    /**
+     * Must be called holding the lock. Reading an entry moves it to the most recently used end.
+     */
+    private V cached(K key, long now) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (now - entry.expiresAt >= 0) {
+            entries.remove(key);
+            expirations.increment();
+            return null;
+        }
+        return entry.value;
+    }
+
+    private record Entry<V>(V value, long expiresAt) {}
+}
@@ -0,0 +1,265 @@
+package com.inventiapp.stocktrack.shared.application.internal.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventiapp.stocktrack.shared.domain.model.entities.OutboxEvent;
+import com.inventiapp.stocktrack.shared.domain.model.valueobjects.OutboxMessage;
+import com.inventiapp.stocktrack.shared.domain.services.OutboxMessageHandler;
+import com.inventiapp.stocktrack.shared.infrastructure.persistence.jpa.repositories.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the transactional outbox and delivers the events to the outbox message handlers.
+ * @summary
+ * A loop on a virtual thread claims the oldest due events in batches. The claim is a short
+ * transaction that locks the due rows, skipping those another instance is claiming, and moves
+ * their next attempt to the end of a lease; the events are then delivered with no transaction or
+ * connection held, and their outcome is recorded in a second short transaction. A dispatcher that
+ * dies mid-batch leaves its events to be claimed again when the lease runs out, and an outcome is
+ * only recorded for events still under this dispatcher's lease, so delivery is at least once.
+ * <p>
+ * Each handler gets its messages on its own virtual thread, in outbox order; a handler that fails
+ * on a message skips the rest of the batch. An event is marked dispatched once every subscribed
+ * handler has accepted it, otherwise it is retried after a delay that doubles with each attempt.
+ * Events no handler subscribes to are marked dispatched as they are. The loop sleeps for the poll
+ * interval when the outbox is drained, or until a commit wakes it up.
+ * @since 1.0
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectProvider<OutboxMessageHandler> handlers;
+    private final OutboxMetrics outboxMetrics;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transaction;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration retention;
+
+    private final Semaphore wakeUps = new Semaphore(0);
+    private volatile boolean running;
+    private Thread loop;
+    private ExecutorService handlerExecutor;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            ObjectProvider<OutboxMessageHandler> handlers,
+                            OutboxMetrics outboxMetrics,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${outbox.dispatcher.enabled:true}") boolean enabled,
+                            @Value("${outbox.dispatcher.batch-size:100}") int batchSize,
+                            @Value("${outbox.dispatcher.poll-interval:PT1S}") Duration pollInterval,
+                            @Value("${outbox.dispatcher.max-backoff:PT15M}") Duration maxBackoff,
+                            @Value("${outbox.dispatcher.lease:PT5M}") Duration lease,
+                            @Value("${outbox.retention:P7D}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers;
+        this.outboxMetrics = outboxMetrics;
+        this.objectMapper = objectMapper;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.retention = retention;
+    }
+
+    /**
+     * Starts the dispatch loop once the application is ready.
+     * @param event The application ready event
+     */
+    @EventListener
+    public synchronized void on(ApplicationReadyEvent event) {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        handlerExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        loop = Thread.ofVirtual().name("outbox-dispatcher").start(this::run);
+    }
+
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        loop.interrupt();
+        loop.join(TimeUnit.SECONDS.toMillis(10));
+        handlerExecutor.shutdownNow();
+    }
+
+    /**
+     * Makes the loop look for due events now instead of at the end of the poll interval.
+     */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    /**
+     * Purges the events dispatched longer than the retention period ago.
+     */
+    @Scheduled(fixedDelayString = "${outbox.purge-interval:PT1H}", initialDelayString = "${outbox.purge-interval:PT1H}")
+    public void purgeDispatched() {
+        transaction.executeWithoutResult(status ->
+                outboxEventRepository.deleteDispatchedBefore(Date.from(Instant.now().minus(retention))));
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                int claimed = dispatchBatch();
+                if (claimed < batchSize) {
+                    wakeUps.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    wakeUps.drainPermits();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                LOGGER.warn("Outbox dispatch failed, retrying in {}", pollInterval, ex);
+                try {
+                    Thread.sleep(pollInterval);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Claims one batch of due events, delivers it and records the outcome.
+     * @return the number of events claimed
+     */
+    private int dispatchBatch() {
+        Date leaseUntil = Date.from(Instant.now().plus(lease));
+        List<OutboxEvent> events = transaction.execute(status -> {
+            List<OutboxEvent> due = outboxEventRepository.findDueForUpdate(new Date(), PageRequest.of(0, batchSize));
+            due.forEach(event -> event.claim(leaseUntil));
+            return due;
+        });
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, String> failures = new ConcurrentHashMap<>();
+        List<OutboxMessage> messages = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            try {
+                messages.add(new OutboxMessage(event.getId(), event.getEventType(),
+                        objectMapper.readTree(event.getPayload()), event.getOccurredAt()));
+            } catch (JsonProcessingException ex) {
+                failures.put(event.getId(), "Unreadable payload: " + ex.getOriginalMessage());
+            }
+        }
+        deliver(messages, failures);
+
+        transaction.executeWithoutResult(status -> {
+            Date dispatchedAt = new Date();
+            long lagMillis = 0;
+            int dispatched = 0;
+            int failed = 0;
+            for (OutboxEvent event : outboxEventRepository.findAllById(events.stream().map(OutboxEvent::getId).toList())) {
+                if (!event.isClaimedUntil(leaseUntil)) {
+                    // The lease ran out during delivery and another dispatcher claimed the event
+                    continue;
+                }
+                String error = failures.get(event.getId());
+                if (error == null) {
+                    event.markDispatched(dispatchedAt);
+                    lagMillis = Math.max(lagMillis, dispatchedAt.getTime() - event.getOccurredAt().getTime());
+                    dispatched++;
+                } else {
+                    event.markFailed(error, Date.from(dispatchedAt.toInstant().plus(backoff(event.getAttempts()))));
+                    failed++;
+                }
+            }
+            outboxMetrics.recordDispatched(dispatched, lagMillis);
+            outboxMetrics.recordFailed(failed);
+        });
+        return events.size();
+    }
+
+    private void deliver(List<OutboxMessage> messages, Map<Long, String> failures) {
+        List<Future<?>> deliveries = new ArrayList<>();
+        handlers.orderedStream().forEach(handler -> {
+            List<OutboxMessage> subscribed = messages.stream()
+                    .filter(message -> handler.eventTypes().contains(message.eventType()))
+                    .toList();
+            if (!subscribed.isEmpty()) {
+                deliveries.add(handlerExecutor.submit(() -> deliver(handler, subscribed, failures)));
+            }
+        });
+        for (Future<?> delivery : deliveries) {
+            try {
+                delivery.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while delivering outbox events", ex);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("Outbox delivery failed", ex.getCause());
+            }
+        }
+    }
+
+    private void deliver(OutboxMessageHandler handler, List<OutboxMessage> messages, Map<Long, String> failures) {
+        for (OutboxMessage message : messages) {
+            if (failures.containsKey(message.id())) {
+                // Already failed for another handler and will be delivered to every handler again
+                continue;
+            }
+            try {
+                handler.handle(message);
+            } catch (RuntimeException ex) {
+                LOGGER.warn("Outbox handler {} failed on {} {}",
+                        handler.getClass().getSimpleName(), message.eventType(), message.id(), ex);
+                failures.putIfAbsent(message.id(), handler.getClass().getSimpleName() + ": " + ex.getMessage());
+                // Later messages of the batch are kept for the retry, so this handler sees them in order
+                int failedAt = messages.indexOf(message);
+                messages.subList(failedAt + 1, messages.size()).forEach(skipped ->
+                        failures.putIfAbsent(skipped.id(), handler.getClass().getSimpleName() + ": skipped after an earlier failure"));
+                return;
+            }
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = pollInterval.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
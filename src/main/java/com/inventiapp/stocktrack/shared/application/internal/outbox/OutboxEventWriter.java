@@ -0,0 +1,88 @@
+package com.inventiapp.stocktrack.shared.application.internal.outbox;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventiapp.stocktrack.shared.domain.model.entities.OutboxEvent;
+import com.inventiapp.stocktrack.shared.domain.model.events.DomainEvent;
+import com.inventiapp.stocktrack.shared.infrastructure.persistence.jpa.repositories.OutboxEventRepository;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+
+/**
+ * Records every domain event in the transactional outbox.
+ * @summary
+ * Listens synchronously, so an event published inside a transaction is recorded in that same
+ * transaction and is rolled back with it. An event published outside one, or after a transaction
+ * has completed, as the crossings published from after-commit listeners are, is recorded in a new
+ * transaction of its own: the completed transaction is still bound to the thread but will never
+ * flush again. Once the record commits the dispatcher is woken up, so delivery does not wait for
+ * the next poll.
+ * @since 1.0
+ */
+@Component
+public class OutboxEventWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxDispatcher outboxDispatcher;
+    private final ObjectMapper payloadMapper;
+    private final TransactionTemplate newTransaction;
+
+    public OutboxEventWriter(OutboxEventRepository outboxEventRepository,
+                             OutboxDispatcher outboxDispatcher,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxDispatcher = outboxDispatcher;
+        this.payloadMapper = objectMapper.copy().addMixIn(ApplicationEvent.class, EventPayloadMixin.class);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener
+    public void on(DomainEvent event) {
+        Date occurredAt = event instanceof ApplicationEvent applicationEvent
+                ? new Date(applicationEvent.getTimestamp())
+                : new Date();
+        var outboxEvent = new OutboxEvent(event.getClass().getSimpleName(), toPayload(event), occurredAt);
+
+        // Synchronization is cleared while a transaction runs its after-completion callbacks
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            newTransaction.executeWithoutResult(status -> outboxEventRepository.save(outboxEvent));
+            outboxDispatcher.wakeUp();
+            return;
+        }
+
+        outboxEventRepository.save(outboxEvent);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxDispatcher.wakeUp();
+            }
+        });
+    }
+
+    private String toPayload(DomainEvent event) {
+        try {
+            return payloadMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize " + event.getClass().getSimpleName(), ex);
+        }
+    }
+
+    /**
+     * Keeps the aggregate that published the event and the publication time out of the payload.
+     */
+    @JsonIgnoreProperties({"source", "timestamp"})
+    private abstract static class EventPayloadMixin {
+    }
+}
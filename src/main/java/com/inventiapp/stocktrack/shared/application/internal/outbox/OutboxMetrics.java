@@ -0,0 +1,96 @@
+package com.inventiapp.stocktrack.shared.application.internal.outbox;
+
+import com.inventiapp.stocktrack.shared.domain.model.valueobjects.OutboxStatistics;
+import com.inventiapp.stocktrack.shared.infrastructure.persistence.jpa.repositories.OutboxEventRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Delivery counters of the outbox dispatcher of this instance.
+ * @summary
+ * Keeps the totals of dispatched and failed deliveries, the lag of the last dispatched batch and
+ * the number of events dispatched in each of the last 60 seconds, from which the throughput is derived.
+ * The backlog and the age of the oldest pending event are read from the outbox table.
+ * @since 1.0
+ */
+@Component
+public class OutboxMetrics {
+
+    private static final int WINDOW_SECONDS = 60;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final long[] bucketCounts = new long[WINDOW_SECONDS];
+    private final long[] bucketSeconds = new long[WINDOW_SECONDS];
+    private volatile long lastDispatchLagMillis;
+
+    public OutboxMetrics(OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+    }
+
+    /**
+     * @param count     number of events dispatched
+     * @param lagMillis the longest time one of them waited between being published and being dispatched
+     */
+    public void recordDispatched(int count, long lagMillis) {
+        dispatched.add(count);
+        lastDispatchLagMillis = lagMillis;
+        long second = System.currentTimeMillis() / 1000;
+        int bucket = (int) (second % WINDOW_SECONDS);
+        synchronized (bucketCounts) {
+            if (bucketSeconds[bucket] != second) {
+                bucketSeconds[bucket] = second;
+                bucketCounts[bucket] = 0;
+            }
+            bucketCounts[bucket] += count;
+        }
+    }
+
+    public void recordFailed(int count) {
+        failed.add(count);
+    }
+
+    public long dispatchedTotal() {
+        return dispatched.sum();
+    }
+
+    public long failedTotal() {
+        return failed.sum();
+    }
+
+    public long lastDispatchLagMillis() {
+        return lastDispatchLagMillis;
+    }
+
+    /**
+     * @return the average number of events dispatched per second over the last minute
+     */
+    public double dispatchedPerSecond() {
+        long now = System.currentTimeMillis() / 1000;
+        long total = 0;
+        synchronized (bucketCounts) {
+            for (int i = 0; i < WINDOW_SECONDS; i++) {
+                if (now - bucketSeconds[i] < WINDOW_SECONDS) {
+                    total += bucketCounts[i];
+                }
+            }
+        }
+        return (double) total / WINDOW_SECONDS;
+    }
+
+    @Transactional(readOnly = true)
+    public OutboxStatistics statistics() {
+        Date oldestPending = outboxEventRepository.findOldestPendingOccurredAt();
+        return new OutboxStatistics(
+                outboxEventRepository.countByDispatchedAtIsNull(),
+                oldestPending != null ? Math.max(0, System.currentTimeMillis() - oldestPending.getTime()) : 0,
+                dispatchedTotal(),
+                failedTotal(),
+                dispatchedPerSecond(),
+                lastDispatchLagMillis());
+    }
+}
@@ -0,0 +1,86 @@
+package com.inventiapp.stocktrack.shared.domain.model.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * Domain event recorded in the transactional outbox.
+ * <p>
+ * Written in the same transaction as the aggregate that registered the event, so an event is
+ * recorded if and only if its change is committed. The dispatcher claims pending rows by moving
+ * their next attempt past a lease, delivers them to the outbox message handlers and marks them
+ * dispatched; a delivery that fails is retried later with an increasing delay, and a claim whose
+ * dispatcher died becomes due again when its lease runs out. Dispatched rows are purged after the
+ * retention period.
+ */
+@Entity
+@Table(name = "outbox_events",
+        indexes = @Index(name = "idx_outbox_events_dispatched_at_next_attempt_at",
+                columnList = "dispatched_at, next_attempt_at"))
+@Getter
+@NoArgsConstructor
+public class OutboxEvent extends AuditableModel {
+
+    public static final int MAX_ERROR_LENGTH = 1000;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "JSON")
+    private String payload;
+
+    @Column(nullable = false)
+    private Date occurredAt;
+
+    @Column(nullable = false)
+    private Date nextAttemptAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    private Date dispatchedAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public OutboxEvent(String eventType, String payload, Date occurredAt) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+        this.nextAttemptAt = occurredAt;
+        this.attempts = 0;
+    }
+
+    /**
+     * Claims the event for a dispatcher until the lease ends, after which another one may claim it.
+     * @param leaseUntil end of the lease
+     */
+    public void claim(Date leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /**
+     * @param leaseUntil end of the lease given by claim
+     * @return true if the event is still pending under that lease, so no other dispatcher took it over
+     */
+    public boolean isClaimedUntil(Date leaseUntil) {
+        return dispatchedAt == null && nextAttemptAt != null && nextAttemptAt.getTime() == leaseUntil.getTime();
+    }
+
+    public void markDispatched(Date dispatchedAt) {
+        this.attempts++;
+        this.dispatchedAt = dispatchedAt;
+        this.lastError = null;
+    }
+
+    public void markFailed(String error, Date nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+}
@@ -0,0 +1,13 @@
+package com.inventiapp.stocktrack.shared.domain.model.events;
+
+/**
+ * Marker for the events registered by the aggregates.
+ * @summary
+ * Besides being delivered to the synchronous listeners, every domain event is recorded in the
+ * transactional outbox in the same transaction that publishes it, and later dispatched to the
+ * outbox message handlers. Implementations are serialized to JSON through their getters; the
+ * event source and timestamp are not part of the payload.
+ * @since 1.0
+ */
+public interface DomainEvent {
+}
@@ -0,0 +1,33 @@
+package com.inventiapp.stocktrack.shared.domain.model.valueobjects;
+
+/**
+ * Size and counters of an in-memory cache of this instance.
+ *
+ * @param name          name of the cache
+ * @param enabled       whether the cache keeps entries; a disabled cache loads on every read
+ * @param size          entries held now
+ * @param maximumSize   most entries the cache holds before evicting the least recently used
+ * @param hits          reads served from the cache since startup
+ * @param misses        reads that had to load, since startup
+ * @param evictions     entries dropped to stay within the maximum size
+ * @param expirations   entries dropped because they outlived their time to live
+ * @param invalidations entries dropped because what they hold changed
+ */
+public record CacheStatistics(String name,
+                              boolean enabled,
+                              int size,
+                              int maximumSize,
+                              long hits,
+                              long misses,
+                              long evictions,
+                              long expirations,
+                              long invalidations) {
+
+    /**
+     * @return the fraction of reads served from the cache, 0 before the first read
+     */
+    public double hitRate() {
+        long reads = hits + misses;
+        return reads == 0 ? 0 : (double) hits / reads;
+    }
+}
@@ -0,0 +1,16 @@
+package com.inventiapp.stocktrack.shared.domain.model.valueobjects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Date;
+
+/**
+ * Domain event as delivered by the outbox dispatcher.
+ *
+ * @param id         id of the outbox row; the same on every redelivery, so handlers can use it to discard duplicates
+ * @param eventType  simple class name of the event, e.g. ProductCreatedEvent
+ * @param payload    the event serialized through its getters
+ * @param occurredAt when the event was published
+ */
+public record OutboxMessage(Long id, String eventType, JsonNode payload, Date occurredAt) {
+}
@@ -0,0 +1,19 @@
+package com.inventiapp.stocktrack.shared.domain.model.valueobjects;
+
+/**
+ * State of the transactional outbox and delivery counters of this instance.
+ *
+ * @param pendingEvents          events recorded but not dispatched yet, across every instance
+ * @param oldestPendingAgeMillis how long the oldest pending event has been waiting; 0 when none is
+ * @param dispatchedTotal        events this instance dispatched since it started
+ * @param failedTotal            deliveries this instance had to postpone since it started
+ * @param dispatchedPerSecond    average events dispatched per second by this instance over the last minute
+ * @param lastDispatchLagMillis  longest wait between publication and dispatch in the last batch
+ */
+public record OutboxStatistics(long pendingEvents,
+                               long oldestPendingAgeMillis,
+                               long dispatchedTotal,
+                               long failedTotal,
+                               double dispatchedPerSecond,
+                               long lastDispatchLagMillis) {
+}
@@ -0,0 +1,24 @@
+package com.inventiapp.stocktrack.shared.domain.services;
+
+import com.inventiapp.stocktrack.shared.domain.model.valueobjects.OutboxMessage;
+
+import java.util.Set;
+
+/**
+ * In-process consumer of the domain events recorded in the transactional outbox.
+ * @summary
+ * Handlers are Spring beans. The dispatcher runs each handler on its own virtual thread and gives
+ * it the due messages of the event types it subscribes to, in the order they were recorded.
+ * Delivery is at least once: when a handler throws, the message is delivered again later to every
+ * subscribed handler, so handlers must be idempotent.
+ * @since 1.0
+ */
+public interface OutboxMessageHandler {
+
+    /**
+     * @return the simple class names of the events to receive
+     */
+    Set<String> eventTypes();
+
+    void handle(OutboxMessage message);
+}
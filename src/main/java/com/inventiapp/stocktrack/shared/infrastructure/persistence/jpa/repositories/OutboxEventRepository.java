@@ -0,0 +1,43 @@
+package com.inventiapp.stocktrack.shared.infrastructure.persistence.jpa.repositories;
+
+import com.inventiapp.stocktrack.shared.domain.model.entities.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.hibernate.jpa.SpecHints.HINT_SPEC_LOCK_TIMEOUT;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Finds the oldest pending events that are due, locking them until the transaction ends so
+     * they can be claimed. Rows locked by another dispatcher are skipped, so several instances can
+     * claim from the outbox at the same time without claiming the same event.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("""
+            SELECT e FROM OutboxEvent e
+            WHERE e.dispatchedAt IS NULL AND e.nextAttemptAt <= :now
+            ORDER BY e.id
+            """)
+    List<OutboxEvent> findDueForUpdate(@Param("now") Date now, Pageable pageable);
+
+    long countByDispatchedAtIsNull();
+
+    @Query("SELECT MIN(e.occurredAt) FROM OutboxEvent e WHERE e.dispatchedAt IS NULL")
+    Date findOldestPendingOccurredAt();
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.dispatchedAt < :before")
+    int deleteDispatchedBefore(@Param("before") Date before);
+}
@@ -0,0 +1,49 @@
+package com.inventiapp.stocktrack.shared.interfaces.rest;
+
+import com.inventiapp.stocktrack.shared.application.internal.outbox.OutboxMetrics;
+import com.inventiapp.stocktrack.shared.interfaces.rest.resources.OutboxStatisticsResource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for the transactional outbox.
+ * Exposes the dispatch lag and throughput.
+ */
+@RestController
+@RequestMapping(value = "/api/v1/outbox", produces = MediaType.APPLICATION_JSON_VALUE)
+@Tag(name = "Outbox", description = "Transactional outbox monitoring")
+@SecurityRequirement(name = "bearerAuth")
+public class OutboxController {
+
+    private final OutboxMetrics outboxMetrics;
+
+    public OutboxController(OutboxMetrics outboxMetrics) {
+        this.outboxMetrics = outboxMetrics;
+    }
+
+    @GetMapping("/metrics")
+    @Operation(summary = "Get outbox metrics",
+            description = "Retrieves the number of pending events, the age of the oldest one, and the totals, " +
+                    "throughput and lag of the deliveries made by this instance")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Metrics retrieved")
+    })
+    public ResponseEntity<OutboxStatisticsResource> getMetrics() {
+        var statistics = outboxMetrics.statistics();
+        return ResponseEntity.ok(new OutboxStatisticsResource(
+                statistics.pendingEvents(),
+                statistics.oldestPendingAgeMillis(),
+                statistics.dispatchedTotal(),
+                statistics.failedTotal(),
+                statistics.dispatchedPerSecond(),
+                statistics.lastDispatchLagMillis()));
+    }
+}
@@ -0,0 +1,19 @@
+package com.inventiapp.stocktrack.shared.interfaces.rest.resources;
+
+/**
+ * Outbox lag and throughput.
+ *
+ * @param pendingEvents          events recorded but not dispatched yet
+ * @param oldestPendingAgeMillis how long the oldest pending event has been waiting
+ * @param dispatchedTotal        events dispatched by this instance since it started
+ * @param failedTotal            deliveries postponed by this instance since it started
+ * @param dispatchedPerSecond    events dispatched per second by this instance over the last minute
+ * @param lastDispatchLagMillis  longest wait between publication and dispatch in the last batch
+ */
+public record OutboxStatisticsResource(long pendingEvents,
+                                       long oldestPendingAgeMillis,
+                                       long dispatchedTotal,
+                                       long failedTotal,
+                                       double dispatchedPerSecond,
+                                       long lastDispatchLagMillis) {
+}
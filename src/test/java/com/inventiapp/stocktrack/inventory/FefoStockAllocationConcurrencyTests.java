@@ -0,0 +1,108 @@
+package com.inventiapp.stocktrack.inventory;
+
+import com.inventiapp.stocktrack.inventory.domain.model.aggregates.Batch;
+import com.inventiapp.stocktrack.inventory.domain.model.commands.CreateBatchCommand;
+import com.inventiapp.stocktrack.inventory.infrastructure.persistence.jpa.repositories.BatchRepository;
+import com.inventiapp.stocktrack.inventory.interfaces.acl.InventoryContextFacade;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs 64 checkouts in parallel against the same batches and checks that stock is never oversold.
+ * <p>
+ * Every checkout takes one unit of a scarce product and one unit of a plentiful one. The scarce
+ * product has 40 unexpired units and an expired batch that must never be used, so exactly 40
+ * checkouts succeed; the others fail without taking the plentiful product either.
+ * The batches are created for product ids no product uses and are removed afterwards.
+ */
+@SpringBootTest
+class FefoStockAllocationConcurrencyTests {
+
+    private static final int CHECKOUTS = 64;
+
+    @Autowired
+    private InventoryContextFacade inventoryContextFacade;
+
+    @Autowired
+    private BatchRepository batchRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void parallelCheckoutsNeverOversell() throws Exception {
+        long scarceProductId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) + 1000000 FROM products", Long.class);
+        long plentifulProductId = scarceProductId + 1;
+
+        Batch expiringSoon = createBatch(scarceProductId, 15, 1);
+        Batch expiringLater = createBatch(scarceProductId, 25, 30);
+        Batch expired = createBatch(scarceProductId, 100, -1);
+        Batch plentiful = createBatch(plentifulProductId, CHECKOUTS, 30);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CHECKOUTS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> checkouts = new ArrayList<>();
+            for (int i = 0; i < CHECKOUTS; i++) {
+                checkouts.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        inventoryContextFacade.decreaseStock(Map.of(scarceProductId, 1, plentifulProductId, 1));
+                        return true;
+                    } catch (IllegalStateException insufficientStock) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> checkout : checkouts) {
+                if (checkout.get()) {
+                    succeeded++;
+                }
+            }
+
+            assertEquals(40, succeeded);
+            assertEquals(0, quantityOf(expiringSoon));
+            assertEquals(0, quantityOf(expiringLater));
+            assertEquals(100, quantityOf(expired));
+            assertEquals(CHECKOUTS - 40, quantityOf(plentiful));
+        } finally {
+            executor.shutdownNow();
+            jdbcTemplate.update("DELETE FROM batches WHERE product_id IN (?, ?)", scarceProductId, plentifulProductId);
+            jdbcTemplate.update("DELETE FROM dashboard_product_summaries WHERE product_id IN (?, ?)",
+                    scarceProductId, plentifulProductId);
+        }
+    }
+
+    private Batch createBatch(long productId, int quantity, int expiresInDays) {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zone);
+        return batchRepository.save(new Batch(new CreateBatchCommand(
+                productId,
+                quantity,
+                Date.from(today.plusDays(expiresInDays).atStartOfDay(zone).toInstant()),
+                Date.from(today.minusDays(7).atStartOfDay(zone).toInstant()))));
+    }
+
+    private int quantityOf(Batch batch) {
+        return batchRepository.findById(batch.getId()).orElseThrow().getQuantity();
+    }
+}
@@ -0,0 +1,199 @@
+package com.inventiapp.stocktrack.inventory;
+
+import com.inventiapp.stocktrack.StocktrackBackendApplication;
+import com.inventiapp.stocktrack.inventory.application.internal.ProductSnapshotCache;
+import com.inventiapp.stocktrack.reports.domain.model.commands.RebuildDashboardReadModelCommand;
+import com.inventiapp.stocktrack.reports.domain.services.DashboardReadModelCommandService;
+import com.inventiapp.stocktrack.sales.domain.model.commands.BackfillSalesDailyRollupsCommand;
+import com.inventiapp.stocktrack.sales.domain.services.SaleCommandService;
+import com.inventiapp.stocktrack.sales.domain.services.SalesDailyRollupCommandService;
+import com.inventiapp.stocktrack.sales.interfaces.rest.resources.CreateSaleResource;
+import com.inventiapp.stocktrack.sales.interfaces.rest.resources.ProductSaleItemResource;
+import com.inventiapp.stocktrack.sales.interfaces.rest.transform.CreateSaleCommandFromResourceAssembler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares checkout throughput with the product cache disabled and enabled.
+ * <p>
+ * Each checkout builds its sale from a basket of products as the sales API does, which looks up the
+ * product prices, and creates it through the SaleCommandService, which checks the products and
+ * takes the stock through the inventory facade. Most baskets pick their products from a small set
+ * of best sellers. The same checkouts run on 16 threads in an application started with
+ * inventory.cache.enabled=false and in one started with it true, and both throughputs are logged.
+ * <p>
+ * The benchmark writes to the configured database, so it only runs when requested:
+ * {@code mvn test -Dtest=ProductSnapshotCacheBenchmarkTests -Dbenchmark=true}. Seeded products,
+ * their batches and the sales made are removed afterwards, and the rollups and dashboard read model
+ * they touched are rebuilt.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProductSnapshotCacheBenchmarkTests {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProductSnapshotCacheBenchmarkTests.class);
+    private static final int PRODUCTS = 5_000;
+    private static final int BEST_SELLERS = 200;
+    private static final int BASKET_SIZE = 5;
+    private static final int CHECKOUTS = 4_000;
+    private static final int WARM_UP_CHECKOUTS = 400;
+    private static final int THREADS = 16;
+    private static final long STAFF_USER_ID = 1L;
+
+    @Test
+    void compareCheckoutThroughputWithCacheOffAndOn() throws Exception {
+        double throughputOff = runWith(false);
+        double throughputOn = runWith(true);
+        LOGGER.info("{} checkouts of {} products on {} threads: cache off {} checkouts/s, cache on {} checkouts/s",
+                CHECKOUTS, BASKET_SIZE, THREADS, Math.round(throughputOff), Math.round(throughputOn));
+    }
+
+    /**
+     * Starts the application with the cache enabled or not, seeds the catalogue, runs the checkouts
+     * and removes everything they wrote.
+     * @return checkouts per second
+     */
+    private double runWith(boolean cacheEnabled) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StocktrackBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("inventory.cache.enabled=" + cacheEnabled)
+                .run()) {
+            var jdbcTemplate = context.getBean(JdbcTemplate.class);
+            var saleCommandService = context.getBean(SaleCommandService.class);
+            long firstSaleId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM sales", Long.class);
+            long firstOutboxEventId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(id), 0) + 1 FROM outbox_events", Long.class);
+            long firstProductId = seed(jdbcTemplate);
+            try {
+                List<List<Long>> baskets = baskets(firstProductId, WARM_UP_CHECKOUTS + CHECKOUTS);
+                checkout(saleCommandService, baskets.subList(0, WARM_UP_CHECKOUTS));
+                double throughput = throughput(saleCommandService, baskets.subList(WARM_UP_CHECKOUTS, baskets.size()));
+
+                long sales = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sales WHERE id >= ?", Long.class, firstSaleId);
+                assertEquals(WARM_UP_CHECKOUTS + CHECKOUTS, sales);
+                var statistics = context.getBean(ProductSnapshotCache.class).statistics();
+                LOGGER.info("Cache {}: {} checkouts/s (hit rate {}, {} evictions)", cacheEnabled ? "on" : "off",
+                        Math.round(throughput), String.format("%.3f", statistics.hitRate()), statistics.evictions());
+                return throughput;
+            } finally {
+                cleanUp(context, firstSaleId, firstOutboxEventId, firstProductId);
+            }
+        }
+    }
+
+    /**
+     * @return checkouts per second of the given baskets, run on the thread pool
+     */
+    private double throughput(SaleCommandService saleCommandService, List<List<Long>> baskets) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            int share = baskets.size() / THREADS;
+            long start = System.nanoTime();
+            List<Future<?>> runs = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                var slice = baskets.subList(thread * share, (thread + 1) * share);
+                runs.add(executor.submit(() -> checkout(saleCommandService, slice)));
+            }
+            for (Future<?> run : runs) {
+                run.get();
+            }
+            return share * THREADS / ((System.nanoTime() - start) / 1e9);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Creates one sale per basket, converting it as the sales API does.
+     */
+    private void checkout(SaleCommandService saleCommandService, List<List<Long>> baskets) {
+        for (List<Long> basket : baskets) {
+            var resource = new CreateSaleResource(STAFF_USER_ID,
+                    basket.stream().map(productId -> new ProductSaleItemResource(productId, 1)).toList(),
+                    null, null);
+            saleCommandService.handle(CreateSaleCommandFromResourceAssembler.toCommandFromResource(resource));
+        }
+    }
+
+    /**
+     * Four lines in five are best sellers; the rest are picked from the whole catalog. A basket
+     * never repeats a product.
+     */
+    private List<List<Long>> baskets(long firstProductId, int count) {
+        Random random = new Random(42);
+        List<List<Long>> baskets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<Long> basket = new ArrayList<>(BASKET_SIZE);
+            while (basket.size() < BASKET_SIZE) {
+                int offset = random.nextInt(5) < 4 ? random.nextInt(BEST_SELLERS) : random.nextInt(PRODUCTS);
+                if (!basket.contains(firstProductId + offset)) {
+                    basket.add(firstProductId + offset);
+                }
+            }
+            baskets.add(basket);
+        }
+        return baskets;
+    }
+
+    /**
+     * Inserts the products, each with one batch holding more units than the checkouts can take,
+     * with JDBC batches.
+     * @return the id of the first seeded product
+     */
+    private long seed(JdbcTemplate jdbcTemplate) {
+        long firstProductId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM products", Long.class);
+        int units = WARM_UP_CHECKOUTS + CHECKOUTS;
+        ZoneId zone = ZoneId.systemDefault();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        Timestamp expiration = Timestamp.from(LocalDate.now(zone).plusDays(30).atStartOfDay(zone).toInstant());
+        List<Object[]> products = new ArrayList<>(PRODUCTS);
+        List<Object[]> batches = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            products.add(new Object[]{firstProductId + i, "Benchmark product " + i, "1", "1", 0, 1.0 + i % 100,
+                    true, units, 0, now, now});
+            batches.add(new Object[]{firstProductId + i, units, expiration, now, now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO products (id, name, category_id, provider_id, min_stock, unit_price, is_active,
+                                      on_hand, reserved, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, products);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO batches (product_id, quantity, expiration_date, reception_date, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, batches);
+        return firstProductId;
+    }
+
+    private void cleanUp(ConfigurableApplicationContext context, long firstSaleId, long firstOutboxEventId,
+                         long firstProductId) {
+        var jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM sale_line_projections WHERE sale_id >= ?", firstSaleId);
+        jdbcTemplate.update("DELETE FROM sale_details WHERE sale_id >= ?", firstSaleId);
+        jdbcTemplate.update("DELETE FROM sales WHERE id >= ?", firstSaleId);
+        jdbcTemplate.update("DELETE FROM outbox_events WHERE id >= ?", firstOutboxEventId);
+        jdbcTemplate.update("DELETE FROM batches WHERE product_id >= ?", firstProductId);
+        jdbcTemplate.update("DELETE FROM products WHERE id >= ?", firstProductId);
+        LocalDate today = LocalDate.now();
+        context.getBean(SalesDailyRollupCommandService.class)
+                .handle(new BackfillSalesDailyRollupsCommand(today, today.plusDays(1)));
+        context.getBean(DashboardReadModelCommandService.class).handle(new RebuildDashboardReadModelCommand());
+    }
+}
@@ -0,0 +1,237 @@
+package com.inventiapp.stocktrack.reports;
+
+import com.inventiapp.stocktrack.reports.application.internal.TopProductsEngine;
+import com.inventiapp.stocktrack.reports.domain.model.valueobjects.TopProductsRanking;
+import com.inventiapp.stocktrack.reports.infrastructure.persistence.jpa.repositories.DashboardMonthlySalesRepository;
+import com.inventiapp.stocktrack.sales.domain.model.commands.BackfillSalesDailyRollupsCommand;
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetMonthlySalesTotalsQuery;
+import com.inventiapp.stocktrack.sales.domain.services.SalesDailyRollupCommandService;
+import com.inventiapp.stocktrack.sales.domain.services.SalesDailyRollupQueryService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the dashboard sales aggregations computed in memory, as the dashboard used to do,
+ * with the same aggregations pushed down to SQL, at 10k, 100k and 1M sales. Each SQL query is
+ * timed on its own, and the monthly one buckets the sales in the database with no work left to Java.
+ * <p>
+ * The benchmark writes to the configured database, so it only runs when requested:
+ * {@code mvn test -Dtest=DashboardAggregationBenchmarkTests -Dbenchmark=true}. The sizes can be
+ * changed with {@code -Dbenchmark.sizes=10000,100000}. Seeded sales are removed afterwards.
+ * The in-memory path reads plain rows instead of hydrating Sale aggregates, so its figures are a
+ * lower bound of what the old implementation cost.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DashboardAggregationBenchmarkTests {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DashboardAggregationBenchmarkTests.class);
+    private static final int LINES_PER_SALE = 2;
+    private static final int PRODUCTS = 200;
+    private static final int STAFF_USERS = 5;
+    private static final int BATCH_SIZE = 5_000;
+    private static final int RUNS = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SalesDailyRollupCommandService salesDailyRollupCommandService;
+
+    @Autowired
+    private DashboardMonthlySalesRepository monthlySalesRepository;
+
+    @Autowired
+    private SalesDailyRollupQueryService salesDailyRollupQueryService;
+
+    @Test
+    void compareInMemoryAndSqlAggregations() {
+        int[] sizes = Arrays.stream(System.getProperty("benchmark.sizes", "10000,100000,1000000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        for (int size : sizes) {
+            runWith(size);
+        }
+    }
+
+    private void runWith(int sales) {
+        LocalDate firstDay = LocalDate.now().withDayOfYear(1);
+        LocalDate nextYear = firstDay.plusYears(1);
+        long firstSaleId = seed(sales, firstDay);
+        try {
+            long backfill = time(() -> salesDailyRollupCommandService.handle(
+                    new BackfillSalesDailyRollupsCommand(firstDay, nextYear)));
+
+            long inMemory = best(() -> aggregateInMemory(firstDay.getYear()));
+            String timeZone = monthlySalesRepository.serverTimeZone();
+            long sqlMonths = best(() -> incomeByMonthInSql(firstDay.getYear(), timeZone));
+            long sqlProducts = best(this::revenueByProductInSql);
+            long rollups = best(() -> aggregateFromRollups(firstDay.getYear()));
+
+            assertEquals(aggregateInMemory(firstDay.getYear()),
+                    Aggregates.of(incomeByMonthInSql(firstDay.getYear(), timeZone), revenueByProductInSql()));
+
+            LOGGER.info("{} sales: in-memory {} ms, SQL group by month {} ms, SQL group by product {} ms, "
+                    + "rollups {} ms (backfill {} ms)", sales, inMemory, sqlMonths, sqlProducts, rollups, backfill);
+        } finally {
+            jdbcTemplate.update("DELETE FROM sale_details WHERE sale_id >= ?", firstSaleId);
+            jdbcTemplate.update("DELETE FROM sales WHERE id >= ?", firstSaleId);
+            salesDailyRollupCommandService.handle(new BackfillSalesDailyRollupsCommand(firstDay, nextYear));
+        }
+    }
+
+    /**
+     * Inserts sales spread over the current year, up to today, with JDBC batches.
+     * @return the id of the first seeded sale
+     */
+    private long seed(int sales, LocalDate firstDay) {
+        long firstSaleId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM sales", Long.class);
+        int days = Math.max(1, LocalDate.now().getDayOfYear());
+        Random random = new Random(42);
+        ZoneId zone = ZoneId.systemDefault();
+
+        List<Object[]> saleRows = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> detailRows = new ArrayList<>(BATCH_SIZE * LINES_PER_SALE);
+        for (int i = 0; i < sales; i++) {
+            long saleId = firstSaleId + i;
+            Timestamp createdAt = Timestamp.from(firstDay.plusDays(random.nextInt(days))
+                    .atStartOfDay(zone).plusSeconds(random.nextInt(86_400)).toInstant());
+            double totalAmount = 0;
+            for (int line = 0; line < LINES_PER_SALE; line++) {
+                int quantity = 1 + random.nextInt(5);
+                double unitPrice = 1 + random.nextInt(100);
+                totalAmount += quantity * unitPrice;
+                detailRows.add(new Object[]{1 + random.nextInt(PRODUCTS), saleId, quantity, unitPrice,
+                        quantity * unitPrice, createdAt, createdAt});
+            }
+            saleRows.add(new Object[]{saleId, 1 + random.nextInt(STAFF_USERS), totalAmount, createdAt, createdAt});
+
+            if (saleRows.size() == BATCH_SIZE || i == sales - 1) {
+                jdbcTemplate.batchUpdate("""
+                        INSERT INTO sales (id, staff_user_id, total_amount, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?)
+                        """, saleRows);
+                jdbcTemplate.batchUpdate("""
+                        INSERT INTO sale_details (product_id, sale_id, quantity, unit_price, total_price, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?)
+                        """, detailRows);
+                saleRows.clear();
+                detailRows.clear();
+            }
+        }
+        return firstSaleId;
+    }
+
+    /**
+     * The old path: read every sale and sale line, then group them in Java.
+     */
+    private Aggregates aggregateInMemory(int year) {
+        ZoneId zone = ZoneId.systemDefault();
+        List<Object[]> sales = jdbcTemplate.query("SELECT created_at, total_amount FROM sales",
+                (rs, rowNum) -> new Object[]{rs.getTimestamp(1), rs.getDouble(2)});
+        List<Object[]> lines = jdbcTemplate.query("SELECT product_id, total_price FROM sale_details",
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getDouble(2)});
+
+        Map<Integer, Double> incomeByMonth = sales.stream()
+                .filter(s -> ((Timestamp) s[0]).toInstant().atZone(zone).getYear() == year)
+                .collect(Collectors.groupingBy(
+                        s -> ((Timestamp) s[0]).toInstant().atZone(zone).getMonthValue(),
+                        Collectors.summingDouble(s -> (Double) s[1])));
+        Map<Long, Double> revenueByProduct = lines.stream()
+                .collect(Collectors.groupingBy(l -> (Long) l[0], Collectors.summingDouble(l -> (Double) l[1])));
+
+        return Aggregates.of(incomeByMonth, revenueByProduct);
+    }
+
+    /**
+     * Monthly income pushed down to SQL: the sales are converted to the server time zone and
+     * grouped by month in the database, like the read model rebuild counts them.
+     */
+    private Map<Integer, Double> incomeByMonthInSql(int year, String timeZone) {
+        return jdbcTemplate.query("""
+                        SELECT MONTH(s.local_created_at), SUM(s.total_amount)
+                        FROM (SELECT CONVERT_TZ(created_at, '+00:00', ?) AS local_created_at, total_amount
+                              FROM sales) s
+                        WHERE YEAR(s.local_created_at) = ?
+                        GROUP BY MONTH(s.local_created_at)
+                        """,
+                        (rs, rowNum) -> Map.entry(rs.getInt(1), rs.getDouble(2)), timeZone, year).stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * Product revenues pushed down to SQL over the sale lines.
+     */
+    private Map<Long, Double> revenueByProductInSql() {
+        return jdbcTemplate.query(
+                        "SELECT product_id, SUM(total_price) FROM sale_details GROUP BY product_id",
+                        (rs, rowNum) -> Map.entry(rs.getLong(1), rs.getDouble(2))).stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    /**
+     * The path the dashboard uses: grouped queries over the daily rollups. A fresh engine is used
+     * on every run, so the year window is loaded from the rollups instead of served from its cache.
+     */
+    private int aggregateFromRollups(int year) {
+        var topProductsEngine = new TopProductsEngine(salesDailyRollupQueryService, 1, Duration.ofMinutes(10));
+        LocalDate from = LocalDate.of(year, 1, 1);
+        LocalDate to = from.plusYears(1);
+        topProductsEngine.revenue(from, to);
+        topProductsEngine.top(from, to, 10, TopProductsRanking.REVENUE);
+        return salesDailyRollupQueryService.handle(new GetMonthlySalesTotalsQuery(year)).size();
+    }
+
+    private long best(Supplier<?> task) {
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            best = Math.min(best, time(task));
+        }
+        return best;
+    }
+
+    private long time(Supplier<?> task) {
+        long start = System.nanoTime();
+        task.get();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /**
+     * Monthly income and top product revenues, rounded to cents so both paths compare equal.
+     */
+    private record Aggregates(List<Long> incomeByMonth, List<Long> topProductRevenues) {
+        static Aggregates of(Map<Integer, Double> incomeByMonth, Map<Long, Double> revenueByProduct) {
+            List<Long> months = new ArrayList<>();
+            for (int month = 1; month <= 12; month++) {
+                months.add(Math.round(incomeByMonth.getOrDefault(month, 0.0) * 100));
+            }
+            List<Long> top = revenueByProduct.values().stream()
+                    .map(revenue -> Math.round(revenue * 100))
+                    .sorted(Comparator.reverseOrder())
+                    .limit(10)
+                    .toList();
+            return new Aggregates(months, top);
+        }
+    }
+}
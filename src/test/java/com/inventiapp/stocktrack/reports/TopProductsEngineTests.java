@@ -0,0 +1,138 @@
+package com.inventiapp.stocktrack.reports;
+
+import com.inventiapp.stocktrack.reports.application.internal.TopProductsEngine;
+import com.inventiapp.stocktrack.reports.domain.model.valueobjects.TopProductsRanking;
+import com.inventiapp.stocktrack.sales.domain.model.events.SaleCreatedEvent;
+import com.inventiapp.stocktrack.sales.domain.model.queries.GetProductSalesTotalsQuery;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.ProductSalesTotal;
+import com.inventiapp.stocktrack.sales.domain.model.valueobjects.ProductSalesTotals;
+import com.inventiapp.stocktrack.sales.domain.services.SalesDailyRollupQueryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks how the top products engine installs a loaded window, replays the sales committed during
+ * the load and adds concurrent sales, against a stubbed rollup query service.
+ * Every sale sells one unit of product 1 at 10.0 today, and the window covers today.
+ */
+class TopProductsEngineTests {
+
+    private static final Long PRODUCT_ID = 1L;
+    private static final LocalDate TODAY = LocalDate.now();
+
+    private SalesDailyRollupQueryService rollups;
+    private TopProductsEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        rollups = mock(SalesDailyRollupQueryService.class);
+        engine = new TopProductsEngine(rollups, 32, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void saleCommittedDuringTheLoadIsReplayedOnce() {
+        when(rollups.handle(any(GetProductSalesTotalsQuery.class))).thenAnswer(invocation -> {
+            // Sale 11 commits after the snapshot of the load was taken, before the window is installed
+            engine.on(sale(11));
+            return totals(10, 10);
+        });
+
+        assertEquals(11L, unitsSold());
+        assertEquals(110.0, engine.revenue(TODAY, TODAY.plusDays(1)));
+    }
+
+    @Test
+    void lateEventOfALoadedSaleIsNotCountedTwice() {
+        when(rollups.handle(any(GetProductSalesTotalsQuery.class))).thenReturn(totals(10, 10));
+        assertEquals(10L, unitsSold());
+
+        engine.on(sale(10));
+        assertEquals(10L, unitsSold());
+
+        engine.on(sale(11));
+        assertEquals(11L, unitsSold());
+    }
+
+    @Test
+    void saleCommittedOutOfIdOrderIsCountedByTheReconciliation() {
+        when(rollups.handle(any(GetProductSalesTotalsQuery.class))).thenReturn(totals(10, 9));
+        assertEquals(9L, unitsSold());
+
+        // Sale 9 was not committed when the load read up to sale 10, so its event is left out
+        engine.on(sale(9));
+        assertEquals(9L, unitsSold());
+
+        when(rollups.handle(any(GetProductSalesTotalsQuery.class))).thenReturn(totals(10, 10));
+        engine.reconcile();
+        assertEquals(10L, unitsSold());
+    }
+
+    @Test
+    void concurrentSalesAreAllCounted() throws Exception {
+        int threads = 16;
+        int salesPerThread = 1_000;
+        when(rollups.handle(any(GetProductSalesTotalsQuery.class))).thenReturn(totals(10, 10));
+        assertEquals(10L, unitsSold());
+
+        AtomicLong nextSaleId = new AtomicLong(11);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> runs = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                runs.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < salesPerThread; i++) {
+                        engine.on(sale(nextSaleId.getAndIncrement()));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(10L + threads * salesPerThread, unitsSold());
+    }
+
+    private long unitsSold() {
+        List<ProductSalesTotal> top = engine.top(TODAY, TODAY.plusDays(1), 10, TopProductsRanking.UNITS);
+        return top.isEmpty() ? 0 : top.get(0).unitsSold();
+    }
+
+    /**
+     * @param latestSaleId latest sale id visible to the load
+     * @param salesIncluded sales of the window included in the loaded totals
+     */
+    private static ProductSalesTotals totals(long latestSaleId, long salesIncluded) {
+        return new ProductSalesTotals(latestSaleId,
+                List.of(new ProductSalesTotal(PRODUCT_ID, salesIncluded, salesIncluded * 10.0)));
+    }
+
+    private static SaleCreatedEvent sale(long saleId) {
+        Date createdAt = Date.from(TODAY.atStartOfDay(ZoneId.systemDefault()).plusHours(12).toInstant());
+        return new SaleCreatedEvent(TopProductsEngineTests.class, saleId, createdAt, 1L, 10.0,
+                List.of(new SaleCreatedEvent.SaleLine(PRODUCT_ID, 1, 10.0)));
+    }
+}
@@ -0,0 +1,165 @@
+package com.inventiapp.stocktrack.shared;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventiapp.stocktrack.reports.application.internal.eventhandlers.DashboardProjectionEventHandler;
+import com.inventiapp.stocktrack.reports.domain.services.DashboardReadModelCommandService;
+import com.inventiapp.stocktrack.reports.infrastructure.persistence.jpa.repositories.DashboardAppliedOutboxMessageRepository;
+import com.inventiapp.stocktrack.reports.infrastructure.persistence.jpa.repositories.DashboardMonthlySalesRepository;
+import com.inventiapp.stocktrack.reports.infrastructure.persistence.jpa.repositories.DashboardProductSummaryRepository;
+import com.inventiapp.stocktrack.shared.application.internal.outbox.OutboxDispatcher;
+import com.inventiapp.stocktrack.shared.application.internal.outbox.OutboxMetrics;
+import com.inventiapp.stocktrack.shared.domain.model.entities.OutboxEvent;
+import com.inventiapp.stocktrack.shared.domain.model.valueobjects.OutboxMessage;
+import com.inventiapp.stocktrack.shared.domain.services.OutboxMessageHandler;
+import com.inventiapp.stocktrack.shared.infrastructure.persistence.jpa.repositories.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks how the outbox dispatcher retries a failed delivery and that the dashboard projection
+ * counts a redelivered sale once, against a stubbed outbox holding one sale event.
+ * The dispatcher polls every 100 ms, so a failed delivery is retried after 100 ms, then 200 ms.
+ */
+class OutboxDispatcherTests {
+
+    private static final Long EVENT_ID = 7L;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private static final Date SALE_DATE = Date.from(
+            LocalDate.of(2026, 3, 15).atStartOfDay(ZoneId.systemDefault()).plusHours(12).toInstant());
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<OutboxMessageHandler> handlers = new ArrayList<>();
+    private OutboxEvent event;
+    private OutboxMetrics outboxMetrics;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        event = new OutboxEvent("SaleCreatedEvent",
+                objectMapper.valueToTree(Map.of("saleId", 1L, "createdAt", SALE_DATE.getTime())).toString(),
+                new Date());
+        ReflectionTestUtils.setField(event, "id", EVENT_ID);
+
+        OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+        when(outboxEventRepository.findDueForUpdate(any(), any())).thenAnswer(invocation -> {
+            Date now = invocation.getArgument(0);
+            return event.getDispatchedAt() == null && !event.getNextAttemptAt().after(now)
+                    ? List.of(event)
+                    : List.of();
+        });
+        when(outboxEventRepository.findAllById(any())).thenReturn(List.of(event));
+        outboxMetrics = new OutboxMetrics(outboxEventRepository);
+
+        @SuppressWarnings("unchecked")
+        ObjectProvider<OutboxMessageHandler> handlerProvider = mock(ObjectProvider.class);
+        when(handlerProvider.orderedStream()).thenAnswer(invocation -> handlers.stream());
+        dispatcher = new OutboxDispatcher(outboxEventRepository, handlerProvider, outboxMetrics, objectMapper,
+                mock(PlatformTransactionManager.class), true, 100, POLL_INTERVAL, Duration.ofSeconds(1),
+                Duration.ofMinutes(5), Duration.ofDays(7));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.stop();
+    }
+
+    @Test
+    void failedDeliveryIsRetriedWithADoublingDelay() throws InterruptedException {
+        List<Long> deliveredAt = Collections.synchronizedList(new ArrayList<>());
+        handlers.add(handler(message -> {
+            deliveredAt.add(System.nanoTime());
+            if (deliveredAt.size() <= 2) {
+                throw new IllegalStateException("Delivery " + deliveredAt.size() + " failed");
+            }
+        }));
+
+        dispatch();
+
+        assertEquals(3, deliveredAt.size());
+        assertTrue(deliveredAt.get(1) - deliveredAt.get(0) >= POLL_INTERVAL.toNanos());
+        assertTrue(deliveredAt.get(2) - deliveredAt.get(1) >= POLL_INTERVAL.multipliedBy(2).toNanos());
+        assertEquals(2, outboxMetrics.failedTotal());
+        assertEquals(3, event.getAttempts());
+        assertNotNull(event.getDispatchedAt());
+        assertNull(event.getLastError());
+    }
+
+    @Test
+    void saleRedeliveredAfterAnotherHandlerFailedIsCountedOnce() throws InterruptedException {
+        DashboardMonthlySalesRepository monthlySalesRepository = mock(DashboardMonthlySalesRepository.class);
+        DashboardAppliedOutboxMessageRepository appliedMessageRepository = mock(DashboardAppliedOutboxMessageRepository.class);
+        Set<Long> applied = Collections.synchronizedSet(new HashSet<>());
+        when(appliedMessageRepository.markApplied(anyLong()))
+                .thenAnswer(invocation -> applied.add(invocation.getArgument(0)) ? 1 : 0);
+        handlers.add(new DashboardProjectionEventHandler(mock(DashboardProductSummaryRepository.class),
+                monthlySalesRepository, appliedMessageRepository, mock(DashboardReadModelCommandService.class),
+                objectMapper, Duration.ofDays(7)));
+        AtomicInteger deliveries = new AtomicInteger();
+        handlers.add(handler(message -> {
+            if (deliveries.incrementAndGet() == 1) {
+                throw new IllegalStateException("First delivery failed");
+            }
+        }));
+
+        dispatch();
+
+        assertEquals(2, deliveries.get());
+        verify(appliedMessageRepository, times(2)).markApplied(EVENT_ID);
+        verify(monthlySalesRepository, times(1)).addSales(2026, 3, 1);
+    }
+
+    /**
+     * Starts the dispatcher and waits until the event is dispatched.
+     */
+    private void dispatch() throws InterruptedException {
+        dispatcher.on(mock(ApplicationReadyEvent.class));
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (outboxMetrics.dispatchedTotal() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, outboxMetrics.dispatchedTotal());
+    }
+
+    private static OutboxMessageHandler handler(Consumer<OutboxMessage> delivery) {
+        return new OutboxMessageHandler() {
+            @Override
+            public Set<String> eventTypes() {
+                return Set.of("SaleCreatedEvent");
+            }
+
+            @Override
+            public void handle(OutboxMessage message) {
+                delivery.accept(message);
+            }
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.inventiapp.stocktrack.shared;
+
+import com.inventiapp.stocktrack.inventory.domain.model.events.LowStockDetectedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that an event published after a transaction committed, as the low stock crossings are
+ * published from after-commit listeners, is still recorded in the outbox.
+ * The crossing is published for a product id no product uses and its outbox row is removed afterwards.
+ */
+@SpringBootTest
+class OutboxEventWriterTests {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void crossingPublishedAfterCommitReachesTheOutbox() {
+        long productId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) + 1000000 FROM products", Long.class);
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int completionStatus) {
+                            eventPublisher.publishEvent(new LowStockDetectedEvent(this, productId, "Outbox test", 1, 5));
+                        }
+                    }));
+
+            Integer recorded = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM outbox_events
+                    WHERE event_type = 'LowStockDetectedEvent' AND JSON_EXTRACT(payload, '$.productId') = ?
+                    """, Integer.class, productId);
+            assertEquals(1, recorded);
+        } finally {
+            jdbcTemplate.update("""
+                    DELETE FROM outbox_events
+                    WHERE event_type = 'LowStockDetectedEvent' AND JSON_EXTRACT(payload, '$.productId') = ?
+                    """, productId);
+        }
+    }
+}